@@ -0,0 +1,266 @@
+package co.edu.unicartagena.Rendimiento;
+
+import co.edu.unicartagena.Clases.AuditReport;
+import co.edu.unicartagena.Clases.BankInfo;
+import co.edu.unicartagena.Clases.BankSnapshot;
+import co.edu.unicartagena.Clases.LoadReport;
+import co.edu.unicartagena.Clases.NumericMode;
+import co.edu.unicartagena.Clases.Record;
+import co.edu.unicartagena.Clases.SortKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas de rendimiento de {@link BankInfo}: consultas, actualizaciones, bajas, consultas por rango y por día, cargas y guardados.
+ * <p>
+ * Cada combinación de tamaño y representación numérica parte de un archivo generado con
+ * {@link LedgerGenerator}. Las operaciones sobre un registro eligen cédulas existentes al azar de un conjunto
+ * precalculado, para no medir el formato de las cédulas. Los reportes que imprimen las cargas se descartan.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BankInfoBenchmark {
+    /**
+     * Cantidad de cédulas precalculadas para las operaciones sobre un registro.
+     */
+    private static final int KEYS = 1 << 12;
+
+    /**
+     * Menor capital de la consulta por rango. El índice ordenado se construye en la primera iteración de
+     * calentamiento.
+     */
+    private static final BigDecimal FROM_CAPITAL = new BigDecimal("1000");
+
+    /**
+     * Mayor capital de la consulta por rango.
+     */
+    private static final BigDecimal TO_CAPITAL = new BigDecimal("1100");
+
+    /**
+     * Primer día del conteo por rango.
+     */
+    private static final BigDecimal FROM_DAY = BigDecimal.valueOf(90);
+
+    /**
+     * Último día del conteo por rango.
+     */
+    private static final BigDecimal TO_DAY = BigDecimal.valueOf(180);
+
+    /**
+     * Cambio de la tasa de la proyección del interés. Los acumulados por día se construyen en la primera
+     * iteración de calentamiento.
+     */
+    private static final BigDecimal RATE_SHIFT = new BigDecimal("0.005");
+
+    /**
+     * Cantidad de registros.
+     */
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    /**
+     * Representación numérica de los registros.
+     */
+    @Param({"BIG_DECIMAL", "FIXED_POINT"})
+    public NumericMode mode;
+
+    /**
+     * Directorio temporal con los archivos de la prueba.
+     */
+    private Path directory;
+
+    /**
+     * Archivo de texto generado.
+     */
+    private Path ledger;
+
+    /**
+     * Instantánea binaria del archivo generado.
+     */
+    private Path binary;
+
+    /**
+     * Archivo donde se guardan los registros.
+     */
+    private Path output;
+
+    /**
+     * Registros cargados desde {@link #ledger}.
+     */
+    private BankInfo bank;
+
+    /**
+     * Cédulas existentes, elegidas al azar.
+     */
+    private String[] keys;
+
+    /**
+     * Próxima posición de {@link #keys}.
+     */
+    private int next;
+
+    /**
+     * Salida estándar original, restaurada al terminar.
+     */
+    private PrintStream stdout;
+
+    /**
+     * Genera los archivos y carga los registros.
+     *
+     * @throws java.lang.Exception Cuando ocurre un error al generar o cargar los archivos.
+     */
+    @Setup
+    public void setup() throws Exception {
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        directory = Files.createTempDirectory("bankinfo-bench");
+        ledger = directory.resolve("data.txt");
+        binary = directory.resolve("data.bksn");
+        output = directory.resolve("salida.txt");
+        LedgerGenerator.write(ledger, size, 42);
+
+        bank = new BankInfo(mode);
+        bank.load(ledger);
+        bank.saveBinary(binary);
+
+        var random = new SplittableRandom(7);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = Record.formatCC(LedgerGenerator.cc(random.nextInt(size)));
+        }
+    }
+
+    /**
+     * Elimina los archivos y restaura la salida estándar.
+     *
+     * @throws java.lang.Exception Cuando ocurre un error al eliminar los archivos.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        for (var path : new Path[]{ledger, binary, output}) {
+            Files.deleteIfExists(path);
+        }
+        Files.deleteIfExists(directory);
+        System.setOut(stdout);
+    }
+
+    /**
+     * Obtiene la próxima cédula existente.
+     *
+     * @return Cédula.
+     */
+    private String nextKey() {
+        next = (next + 1) & (KEYS - 1);
+        return keys[next];
+    }
+
+    @Benchmark
+    public Record getRecord() {
+        return bank.getRecord(nextKey());
+    }
+
+    @Benchmark
+    public void updateRecord() {
+        var record = bank.getRecord(nextKey());
+        bank.updateRecord(record.getCc(), record.getCapital().add(BigDecimal.ONE), record.getInterestTax(), record.getDay());
+    }
+
+    @Benchmark
+    public void removeRecord() {
+        var record = bank.getRecord(nextKey());
+        bank.removeRecord(record.getCc());
+        bank.add(record.getCc(), record.getCapital(), record.getInterestTax(), record.getDay());
+    }
+
+    @Benchmark
+    public LoadReport load() throws Exception {
+        return new BankInfo(mode).load(ledger);
+    }
+
+    @Benchmark
+    public LoadReport loadParallel() throws Exception {
+        return new BankInfo(mode).loadParallel(ledger);
+    }
+
+    @Benchmark
+    public LoadReport loadMapped() throws Exception {
+        return new BankInfo(mode).loadMapped(ledger);
+    }
+
+    @Benchmark
+    public LoadReport loadBinary() throws Exception {
+        return new BankInfo(mode).loadBinary(binary);
+    }
+
+    @Benchmark
+    public void save() throws Exception {
+        bank.save(output);
+    }
+
+    @Benchmark
+    public void saveBinary() throws Exception {
+        bank.saveBinary(output);
+    }
+
+    @Benchmark
+    public List<Record> findRange() {
+        return bank.findRange(SortKey.CAPITAL, FROM_CAPITAL, TO_CAPITAL);
+    }
+
+    @Benchmark
+    public int countRange() {
+        return bank.countRange(SortKey.DAY, FROM_DAY, TO_DAY);
+    }
+
+    @Benchmark
+    public List<Record> top() {
+        return bank.top(SortKey.INTEREST, 10);
+    }
+
+    @Benchmark
+    public BigDecimal interestFrom() {
+        return bank.getInterestFrom((short) 180);
+    }
+
+    @Benchmark
+    public BigDecimal projectInterest() {
+        return bank.projectInterest(RATE_SHIFT);
+    }
+
+    @Benchmark
+    public AuditReport audit() throws Exception {
+        return bank.audit();
+    }
+
+    @Benchmark
+    public BankSnapshot snapshot() {
+        return bank.snapshot();
+    }
+}
@@ -0,0 +1,189 @@
+package co.edu.unicartagena.Rendimiento;
+
+import co.edu.unicartagena.Estructuras.ConcurrentSimpleLinkedList;
+import co.edu.unicartagena.Estructuras.SimpleLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pruebas de escalabilidad de {@link ConcurrentSimpleLinkedList}, comparada con una {@link SimpleLinkedList}
+ * protegida por un candado.
+ * <p>
+ * Todos los hilos comparten una lista de {@link #size} enteros. {@code append} solo agrega valores al final;
+ * {@code appendDelete} agrega un valor propio del hilo y lo elimina, lo que obliga a recorrer la lista mientras
+ * los demás hilos agregan. Cada prueba se ejecuta con 1, 2 y 4 hilos; el rendimiento se mide en operaciones por
+ * microsegundo, por lo que una lista que escala aumenta su resultado con la cantidad de hilos.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConcurrentSimpleLinkedListBenchmark {
+    /**
+     * Cantidad de valores con que comienzan las listas.
+     */
+    @Param({"1000", "10000"})
+    public int size;
+
+    /**
+     * Lista sin bloqueos compartida por los hilos.
+     */
+    private ConcurrentSimpleLinkedList<Integer> list;
+
+    /**
+     * Lista enlazada simple compartida por los hilos; se accede a ella bajo su propio monitor.
+     */
+    private SimpleLinkedList<Integer> locked;
+
+    /**
+     * Generador de los valores propios de cada hilo.
+     */
+    private final AtomicInteger threadIds = new AtomicInteger();
+
+    /**
+     * Valor propio de un hilo, distinto de los valores iniciales y de los de otros hilos.
+     */
+    @State(Scope.Thread)
+    public static class ThreadValue {
+        /**
+         * Valor del hilo.
+         */
+        Integer value;
+
+        /**
+         * Asigna el valor del hilo.
+         *
+         * @param benchmark Estado compartido.
+         */
+        @Setup
+        public void setup(ConcurrentSimpleLinkedListBenchmark benchmark) {
+            value = -1 - benchmark.threadIds.getAndIncrement();
+        }
+    }
+
+    /**
+     * Construye las listas. Se reconstruyen en cada iteración porque {@code append} las hace crecer.
+     */
+    @Setup(Level.Iteration)
+    public void setup() {
+        list = new ConcurrentSimpleLinkedList<>();
+        locked = new SimpleLinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            locked.add(i);
+        }
+    }
+
+    private void append(ThreadValue thread) {
+        list.add(thread.value);
+    }
+
+    private void lockedAppend(ThreadValue thread) {
+        synchronized (locked) {
+            locked.add(thread.value);
+        }
+    }
+
+    private void appendDelete(ThreadValue thread) {
+        list.add(thread.value);
+        list.deleteFirst(thread.value);
+    }
+
+    private void lockedAppendDelete(ThreadValue thread) {
+        synchronized (locked) {
+            locked.add(thread.value);
+            locked.deleteFirst(thread.value);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void append1(ThreadValue thread) {
+        append(thread);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void append2(ThreadValue thread) {
+        append(thread);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void append4(ThreadValue thread) {
+        append(thread);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void lockedAppend1(ThreadValue thread) {
+        lockedAppend(thread);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void lockedAppend2(ThreadValue thread) {
+        lockedAppend(thread);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void lockedAppend4(ThreadValue thread) {
+        lockedAppend(thread);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void appendDelete1(ThreadValue thread) {
+        appendDelete(thread);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void appendDelete2(ThreadValue thread) {
+        appendDelete(thread);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void appendDelete4(ThreadValue thread) {
+        appendDelete(thread);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void lockedAppendDelete1(ThreadValue thread) {
+        lockedAppendDelete(thread);
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void lockedAppendDelete2(ThreadValue thread) {
+        lockedAppendDelete(thread);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void lockedAppendDelete4(ThreadValue thread) {
+        lockedAppendDelete(thread);
+    }
+}
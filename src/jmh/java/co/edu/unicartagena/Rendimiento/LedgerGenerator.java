@@ -0,0 +1,93 @@
+package co.edu.unicartagena.Rendimiento;
+
+import co.edu.unicartagena.Clases.Record;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Generador de archivos de registros sintéticos con el formato de {@code data.txt}
+ * ({@code cédula;capital;día;tasa}, una línea por registro).
+ * <p>
+ * Las cédulas son distintas entre sí y aparecen desordenadas, de modo que el índice de cédulas se comporta como
+ * con datos reales. La cédula del registro {@code i} se obtiene con {@link #cc(int)}, lo que permite a las
+ * pruebas de rendimiento consultar registros existentes sin guardar la lista de cédulas.
+ * <p>
+ * Uso: {@code LedgerGenerator <archivo> <registros> [semilla]}
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+public final class LedgerGenerator {
+    /**
+     * Multiplicador impar que reparte las cédulas; al ser impar, la multiplicación módulo 2^32 es biyectiva.
+     */
+    private static final long SCATTER = 2654435761L;
+
+    /**
+     * Constructor privado: la clase solo tiene métodos estáticos.
+     */
+    private LedgerGenerator() {
+    }
+
+    /**
+     * Método principal del generador.
+     *
+     * @param args Argumentos de la línea de comandos.
+     * @throws java.io.IOException Si ocurre un error al escribir el archivo.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Uso: LedgerGenerator <archivo> <registros> [semilla]");
+            return;
+        }
+
+        var count = Integer.parseInt(args[1]);
+        var seed = args.length > 2 ? Long.parseLong(args[2]) : 0;
+        write(Path.of(args[0]), count, seed);
+        System.out.printf("Se generaron %d registros en %s.%n", count, args[0]);
+    }
+
+    /**
+     * Obtiene la cédula del registro {@code i} de un archivo generado.
+     *
+     * @param i Número del registro, desde 0.
+     * @return Cédula numérica del registro.
+     */
+    public static long cc(int i) {
+        return (i * SCATTER) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Escribe un archivo de registros sintéticos.
+     *
+     * @param path  Ruta del archivo.
+     * @param count Cantidad de registros.
+     * @param seed  Semilla de los montos, tasas y días.
+     * @throws java.io.IOException Si ocurre un error al escribir el archivo.
+     */
+    public static void write(Path path, int count, long seed) throws IOException {
+        var random = new SplittableRandom(seed);
+        try (var writer = new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), 1 << 20)) {
+            var sb = new StringBuilder(64);
+            for (int i = 0; i < count; i++) {
+                sb.setLength(0);
+                sb.append(Record.formatCC(cc(i))).append(';')
+                        .append(random.nextInt(100_000_000) / 100).append('.');
+                var cents = random.nextInt(100);
+                if (cents < 10) {
+                    sb.append('0');
+                }
+                sb.append(cents).append(';')
+                        .append(1 + random.nextInt(360)).append(';')
+                        .append(random.nextInt(20)).append('.').append(random.nextInt(10))
+                        .append('\n');
+                writer.append(sb);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package co.edu.unicartagena.Rendimiento;
+
+import co.edu.unicartagena.Clases.NumericMode;
+import co.edu.unicartagena.Clases.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas de rendimiento de {@link Record}: cálculo del interés y conversión a texto.
+ * <p>
+ * Las operaciones recorren un conjunto de registros precalculado. {@code getInterest} mide el cálculo sobre un
+ * registro recién creado, porque el registro guarda el interés una vez calculado; {@code getInterestCached}
+ * mide la lectura del valor guardado.
+ * <p>
+ * {@code formatToString} y {@code formatSimplified} reproducen la conversión a texto con
+ * {@link String#format(String, Object...)} que usaba {@link Record} antes de escribir las columnas directamente,
+ * como punto de comparación para {@code toStringRecord}, {@code appendTo} y sus equivalentes simplificados.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecordBenchmark {
+    /**
+     * Cantidad de registros precalculados.
+     */
+    private static final int RECORDS = 1 << 10;
+
+    /**
+     * Representación numérica de los registros.
+     */
+    @Param({"BIG_DECIMAL", "FIXED_POINT"})
+    public NumericMode mode;
+
+    /**
+     * Cédulas de los registros.
+     */
+    private String[] ccs;
+
+    /**
+     * Capitales de los registros.
+     */
+    private BigDecimal[] capitals;
+
+    /**
+     * Tasas de interés de los registros.
+     */
+    private BigDecimal[] rates;
+
+    /**
+     * Días de los registros.
+     */
+    private short[] days;
+
+    /**
+     * Registros con el interés ya calculado.
+     */
+    private Record[] records;
+
+    /**
+     * Próxima posición de los arreglos.
+     */
+    private int next;
+
+    /**
+     * StringBuilder reutilizado por las pruebas de {@code append}.
+     */
+    private final StringBuilder row = new StringBuilder(64);
+
+    /**
+     * Genera los registros.
+     */
+    @Setup
+    public void setup() {
+        var random = new SplittableRandom(42);
+        ccs = new String[RECORDS];
+        capitals = new BigDecimal[RECORDS];
+        rates = new BigDecimal[RECORDS];
+        days = new short[RECORDS];
+        records = new Record[RECORDS];
+
+        for (int i = 0; i < RECORDS; i++) {
+            ccs[i] = Record.formatCC(LedgerGenerator.cc(i));
+            capitals[i] = BigDecimal.valueOf(random.nextInt(100_000_000), 2);
+            rates[i] = BigDecimal.valueOf(random.nextInt(200), 1);
+            days[i] = (short) (1 + random.nextInt(360));
+            records[i] = new Record(ccs[i], capitals[i], rates[i], days[i], mode);
+            records[i].getInterest();
+        }
+    }
+
+    /**
+     * Obtiene la próxima posición de los arreglos.
+     *
+     * @return Posición.
+     */
+    private int nextIndex() {
+        next = (next + 1) & (RECORDS - 1);
+        return next;
+    }
+
+    @Benchmark
+    public Record create() {
+        var i = nextIndex();
+        return new Record(ccs[i], capitals[i], rates[i], days[i], mode);
+    }
+
+    @Benchmark
+    public BigDecimal getInterest() {
+        var i = nextIndex();
+        return new Record(ccs[i], capitals[i], rates[i], days[i], mode).getInterest();
+    }
+
+    @Benchmark
+    public BigDecimal getInterestCached() {
+        return records[nextIndex()].getInterest();
+    }
+
+    @Benchmark
+    public String toStringRecord() {
+        return records[nextIndex()].toString();
+    }
+
+    @Benchmark
+    public String getSimplifiedString() {
+        return records[nextIndex()].getSimplifiedString();
+    }
+
+    @Benchmark
+    public StringBuilder appendTo() {
+        row.setLength(0);
+        return records[nextIndex()].appendTo(row);
+    }
+
+    @Benchmark
+    public StringBuilder appendSimplified() {
+        row.setLength(0);
+        return records[nextIndex()].appendSimplified(row);
+    }
+
+    @Benchmark
+    public String formatToString() {
+        var record = records[nextIndex()];
+        return String.format("%-10s  %-13s  %-13s  %-4d", record.getCc(), "$%.2f".formatted(record.getCapital()),
+                "%.4f%%".formatted(record.getInterestTax().multiply(BigDecimal.valueOf(100))), record.getDay());
+    }
+
+    @Benchmark
+    public String formatSimplified() {
+        var record = records[nextIndex()];
+        return String.format("%s;%s;%d;%s", record.getCc(), record.getCapital().toPlainString(), record.getDay(),
+                record.getInterestTax().toPlainString());
+    }
+}
@@ -0,0 +1,136 @@
+package co.edu.unicartagena.Rendimiento;
+
+import co.edu.unicartagena.Estructuras.SimpleLinkedList;
+import co.edu.unicartagena.Estructuras.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pruebas de rendimiento de {@link SimpleLinkedList}, comparada con {@link UnrolledLinkedList} en las
+ * operaciones que ambas ofrecen.
+ * <p>
+ * Cada operación se mide sobre listas de {@link #size} enteros. {@code deleteFirst} elimina el último valor,
+ * que obliga a recorrer toda la lista, y lo vuelve a agregar para conservar el tamaño.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimpleLinkedListBenchmark {
+    /**
+     * Cantidad de valores de las listas.
+     */
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int size;
+
+    /**
+     * Valores de las listas.
+     */
+    private Integer[] values;
+
+    /**
+     * Lista enlazada simple con {@link #values}.
+     */
+    private SimpleLinkedList<Integer> list;
+
+    /**
+     * Lista desenrollada con {@link #values}.
+     */
+    private UnrolledLinkedList<Integer> unrolled;
+
+    /**
+     * Construye las listas.
+     */
+    @Setup
+    public void setup() {
+        values = new Integer[size];
+        Arrays.setAll(values, i -> i);
+
+        list = new SimpleLinkedList<>();
+        list.addAll(Arrays.asList(values));
+        unrolled = new UnrolledLinkedList<>();
+        unrolled.addAll(Arrays.asList(values));
+    }
+
+    @Benchmark
+    public SimpleLinkedList<Integer> add() {
+        var result = new SimpleLinkedList<Integer>();
+        for (var value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public UnrolledLinkedList<Integer> unrolledAdd() {
+        var result = new UnrolledLinkedList<Integer>();
+        for (var value : values) {
+            result.add(value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void deleteFirst() {
+        var last = values[size - 1];
+        list.deleteFirst(last);
+        list.add(last);
+    }
+
+    @Benchmark
+    public void unrolledDeleteFirst() {
+        var last = values[size - 1];
+        unrolled.deleteFirst(last);
+        unrolled.add(last);
+    }
+
+    @Benchmark
+    public String toStringList() {
+        return list.toString();
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (int value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long unrolledIterate() {
+        long sum = 0;
+        for (int value : unrolled) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long unrolledParallelStream() {
+        return unrolled.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
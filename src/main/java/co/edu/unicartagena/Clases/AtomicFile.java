@@ -0,0 +1,112 @@
+package co.edu.unicartagena.Clases;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Escritura atómica de archivos.
+ * <p>
+ * El contenido se escribe en un archivo temporal del mismo directorio, se sincroniza con el disco y finalmente
+ * reemplaza al archivo de destino, de modo que una falla a mitad del proceso nunca deja el archivo de destino
+ * truncado. El archivo temporal se crea con los permisos predeterminados del sistema y, si el destino ya existe,
+ * con los permisos del destino, para que reemplazarlo no los cambie.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+final class AtomicFile {
+    /**
+     * Contenido que se escribe en el archivo.
+     *
+     * @param <T> Tipo del resultado de la escritura.
+     */
+    @FunctionalInterface
+    interface Body<T> {
+        /**
+         * Escribe el contenido en el canal del archivo temporal.
+         *
+         * @param channel Canal del archivo temporal.
+         * @return Resultado de la escritura.
+         * @throws java.io.IOException Si ocurre un error al escribir.
+         */
+        T writeTo(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * Constructor privado; la clase solo tiene métodos estáticos.
+     */
+    private AtomicFile() {
+    }
+
+    /**
+     * Escribe un archivo de forma atómica.
+     *
+     * @param path Ruta del archivo de destino.
+     * @param body Contenido del archivo.
+     * @param <T>  Tipo del resultado de la escritura.
+     * @return Resultado de la escritura.
+     * @throws java.io.IOException Si ocurre un error al escribir el archivo.
+     */
+    static <T> T write(Path path, Body<T> body) throws IOException {
+        var target = path.toAbsolutePath();
+        var temp = createTemp(target);
+
+        try {
+            T result;
+            try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                result = body.writeTo(channel);
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return result;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Crea el archivo temporal junto al archivo de destino.
+     * <p>
+     * A diferencia de {@link Files#createTempFile}, que lo crea solo para el propietario, el archivo se crea con
+     * los permisos predeterminados y luego recibe los permisos del destino, si este existe.
+     *
+     * @param target Ruta absoluta del archivo de destino.
+     * @return Ruta del archivo temporal.
+     * @throws java.io.IOException Si ocurre un error al crear el archivo.
+     */
+    private static Path createTemp(Path target) throws IOException {
+        Path temp;
+        while (true) {
+            var name = "%s.%016x.tmp".formatted(target.getFileName(), ThreadLocalRandom.current().nextLong());
+            try {
+                temp = Files.createFile(target.resolveSibling(name));
+                break;
+            } catch (FileAlreadyExistsException ignored) {
+            }
+        }
+
+        var view = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (view != null && Files.exists(target)) {
+            try {
+                Files.setPosixFilePermissions(temp, view.readAttributes().permissions());
+            } catch (IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+        }
+        return temp;
+    }
+}
@@ -0,0 +1,193 @@
+package co.edu.unicartagena.Clases;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado de la auditoría de los totales de un {@link BankInfo}.
+ * <p>
+ * Compara los totales que se mantienen con cada operación con los totales recalculados a partir de los
+ * registros, y la cantidad de registros indexados con la cantidad de nodos de la lista.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ * @see BankInfo#audit()
+ */
+public class AuditReport {
+    /**
+     * Cantidad de registros recorridos.
+     */
+    private final long records;
+
+    /**
+     * Cantidad de nodos de la lista.
+     */
+    private final long listSize;
+
+    /**
+     * Capital total registrado.
+     */
+    private final BigDecimal storedCapital;
+
+    /**
+     * Capital total recalculado.
+     */
+    private final BigDecimal computedCapital;
+
+    /**
+     * Interés total registrado.
+     */
+    private final BigDecimal storedInterest;
+
+    /**
+     * Interés total recalculado.
+     */
+    private final BigDecimal computedInterest;
+
+    /**
+     * Duración de la auditoría en nanosegundos.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param records          Cantidad de registros recorridos.
+     * @param listSize         Cantidad de nodos de la lista.
+     * @param storedCapital    Capital total registrado.
+     * @param computedCapital  Capital total recalculado.
+     * @param storedInterest   Interés total registrado.
+     * @param computedInterest Interés total recalculado.
+     * @param elapsedNanos     Duración de la auditoría en nanosegundos.
+     */
+    AuditReport(long records, long listSize, BigDecimal storedCapital, BigDecimal computedCapital,
+                BigDecimal storedInterest, BigDecimal computedInterest, long elapsedNanos) {
+        this.records = records;
+        this.listSize = listSize;
+        this.storedCapital = storedCapital;
+        this.computedCapital = computedCapital;
+        this.storedInterest = storedInterest;
+        this.computedInterest = computedInterest;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Obtiene la cantidad de registros recorridos.
+     *
+     * @return Cantidad de registros indexados.
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Obtiene la cantidad de nodos de la lista que no están indexados y, por lo tanto, no se incluyeron en los
+     * totales recalculados.
+     *
+     * @return Cantidad de nodos sin indexar.
+     */
+    public long getUnindexed() {
+        return listSize - records;
+    }
+
+    /**
+     * Obtiene el capital total registrado.
+     *
+     * @return Capital total registrado.
+     */
+    public BigDecimal getStoredCapital() {
+        return storedCapital;
+    }
+
+    /**
+     * Obtiene el capital total recalculado a partir de los registros.
+     *
+     * @return Capital total recalculado.
+     */
+    public BigDecimal getComputedCapital() {
+        return computedCapital;
+    }
+
+    /**
+     * Obtiene el interés total registrado.
+     *
+     * @return Interés total registrado.
+     */
+    public BigDecimal getStoredInterest() {
+        return storedInterest;
+    }
+
+    /**
+     * Obtiene el interés total recalculado a partir de los registros.
+     *
+     * @return Interés total recalculado.
+     */
+    public BigDecimal getComputedInterest() {
+        return computedInterest;
+    }
+
+    /**
+     * Obtiene la diferencia entre el capital registrado y el recalculado.
+     *
+     * @return Capital registrado menos capital recalculado.
+     */
+    public BigDecimal getCapitalDifference() {
+        return storedCapital.subtract(computedCapital);
+    }
+
+    /**
+     * Obtiene la diferencia entre el interés registrado y el recalculado.
+     *
+     * @return Interés registrado menos interés recalculado.
+     */
+    public BigDecimal getInterestDifference() {
+        return storedInterest.subtract(computedInterest);
+    }
+
+    /**
+     * Obtiene la duración de la auditoría.
+     *
+     * @return Duración de la auditoría en nanosegundos.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Método que permite saber si los totales registrados coinciden con los recalculados y todos los nodos de
+     * la lista están indexados.
+     *
+     * @return Booleano que indica si no se encontraron diferencias.
+     */
+    public boolean isConsistent() {
+        return getUnindexed() == 0
+                && storedCapital.compareTo(computedCapital) == 0
+                && storedInterest.compareTo(computedInterest) == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Devuelve la cantidad de registros auditados, la duración de la auditoría y las diferencias encontradas.
+     */
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("Se auditaron %d registros en %.3f s.\n".formatted(records, elapsedNanos / 1e9));
+        if (isConsistent()) {
+            return sb.append("Los totales coinciden con los registros.\n").toString();
+        }
+
+        if (storedCapital.compareTo(computedCapital) != 0) {
+            sb.append("Capital: registrado %s, calculado %s (diferencia %s).\n".formatted(
+                    storedCapital.toPlainString(), computedCapital.toPlainString(), getCapitalDifference().toPlainString()));
+        }
+        if (storedInterest.compareTo(computedInterest) != 0) {
+            sb.append("Interés: registrado %s, calculado %s (diferencia %s).\n".formatted(
+                    storedInterest.toPlainString(), computedInterest.toPlainString(), getInterestDifference().toPlainString()));
+        }
+        if (getUnindexed() != 0) {
+            sb.append("%d nodos de la lista no están indexados.\n".formatted(getUnindexed()));
+        }
+
+        return sb.toString();
+    }
+}
@@ -1,11 +1,29 @@
 package co.edu.unicartagena.Clases;
 
+import co.edu.unicartagena.Estructuras.LongIntHashMap;
+import co.edu.unicartagena.Estructuras.OrderStatisticTree;
+import co.edu.unicartagena.Estructuras.PersistentLongMap;
 import co.edu.unicartagena.Estructuras.SimpleLinkedList;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Lista enlazada simple para almacenar información de los registros de un banco.
@@ -14,23 +32,154 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @author Jhoy Luis Castro Casanova
  */
 public class BankInfo extends SimpleLinkedList<Record> {
+    /**
+     * Tamaño del buffer de lectura utilizado por {@link #load(Path)}.
+     */
+    private static final int READ_BUFFER_SIZE = 1 << 20;
+
+    /**
+     * Tamaño mínimo de las porciones utilizadas por {@link #loadParallel(Path, ForkJoinPool)}.
+     */
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+
+    /**
+     * Tamaño máximo de las porciones utilizadas por {@link #loadParallel(Path, ForkJoinPool)}.
+     */
+    private static final long MAX_CHUNK_SIZE = 64 << 20;
+
+    /**
+     * Tamaño inicial de las ventanas mapeadas por {@link #loadMapped(Path)}.
+     */
+    private static final long MAP_WINDOW_SIZE = 256 << 20;
+
+    /**
+     * Cantidad mínima de registros de cada porción recorrida por {@link #audit(ForkJoinPool)}.
+     */
+    private static final int MIN_AUDIT_CHUNK = 1 << 16;
+
+    /**
+     * Valor que devuelve el índice cuando una cédula no está registrada.
+     */
+    private static final int ABSENT = -1;
+
+    /**
+     * Índice que relaciona cada cédula con una posición de {@link #predecessors}.
+     */
+    private final LongIntHashMap index;
+
+    /**
+     * Predecesor del nodo de cada cédula indexada ({@code null} para la cabeza). Las posiciones ocupadas son
+     * siempre las primeras {@code index.size()}.
+     */
+    private Node<Record>[] predecessors;
+
+    /**
+     * Representación numérica de los registros y los totales.
+     */
+    private final NumericMode mode;
+
     /**
      * Capital total registrado.
      */
-    private BigDecimal totalCapital;
+    private final MoneyTotal totalCapital;
 
     /**
      * Interés total registrado.
      */
-    private BigDecimal totalInterest;
+    private final MoneyTotal totalInterest;
+
+    /**
+     * Diario donde se registran las operaciones, o {@code null} si no hay uno abierto.
+     */
+    private Journal journal;
+
+    /**
+     * Ruta de la instantánea asociada al diario.
+     */
+    private Path snapshotPath;
+
+    /**
+     * Registros indexados por orden de inserción que comparten las vistas de {@link #snapshot()}, o {@code null}
+     * si todavía no se ha pedido ninguna vista.
+     */
+    private PersistentLongMap<Record> published;
+
+    /**
+     * Orden de inserción del nodo de cada cédula indexada, por posición. Solo se mantiene junto con
+     * {@link #published}.
+     */
+    private long[] sequences;
+
+    /**
+     * Próximo orden de inserción.
+     */
+    private long nextSequence;
+
+    /**
+     * Índices ordenados de los registros indexados, por campo. Solo contiene los índices que se han pedido.
+     */
+    private final EnumMap<SortKey, OrderStatisticTree<BigDecimal>> sortedIndexes;
+
+    /**
+     * Acumulados de los registros indexados por día de depósito, o {@code null} si todavía no se han pedido.
+     */
+    private DayBuckets dayBuckets;
+
+    /**
+     * Salida donde se imprime el reporte de cada carga, o {@code null} si no se imprime.
+     */
+    private PrintStream reportStream = System.out;
 
     /**
      * Constructor de la clase.
      */
     public BankInfo() {
+        this(NumericMode.BIG_DECIMAL);
+    }
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param mode Representación numérica de los registros y los totales.
+     */
+    public BankInfo(NumericMode mode) {
         super();
-        totalCapital = new BigDecimal(0);
-        totalInterest = new BigDecimal(0);
+        this.mode = mode;
+        index = new LongIntHashMap();
+        predecessors = newPredecessors(16);
+        totalCapital = new MoneyTotal();
+        totalInterest = new MoneyTotal();
+        sortedIndexes = new EnumMap<>(SortKey.class);
+    }
+
+    /**
+     * Obtiene la representación numérica de los registros y los totales.
+     *
+     * @return Representación numérica.
+     */
+    public NumericMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Método que permite indicar dónde se imprime el reporte de cada carga de archivos. Por defecto se imprime en
+     * la salida estándar.
+     *
+     * @param reportStream Salida de los reportes, o {@code null} para no imprimirlos.
+     */
+    public void setReportStream(PrintStream reportStream) {
+        this.reportStream = reportStream;
+    }
+
+    /**
+     * Imprime el reporte de una carga en {@link #reportStream}, si hay una.
+     *
+     * @param report Reporte de la carga.
+     */
+    private void printReport(LoadReport report) {
+        if (reportStream != null) {
+            reportStream.print(report);
+        }
     }
 
     /**
@@ -39,7 +188,7 @@ public class BankInfo extends SimpleLinkedList<Record> {
      * @return Capital total.
      */
     public BigDecimal getTotalCapital() {
-        return totalCapital;
+        return totalCapital.get();
     }
 
     /**
@@ -48,7 +197,18 @@ public class BankInfo extends SimpleLinkedList<Record> {
      * @return Interés total.
      */
     public BigDecimal getTotalInterest() {
-        return totalInterest;
+        return totalInterest.get();
+    }
+
+    /**
+     * Suma o resta los montos de un registro a los totales.
+     *
+     * @param record   Registro.
+     * @param subtract Booleano que indica si los montos se restan.
+     * @see MoneyTotal#accumulate(Record, boolean, MoneyTotal, MoneyTotal)
+     */
+    private void accumulate(Record record, boolean subtract) {
+        MoneyTotal.accumulate(record, subtract, totalCapital, totalInterest);
     }
 
     /**
@@ -58,60 +218,195 @@ public class BankInfo extends SimpleLinkedList<Record> {
      * @param capital     Capital inicial del registro.
      * @param interestTax Tasa de interés del registro.
      * @param day         Día del usuario.
+     * @throws java.lang.IllegalArgumentException Si ya existe un usuario con la cédula indicada o si los datos no son válidos.
+     */
+    public void add(String cc, BigDecimal capital, BigDecimal interestTax, short day) throws IllegalArgumentException {
+        if (index.containsKey(Record.parseCC(cc))) {
+            throw new IllegalArgumentException("Ya existe un usuario con esa cédula.");
+        }
+
+        var record = new Record(cc, capital, interestTax, day, mode);
+        log(new Journal.Entry(Journal.ADD, record.getCcValue(), capital, interestTax, day));
+        insert(record);
+    }
+
+    /**
+     * Agrega un registro a la lista y a los totales.
+     *
+     * @param record Registro.
+     * @throws java.lang.IllegalArgumentException Si ya existe un usuario con la cédula del registro.
      */
-    public void add(String cc, BigDecimal capital, BigDecimal interestTax, short day) {
-        Record newRecord = new Record(cc, capital, interestTax, day);
-        add(newRecord);
-        totalCapital = totalCapital.add(capital);
-        totalInterest = totalInterest.add(newRecord.getInterest());
+    private void insert(Record record) throws IllegalArgumentException {
+        if (index.containsKey(record.getCcValue())) {
+            throw new IllegalArgumentException("Ya existe un usuario con esa cédula.");
+        }
+
+        add(record);
+        accumulate(record, false);
     }
 
     /**
      * Remueve un registro de la lista.
      *
      * @param cc Cédula del usuario.
+     * @throws java.lang.NullPointerException Si no existe un usuario con la cédula indicada.
+     */
+    public void removeRecord(String cc) throws NullPointerException {
+        var slot = slotOf(cc);
+        if (slot == ABSENT) {
+            throw new NullPointerException("El valor que desea eliminar no existe en la lista.");
+        }
+
+        log(Journal.Entry.remove(Record.parseCC(cc)));
+        unlink(slot);
+    }
+
+    /**
+     * Desenlaza el registro de una posición del índice y lo descuenta de los totales.
+     *
+     * @param slot Posición en {@link #predecessors}.
      */
-    public void removeRecord(String cc) {
-        var capital = getRecord(cc).getCapital();
-        var interest = getRecord(cc).getInterest();
-        deleteFirst(getRecord(cc));
-        totalCapital = totalCapital.subtract(capital);
-        totalInterest = totalInterest.subtract(interest);
+    private void unlink(int slot) {
+        var removed = unlinkAfter(predecessors[slot]);
+        accumulate(removed, true);
     }
 
     /**
      * Obtiene el registro de la lista.
      *
      * @param cc Cédula del usuario.
-     * @return Registro.
+     * @return Registro, o {@code null} si no existe un usuario con la cédula indicada.
      */
     public Record getRecord(String cc) {
-        try {
-            Record.checkCC(cc);
-        } catch (IllegalArgumentException e) {
+        var slot = slotOf(cc);
+        if (slot == ABSENT) {
             return null;
         }
 
+        return nodeAfter(predecessors[slot]).getValue();
+    }
+
+    /**
+     * Obtiene la posición de una cédula en el índice.
+     *
+     * @param cc Cédula del usuario.
+     * @return Posición en {@link #predecessors}, o {@link #ABSENT} si la cédula no es válida o no está registrada.
+     */
+    private int slotOf(String cc) {
         try {
-            return handleGet(this.head, cc);
-        } catch (NullPointerException e) {
-            return null;
+            return index.getOrDefault(Record.parseCC(cc), ABSENT);
+        } catch (IllegalArgumentException e) {
+            return ABSENT;
         }
     }
 
     /**
-     * Método recursivo para obtener un registro de la lista.
+     * Obtiene el nodo que sigue a un predecesor registrado en el índice.
      *
-     * @param node Nodo actual.
-     * @param cc   Cédula del usuario.
-     * @return Registro del usuario.
+     * @param previous Predecesor del nodo, o {@code null} para la cabeza de la lista.
+     * @return Nodo sucesor, o {@code null} si el predecesor es el último nodo.
+     */
+    private Node<Record> nodeAfter(Node<Record> previous) {
+        if (previous == null) {
+            return head;
+        }
+
+        return previous.hasNext() ? previous.getNext() : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Utiliza el índice de cédulas para desenlazar el registro sin recorrer la lista.
+     */
+    @Override
+    public void deleteFirst(Record value) throws NullPointerException {
+        var slot = index.getOrDefault(value.getCcValue(), ABSENT);
+        if (slot != ABSENT && nodeAfter(predecessors[slot]).getValue().equals(value)) {
+            unlinkAfter(predecessors[slot]);
+        } else {
+            super.deleteFirst(value);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Registra en el índice el predecesor de cada nodo enlazado.
+     */
+    @Override
+    protected void linked(Node<Record> previous, Node<Record> first) {
+        for (var node = first; node != null; node = node.hasNext() ? node.getNext() : null) {
+            var cc = node.getValue().getCcValue();
+            if (!index.containsKey(cc)) {
+                var slot = index.size();
+                if (slot == predecessors.length) {
+                    predecessors = Arrays.copyOf(predecessors, slot * 2);
+                    if (published != null) {
+                        sequences = Arrays.copyOf(sequences, slot * 2);
+                    }
+                }
+                predecessors[slot] = previous;
+                index.put(cc, slot);
+                track(node.getValue(), false);
+
+                if (published != null) {
+                    sequences[slot] = nextSequence;
+                    published = published.put(nextSequence++, node.getValue());
+                }
+            }
+            previous = node;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Actualiza el predecesor del sucesor del nodo desenlazado y libera la posición de su cédula, ocupándola con
+     * la última posición para que el arreglo de predecesores se mantenga compacto.
      */
-    private Record handleGet(Node<Record> node, String cc) {
-        if (!node.getValue().getCc().equals(cc)) {
-            return handleGet(node.getNext(), cc);
+    @Override
+    protected void unlinked(Node<Record> previous, Node<Record> node) {
+        var next = nodeAfter(previous);
+        if (next != null) {
+            var nextSlot = index.getOrDefault(next.getValue().getCcValue(), ABSENT);
+            if (nextSlot != ABSENT && predecessors[nextSlot] == node) {
+                predecessors[nextSlot] = previous;
+            }
+        }
+
+        var cc = node.getValue().getCcValue();
+        var slot = index.getOrDefault(cc, ABSENT);
+        if (slot == ABSENT || predecessors[slot] != previous) {
+            return;
+        }
+
+        index.remove(cc, ABSENT);
+        track(node.getValue(), true);
+        if (published != null) {
+            published = published.remove(sequences[slot]);
+        }
+
+        var last = index.size();
+        if (slot != last) {
+            predecessors[slot] = predecessors[last];
+            if (published != null) {
+                sequences[slot] = sequences[last];
+            }
+            index.put(nodeAfter(predecessors[slot]).getValue().getCcValue(), slot);
         }
+        predecessors[last] = null;
+    }
 
-        return node.getValue();
+    /**
+     * Crea un arreglo de predecesores.
+     *
+     * @param capacity Capacidad del arreglo.
+     * @return Arreglo vacío.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Node<Record>[] newPredecessors(int capacity) {
+        return (Node<Record>[]) new Node[capacity];
     }
 
     /**
@@ -121,108 +416,1217 @@ public class BankInfo extends SimpleLinkedList<Record> {
      * @param capital     Capital del usuario.
      * @param interestTax Tasa de interés del usuario.
      * @param day         Día en que el depósito fue realizado.
+     * @throws java.lang.NullPointerException     Si no existe un usuario con la cédula indicada.
+     * @throws java.lang.IllegalArgumentException Si los datos no son válidos.
      */
-    public void updateRecord(String cc, BigDecimal capital, BigDecimal interestTax, short day) {
-        var toUpdate = getRecord(cc);
-        var capitalDiff = capital.subtract(toUpdate.getCapital());
-
-        totalCapital = totalCapital.add(capitalDiff);
-        totalInterest = totalInterest.subtract(toUpdate.getInterest());
+    public void updateRecord(String cc, BigDecimal capital, BigDecimal interestTax, short day) throws NullPointerException {
+        var slot = slotOf(cc);
+        if (slot == ABSENT) {
+            throw new NullPointerException("No existe un usuario con esa cédula.");
+        }
 
-        toUpdate.update(capital, interestTax, day);
-        totalInterest = totalInterest.add(toUpdate.getInterest());
+        Record.checkCapital(capital);
+        Record.checkInterest(interestTax);
+        Record.checkDay(day);
+        log(new Journal.Entry(Journal.UPDATE, Record.parseCC(cc), capital, interestTax, day));
+        update(slot, capital, interestTax, day);
     }
 
     /**
-     * {@inheritDoc}
+     * Actualiza el registro de una posición del índice y los totales.
      * <p>
-     * Devuelve la lista como String, mostrando el total del capital e interés acumulado.
+     * Si existen vistas de {@link #snapshot()}, el registro se reemplaza por uno nuevo en lugar de modificarse,
+     * para que las vistas conserven los datos anteriores.
+     *
+     * @param slot        Posición en {@link #predecessors}.
+     * @param capital     Capital del usuario.
+     * @param interestTax Tasa de interés del usuario.
+     * @param day         Día en que el depósito fue realizado.
+     * @throws java.lang.NullPointerException     Si algún dato es {@code null}.
+     * @throws java.lang.IllegalArgumentException Si los datos no son válidos; en ese caso el registro, los totales
+     *                                            y los índices no se modifican.
      */
-    @Override
-    public String toString() {
-        return """
-                Capital total: $%s
-                Interés total: $%s
-                                
-                %s
-                %s
-                """.formatted(
-                String.format("%.2f", totalCapital),
-                String.format("%.2f", totalInterest),
-                String.format(Record.getFormat(), "Cédula", "Capital", "Interés", "Día"),
-                super.toString());
+    private void update(int slot, BigDecimal capital, BigDecimal interestTax, short day)
+            throws NullPointerException, IllegalArgumentException {
+        // Se valida antes de retirar el registro de los totales y los índices, para no dejarlos a medias.
+        Record.checkCapital(capital);
+        Record.checkInterest(interestTax);
+        Record.checkDay(day);
+
+        var node = nodeAfter(predecessors[slot]);
+        var toUpdate = node.getValue();
+        var replacement = published == null ? null : new Record(toUpdate.getCcValue(), capital, interestTax, day, mode);
+        accumulate(toUpdate, true);
+        track(toUpdate, true);
+
+        if (replacement == null) {
+            toUpdate.update(capital, interestTax, day);
+        } else {
+            toUpdate = replacement;
+            node.setValue(toUpdate);
+            published = published.put(sequences[slot], toUpdate);
+        }
+
+        accumulate(toUpdate, false);
+        track(toUpdate, false);
     }
 
     /**
-     * Devuelve una versión simplificada de la lista en un StringBuilder, con los datos de cada registro separados por punto y coma.
+     * Aplica un lote de actualizaciones en el orden indicado.
+     * <p>
+     * Primero se valida todo el lote: si alguna cédula no existe o algún dato no es válido, no se aplica ninguna
+     * actualización. Luego los registros se reemplazan en una sola pasada y la diferencia de los totales se
+     * acumula aparte (en centavos cuando los registros lo permiten) y se suma a los totales una sola vez. Si una
+     * cédula aparece varias veces, prevalece la última actualización.
      *
-     * @return Lista en un StringBuilder.
-     * @see java.lang.StringBuilder
+     * @param updates Actualizaciones.
+     * @throws java.lang.NullPointerException     Si el lote es {@code null} o si alguna cédula no existe en la lista.
+     * @throws java.lang.IllegalArgumentException Si alguna actualización o alguno de sus datos es {@code null} o
+     *                                            no es válido; el mensaje indica la posición de la actualización.
      */
-    public StringBuilder getListSimplified() {
-        StringBuilder sb = new StringBuilder();
-        for (var node = head; node != null; node = node.getNext()) {
-            sb.append(node.getValue().getSimplifiedString());
-            sb.append("\n");
+    public void applyUpdates(Collection<Update> updates) throws NullPointerException, IllegalArgumentException {
+        Objects.requireNonNull(updates, "El lote de actualizaciones no puede ser nulo.");
+        var count = updates.size();
+        var slots = new int[count];
+        var records = new Record[count];
+        var entries = journal == null ? null : new ArrayList<Journal.Entry>(count);
+
+        int i = 0;
+        for (var update : updates) {
+            validate(update, i + 1);
+            var slot = slotOf(update.cc());
+            if (slot == ABSENT) {
+                throw new NullPointerException("Actualización %d: No existe un usuario con esa cédula.".formatted(i + 1));
+            }
+
+            try {
+                records[i] = new Record(Record.parseCC(update.cc()), update.capital(), update.interestTax(), update.day(), mode);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new IllegalArgumentException("Actualización %d: %s".formatted(i + 1, e.getMessage()));
+            }
 
-            if (!node.hasNext()) {
-                break;
+            slots[i] = slot;
+            if (entries != null) {
+                entries.add(new Journal.Entry(Journal.UPDATE, records[i].getCcValue(), update.capital(), update.interestTax(), update.day()));
             }
+            i++;
         }
 
-        return sb;
+        if (entries != null) {
+            try {
+                journal.write(entries);
+            } catch (IOException e) {
+                throw new IllegalStateException("Error al registrar la operación en el diario.\nCausa: " + e.getMessage(), e);
+            }
+        }
+
+        var capitalDelta = new MoneyTotal();
+        var interestDelta = new MoneyTotal();
+        for (i = 0; i < count; i++) {
+            var node = nodeAfter(predecessors[slots[i]]);
+            MoneyTotal.accumulate(node.getValue(), true, capitalDelta, interestDelta);
+            MoneyTotal.accumulate(records[i], false, capitalDelta, interestDelta);
+            track(node.getValue(), true);
+            track(records[i], false);
+
+            node.setValue(records[i]);
+            if (published != null) {
+                published = published.put(sequences[slots[i]], records[i]);
+            }
+        }
+
+        totalCapital.add(capitalDelta);
+        totalInterest.add(interestDelta);
     }
 
     /**
-     * Guarda los registros en un archivo.
+     * Valida que una actualización de un lote y sus datos no sean {@code null}.
      *
-     * @param path Ruta del archivo.
-     * @throws java.lang.Exception Cuando ocurre un error al guardar los registros en el archivo.
+     * @param update   Actualización.
+     * @param position Posición de la actualización en el lote, desde 1.
+     * @throws java.lang.IllegalArgumentException Si la actualización o alguno de sus datos es {@code null}.
      */
-    public void save(Path path) throws Exception {
-        try {
-            Files.writeString(path, getListSimplified());
-        } catch (Exception e) {
-            throw new Exception("Error al guardar los registros en el archivo.\nCausa: " + e.getMessage());
+    private static void validate(Update update, int position) throws IllegalArgumentException {
+        String error = null;
+        if (update == null) {
+            error = "La actualización no puede ser nula.";
+        } else if (update.cc() == null) {
+            error = "La cédula no puede ser nula.";
+        } else if (update.capital() == null) {
+            error = "El capital no puede ser nulo.";
+        } else if (update.interestTax() == null) {
+            error = "La tasa de interés no puede ser nula.";
+        }
+
+        if (error != null) {
+            throw new IllegalArgumentException("Actualización %d: %s".formatted(position, error));
         }
     }
 
     /**
-     * Carga los registros de un archivo.
+     * Agrega o quita un registro de los índices ordenados y de los acumulados por día existentes.
      *
-     * @param path Ruta del archivo.
-     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo.
+     * @param record Registro.
+     * @param remove Booleano que indica si el registro se quita.
+     */
+    private void track(Record record, boolean remove) {
+        if (dayBuckets != null) {
+            dayBuckets.accumulate(record, remove);
+        }
+        if (sortedIndexes.isEmpty()) {
+            return;
+        }
+
+        for (var entry : sortedIndexes.entrySet()) {
+            var key = entry.getKey().keyOf(record);
+            if (remove) {
+                entry.getValue().remove(key, record.getCcValue());
+            } else {
+                entry.getValue().insert(key, record.getCcValue());
+            }
+        }
+    }
+
+    /**
+     * Obtiene el índice ordenado de un campo, construyéndolo a partir de los registros indexados si todavía no
+     * existe.
+     *
+     * @param key Campo del índice.
+     * @return Índice ordenado.
      */
-    public void load(Path path) throws Exception {
-        AtomicInteger counter = new AtomicInteger();
-        AtomicInteger ignored = new AtomicInteger();
+    private OrderStatisticTree<BigDecimal> sortedIndex(SortKey key) {
+        var tree = sortedIndexes.get(key);
+        if (tree == null) {
+            var keys = new BigDecimal[index.size()];
+            var ccs = new long[keys.length];
+            for (int slot = 0; slot < keys.length; slot++) {
+                var record = nodeAfter(predecessors[slot]).getValue();
+                keys[slot] = key.keyOf(record);
+                ccs[slot] = record.getCcValue();
+            }
 
-        try (var lines = Files.lines(path)) {
-            lines.forEach(line -> {
-                var data = line.split(";");
+            tree = new OrderStatisticTree<>();
+            tree.build(keys, ccs);
+            sortedIndexes.put(key, tree);
+        }
+        return tree;
+    }
 
-                try {
-                    var capital = data[1].replace(",", ".");
-                    var interest = data[3].replace(",", ".");
-
-                    Record.checkCC(data[0]);
-                    Record.checkCapital(new BigDecimal(capital));
-                    Record.checkDay(Short.parseShort(data[2]));
-                    Record.checkInterest(new BigDecimal(interest));
-                } catch (IllegalArgumentException e) {
-                    ignored.getAndIncrement();
+    /**
+     * Método que permite crear el índice ordenado de un campo.
+     * <p>
+     * La construcción recorre los registros una vez, en O(n log n). A partir de entonces el índice se actualiza
+     * con cada operación que agrega, actualiza o elimina registros, lo que encarece esas operaciones en
+     * O(log n). Las consultas por rango crean el índice si todavía no existe.
+     *
+     * @param key Campo del índice.
+     * @throws java.lang.NullPointerException Si el campo es {@code null}.
+     */
+    public void createSortedIndex(SortKey key) throws NullPointerException {
+        sortedIndex(Objects.requireNonNull(key, "El campo no puede ser nulo."));
+    }
+
+    /**
+     * Método que permite eliminar el índice ordenado de un campo, si existe.
+     *
+     * @param key Campo del índice.
+     */
+    public void dropSortedIndex(SortKey key) {
+        sortedIndexes.remove(key);
+    }
+
+    /**
+     * Método que permite saber si existe el índice ordenado de un campo.
+     *
+     * @param key Campo del índice.
+     * @return Booleano que indica si el índice existe.
+     */
+    public boolean hasSortedIndex(SortKey key) {
+        return sortedIndexes.containsKey(key);
+    }
+
+    /**
+     * Método que permite obtener los registros cuyo campo está en un rango, en O(log n + k).
+     *
+     * @param key  Campo de la consulta.
+     * @param from Menor valor del rango, incluido, o {@code null} para no limitar el rango por abajo.
+     * @param to   Mayor valor del rango, incluido, o {@code null} para no limitar el rango por arriba.
+     * @return Registros del rango, ordenados por el campo y, entre valores iguales, por cédula.
+     * @throws java.lang.NullPointerException Si el campo es {@code null}.
+     * @see #createSortedIndex(SortKey)
+     */
+    public List<Record> findRange(SortKey key, BigDecimal from, BigDecimal to) throws NullPointerException {
+        var tree = sortedIndex(Objects.requireNonNull(key, "El campo no puede ser nulo."));
+        var result = new ArrayList<Record>(tree.count(from, to));
+        tree.range(from, to, cc -> result.add(recordOf(cc)));
+        return result;
+    }
+
+    /**
+     * Método que permite contar los registros cuyo campo está en un rango, en O(log n).
+     *
+     * @param key  Campo de la consulta.
+     * @param from Menor valor del rango, incluido, o {@code null} para no limitar el rango por abajo.
+     * @param to   Mayor valor del rango, incluido, o {@code null} para no limitar el rango por arriba.
+     * @return Cantidad de registros del rango.
+     * @throws java.lang.NullPointerException Si el campo es {@code null}.
+     * @see #createSortedIndex(SortKey)
+     */
+    public int countRange(SortKey key, BigDecimal from, BigDecimal to) throws NullPointerException {
+        return sortedIndex(Objects.requireNonNull(key, "El campo no puede ser nulo.")).count(from, to);
+    }
+
+    /**
+     * Método que permite obtener los registros con los mayores valores de un campo, en O(log n + k).
+     *
+     * @param key   Campo de la consulta.
+     * @param limit Cantidad máxima de registros.
+     * @return Registros ordenados de mayor a menor por el campo y, entre valores iguales, de mayor a menor cédula.
+     * @throws java.lang.NullPointerException     Si el campo es {@code null}.
+     * @throws java.lang.IllegalArgumentException Si la cantidad es negativa.
+     * @see #createSortedIndex(SortKey)
+     */
+    public List<Record> top(SortKey key, int limit) throws NullPointerException, IllegalArgumentException {
+        if (limit < 0) {
+            throw new IllegalArgumentException("La cantidad de registros no puede ser negativa.");
+        }
+
+        var tree = sortedIndex(Objects.requireNonNull(key, "El campo no puede ser nulo."));
+        var result = new ArrayList<Record>(Math.min(limit, tree.size()));
+        tree.descending(limit, cc -> result.add(recordOf(cc)));
+        return result;
+    }
+
+    /**
+     * Obtiene los acumulados por día, construyéndolos a partir de los registros indexados si todavía no existen.
+     *
+     * @return Acumulados por día.
+     */
+    private DayBuckets dayBuckets() {
+        if (dayBuckets == null) {
+            dayBuckets = new DayBuckets(() -> new Iterator<>() {
+                private int slot;
+
+                @Override
+                public boolean hasNext() {
+                    return slot < index.size();
                 }
 
-                add(data[0], new BigDecimal(data[1]), new BigDecimal(data[3]), Short.parseShort(data[2]));
-                counter.getAndIncrement();
+                @Override
+                public Record next() {
+                    return nodeAfter(predecessors[slot++]).getValue();
+                }
             });
-
-            System.out.printf("Se cargaron %d registros.\n", counter.get());
-            if (ignored.get() > 0) {
-                System.out.printf("%d registros fueron ignorados porque no cumplían con el formato necesario.\n", ignored.get());
-            }
-        } catch (Exception e) {
-            throw new Exception("Error al cargar los registros del archivo.\nCausa: " + e.getClass().getName() + ": " + e.getCause());
         }
+        return dayBuckets;
+    }
+
+    /**
+     * Método que permite crear los acumulados por día de depósito.
+     * <p>
+     * La construcción recorre los registros una vez. A partir de entonces los acumulados se actualizan con cada
+     * operación que agrega, actualiza o elimina registros, en O(log 361). Las consultas por día crean los
+     * acumulados si todavía no existen.
+     */
+    public void createDayBuckets() {
+        dayBuckets();
+    }
+
+    /**
+     * Método que permite eliminar los acumulados por día de depósito, si existen.
+     */
+    public void dropDayBuckets() {
+        dayBuckets = null;
+    }
+
+    /**
+     * Método que permite obtener los acumulados de los registros depositados en un tramo de días, en O(log 361).
+     *
+     * @param from Primer día, incluido.
+     * @param to   Último día, incluido.
+     * @return Acumulados del tramo; si el primer día es mayor que el último, los acumulados son cero.
+     * @throws java.lang.IllegalArgumentException Si algún día no está entre 0 y 360.
+     * @see #createDayBuckets()
+     */
+    public DayAggregate aggregateDays(short from, short to) throws IllegalArgumentException {
+        Record.checkDay(from);
+        Record.checkDay(to);
+        return dayBuckets().aggregate(from, to);
+    }
+
+    /**
+     * Método que permite obtener el interés total de los depósitos realizados desde un día, en O(log 361).
+     *
+     * @param day Primer día, incluido.
+     * @return Interés total de los depósitos del día indicado en adelante.
+     * @throws java.lang.IllegalArgumentException Si el día no está entre 0 y 360.
+     */
+    public BigDecimal getInterestFrom(short day) throws IllegalArgumentException {
+        return aggregateDays(day, (short) (DayBuckets.DAYS - 1)).interest();
+    }
+
+    /**
+     * Método que permite proyectar el interés total si la tasa de todos los registros cambiara, en O(log 361).
+     *
+     * @param rateShift Cambio de la tasa de interés; puede ser negativo.
+     * @return Interés total proyectado.
+     * @throws java.lang.NullPointerException Si el cambio es {@code null}.
+     * @see DayAggregate#projectInterest(BigDecimal)
+     */
+    public BigDecimal projectInterest(BigDecimal rateShift) throws NullPointerException {
+        Objects.requireNonNull(rateShift, "El cambio de la tasa no puede ser nulo.");
+        return aggregateDays((short) 0, (short) (DayBuckets.DAYS - 1)).projectInterest(rateShift);
+    }
+
+    /**
+     * Obtiene el registro de una cédula indexada.
+     *
+     * @param cc Cédula del usuario.
+     * @return Registro.
+     */
+    private Record recordOf(long cc) {
+        return nodeAfter(predecessors[index.getOrDefault(cc, ABSENT)]).getValue();
+    }
+
+    /**
+     * Audita los totales utilizando el pool común de fork/join.
+     *
+     * @return Reporte de la auditoría.
+     * @throws java.lang.Exception Cuando ocurre un error al recalcular los totales.
+     * @see #audit(ForkJoinPool)
+     */
+    public AuditReport audit() throws Exception {
+        return audit(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Recalcula en paralelo el capital y el interés totales a partir de los registros y los compara con los
+     * totales registrados.
+     * <p>
+     * Las posiciones del arreglo de predecesores se dividen en porciones contiguas; cada porción suma sus
+     * registros en {@code pool} con sus propios acumuladores y las sumas parciales se combinan al final. Los
+     * totales registrados no se modifican: las diferencias solo se informan en el reporte.
+     *
+     * @param pool Pool donde se recorren las porciones.
+     * @return Reporte de la auditoría.
+     * @throws java.lang.Exception Cuando ocurre un error al recalcular los totales.
+     */
+    public AuditReport audit(ForkJoinPool pool) throws Exception {
+        var start = System.nanoTime();
+        var count = index.size();
+        var chunkSize = Math.max(MIN_AUDIT_CHUNK, count / (pool.getParallelism() * 4) + 1);
+
+        var tasks = new ArrayList<ForkJoinTask<MoneyTotal[]>>(count / chunkSize + 1);
+        for (int from = 0; from < count; from += chunkSize) {
+            var lower = from;
+            var upper = Math.min(count, from + chunkSize);
+            tasks.add(pool.submit(() -> sum(lower, upper)));
+        }
+
+        var capital = new MoneyTotal();
+        var interest = new MoneyTotal();
+        try {
+            for (var task : tasks) {
+                var sums = task.get();
+                capital.add(sums[0]);
+                interest.add(sums[1]);
+            }
+        } catch (ExecutionException | InterruptedException e) {
+            tasks.forEach(task -> task.cancel(false));
+            var cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw new Exception("Error al auditar los totales.\nCausa: " + cause.getClass().getName() + ": " + cause.getMessage());
+        }
+
+        return new AuditReport(count, getSize(), getTotalCapital(), capital.get(), getTotalInterest(), interest.get(),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Suma el capital y el interés de los registros de un rango de posiciones del índice.
+     *
+     * @param from Primera posición, incluida.
+     * @param to   Última posición, excluida.
+     * @return Capital e interés de los registros del rango, en ese orden.
+     */
+    private MoneyTotal[] sum(int from, int to) {
+        var capital = new MoneyTotal();
+        var interest = new MoneyTotal();
+        for (int slot = from; slot < to; slot++) {
+            MoneyTotal.accumulate(nodeAfter(predecessors[slot]).getValue(), false, capital, interest);
+        }
+
+        return new MoneyTotal[]{capital, interest};
+    }
+
+    /**
+     * Obtiene una vista inmutable de los registros y los totales en este instante.
+     * <p>
+     * La primera llamada construye en O(n) un mapa persistente con los registros en orden de inserción. Desde
+     * entonces, cada operación sobre la lista actualiza ese mapa en O(log n) compartiendo la estructura con las
+     * vistas anteriores, y cada actualización reemplaza el registro en lugar de modificarlo, por lo que las
+     * llamadas siguientes cuestan O(1). La vista puede recorrerse, listarse o guardarse desde otro hilo mientras
+     * la lista sigue modificándose.
+     *
+     * @return Vista de los registros.
+     */
+    public BankSnapshot snapshot() {
+        if (published == null) {
+            publish();
+        }
+
+        return new BankSnapshot(published, published.size(), getTotalCapital(), getTotalInterest());
+    }
+
+    /**
+     * Construye el mapa de registros publicados a partir de la lista, numerando los registros indexados en orden.
+     */
+    private void publish() {
+        var count = index.size();
+        var keys = new long[count];
+        var values = new Record[count];
+        var numbered = new long[predecessors.length];
+        int n = 0;
+
+        Node<Record> previous = null;
+        for (var node = head; node != null; node = node.hasNext() ? node.getNext() : null) {
+            var slot = index.getOrDefault(node.getValue().getCcValue(), ABSENT);
+            if (slot != ABSENT && predecessors[slot] == previous) {
+                keys[n] = n;
+                values[n] = node.getValue();
+                numbered[slot] = n;
+                n++;
+            }
+            previous = node;
+        }
+
+        sequences = numbered;
+        nextSequence = n;
+        published = PersistentLongMap.ofSorted(keys, values, n);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Devuelve la lista como String, mostrando el total del capital e interés acumulado.
+     *
+     * @throws java.lang.NullPointerException Si la lista no tiene registros.
+     * @see #writeTo(Appendable)
+     */
+    @Override
+    public String toString() throws NullPointerException {
+        if (size == 0) {
+            throw new NullPointerException("La lista no tiene nodos.");
+        }
+
+        var sb = new StringBuilder();
+        try {
+            writeTo(sb);
+        } catch (IOException e) {
+            // Un StringBuilder no lanza IOException.
+            throw new UncheckedIOException(e);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Escribe la lista con el mismo formato que {@link #toString()}, registro por registro, sin construir el
+     * listado completo en memoria. Con un destino con buffer (por ejemplo, un {@link java.io.BufferedWriter})
+     * la memoria utilizada no depende de la cantidad de registros y las primeras líneas se escriben de
+     * inmediato.
+     *
+     * @param out Destino del listado.
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        writeHeader(out);
+        writePage(out, 0, Integer.MAX_VALUE);
+        out.append('\n');
+    }
+
+    /**
+     * Escribe el encabezado del listado: los totales y los títulos de las columnas.
+     *
+     * @param out Destino del encabezado.
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     */
+    public void writeHeader(Appendable out) throws IOException {
+        BankSnapshot.writeHeader(out, getTotalCapital(), getTotalInterest());
+    }
+
+    /**
+     * Escribe una página del listado, una línea por registro, sin el encabezado.
+     * <p>
+     * Llegar a la posición {@code offset} requiere recorrer los registros anteriores; para recorrer la lista
+     * completa por páginas conviene {@link #writeAfter(Appendable, String, int)}.
+     *
+     * @param out    Destino de las líneas.
+     * @param offset Cantidad de registros que se omiten desde el inicio de la lista.
+     * @param limit  Cantidad máxima de registros que se escriben.
+     * @return Cantidad de registros escritos.
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     * @throws java.lang.IllegalArgumentException Si {@code offset} o {@code limit} son negativos.
+     */
+    public int writePage(Appendable out, int offset, int limit) throws IOException, IllegalArgumentException {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("La posición y la cantidad de registros no pueden ser negativas.");
+        }
+
+        var node = head;
+        for (int i = 0; i < offset && node != null; i++) {
+            node = node.hasNext() ? node.getNext() : null;
+        }
+
+        var row = new StringBuilder(64);
+        int written = 0;
+        for (; written < limit && node != null; written++) {
+            row.setLength(0);
+            out.append(node.getValue().appendTo(row).append('\n'));
+            node = node.hasNext() ? node.getNext() : null;
+        }
+
+        return written;
+    }
+
+    /**
+     * Escribe los registros que siguen a una cédula, una línea por registro, sin el encabezado.
+     * <p>
+     * La cédula se ubica con el índice, por lo que cada página cuesta solo las líneas que escribe. La cédula
+     * devuelta sirve como cursor para pedir la página siguiente.
+     *
+     * @param out   Destino de las líneas.
+     * @param cc    Cédula del último registro de la página anterior, o {@code null} para empezar por el primero.
+     * @param limit Cantidad máxima de registros que se escriben.
+     * @return Cédula del último registro escrito, o {@code null} si ya no quedan registros después de él.
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     * @throws java.lang.NullPointerException Si no existe un usuario con la cédula indicada.
+     * @throws java.lang.IllegalArgumentException Si {@code limit} no es mayor a 0.
+     */
+    public String writeAfter(Appendable out, String cc, int limit) throws IOException, NullPointerException, IllegalArgumentException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("La cantidad de registros debe ser mayor a 0.");
+        }
+
+        var node = head;
+        if (cc != null) {
+            var slot = slotOf(cc);
+            if (slot == ABSENT) {
+                throw new NullPointerException("No existe un usuario con esa cédula.");
+            }
+            node = nodeAfter(nodeAfter(predecessors[slot]));
+        }
+
+        var row = new StringBuilder(64);
+        Node<Record> last = null;
+        for (int i = 0; i < limit && node != null; i++) {
+            row.setLength(0);
+            out.append(node.getValue().appendTo(row).append('\n'));
+            last = node;
+            node = node.hasNext() ? node.getNext() : null;
+        }
+
+        return node == null ? null : last.getValue().getCc();
+    }
+
+    /**
+     * Devuelve una versión simplificada de la lista en un StringBuilder, con los datos de cada registro separados por punto y coma.
+     *
+     * @return Lista en un StringBuilder.
+     * @see java.lang.StringBuilder
+     */
+    public StringBuilder getListSimplified() {
+        StringBuilder sb = new StringBuilder();
+        for (var record : this) {
+            record.appendSimplified(sb).append('\n');
+        }
+
+        return sb;
+    }
+
+    /**
+     * Guarda los registros en un archivo.
+     * <p>
+     * Los registros se escriben uno a uno en un buffer de tamaño fijo, sin construir el archivo completo en
+     * memoria, y el archivo se reemplaza de forma atómica al terminar.
+     *
+     * @param path Ruta del archivo.
+     * @throws java.lang.Exception Cuando ocurre un error al guardar los registros en el archivo.
+     */
+    public void save(Path path) throws Exception {
+        try {
+            LedgerWriter.writeAtomically(path, writer -> {
+                for (var record : this) {
+                    writer.write(record);
+                }
+            });
+        } catch (Exception e) {
+            throw new Exception("Error al guardar los registros en el archivo.\nCausa: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Carga los registros de un archivo.
+     * <p>
+     * El archivo se lee por bloques y cada línea se interpreta una sola vez directamente desde los bytes leídos.
+     * Las líneas inválidas y las cédulas repetidas se ignoran y quedan detalladas en el reporte.
+     *
+     * @param path Ruta del archivo.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo.
+     */
+    public LoadReport load(Path path) throws Exception {
+        return checkpointed(() -> loadText(path));
+    }
+
+    /**
+     * Carga los registros de un archivo sin incorporarlos al diario.
+     *
+     * @param path Ruta del archivo.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo.
+     * @see #load(Path)
+     */
+    private LoadReport loadText(Path path) throws Exception {
+        var report = new LoadReport();
+        var start = System.nanoTime();
+        long bytes = 0;
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var parser = new LedgerParser(mode, 1);
+            var buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+
+            while (!parser.isFinished()) {
+                int read = channel.read(buffer);
+                boolean endOfInput = read < 0;
+                if (!endOfInput) {
+                    bytes += read;
+                }
+
+                buffer.flip();
+                buffer.position(parser.parse(buffer, 0, buffer.limit(), endOfInput, report, this::insert));
+                if (endOfInput) {
+                    break;
+                }
+
+                buffer.compact();
+                if (!buffer.hasRemaining()) {
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                }
+            }
+        } catch (IOException e) {
+            throw new Exception("Error al cargar los registros del archivo.\nCausa: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+
+        report.finish(bytes, System.nanoTime() - start);
+        printReport(report);
+        return report;
+    }
+
+    /**
+     * Carga los registros de un archivo a través de una vista mapeada en memoria.
+     * <p>
+     * El archivo se mapea por ventanas de hasta 256 MiB, por lo que admite archivos de más de 2 GB, y cada
+     * línea se interpreta directamente sobre los bytes mapeados. Una ventana termina en la última línea
+     * completa que contiene; la siguiente ventana comienza en la línea incompleta. El resultado es el mismo
+     * que el de {@link #load(Path)} y el reporte incluye la velocidad en bytes y registros por segundo.
+     * <p>
+     * Si una línea no cabe en la ventana, la ventana se duplica hasta 2 GiB; una línea más larga que eso hace
+     * que se rechace el archivo.
+     *
+     * @param path Ruta del archivo.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo.
+     */
+    public LoadReport loadMapped(Path path) throws Exception {
+        return loadMapped(path, MAP_WINDOW_SIZE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Carga los registros de un archivo a través de ventanas mapeadas en memoria de un tamaño acotado.
+     *
+     * @param path          Ruta del archivo.
+     * @param windowSize    Tamaño inicial de las ventanas.
+     * @param maxWindowSize Tamaño máximo de las ventanas.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo o una línea no cabe
+     *                             en la ventana más grande.
+     * @see #loadMapped(Path)
+     */
+    LoadReport loadMapped(Path path, long windowSize, long maxWindowSize) throws Exception {
+        return checkpointed(() -> loadWindows(path, windowSize, maxWindowSize));
+    }
+
+    /**
+     * Carga los registros de un archivo mapeado en memoria sin incorporarlos al diario.
+     *
+     * @param path          Ruta del archivo.
+     * @param windowSize    Tamaño inicial de las ventanas.
+     * @param maxWindowSize Tamaño máximo de las ventanas.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo o una línea no cabe
+     *                             en la ventana más grande.
+     * @see #loadMapped(Path)
+     */
+    private LoadReport loadWindows(Path path, long windowSize, long maxWindowSize) throws Exception {
+        var report = new LoadReport();
+        var start = System.nanoTime();
+        long position = 0;
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var size = channel.size();
+            var parser = new LedgerParser(mode, 1);
+
+            while (position < size && !parser.isFinished()) {
+                var length = Math.min(windowSize, size - position);
+                var lastWindow = position + length == size;
+                var window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+                int consumed = parser.parse(window, 0, (int) length, lastWindow, report, this::insert);
+                if (consumed == 0 && !lastWindow) {
+                    // La ventana no contiene una línea completa.
+                    if (windowSize >= maxWindowSize) {
+                        throw new Exception("Error al cargar los registros del archivo.\nCausa: La línea que comienza en el byte %d supera los %d bytes.".formatted(position, maxWindowSize));
+                    }
+                    windowSize = Math.min(windowSize * 2, maxWindowSize);
+                }
+                position += lastWindow ? length : consumed;
+            }
+        } catch (IOException e) {
+            throw new Exception("Error al cargar los registros del archivo.\nCausa: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+
+        report.finish(position, System.nanoTime() - start);
+        printReport(report);
+        return report;
+    }
+
+    /**
+     * Carga los registros de un archivo en paralelo utilizando el pool común de fork/join.
+     *
+     * @param path Ruta del archivo.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo.
+     * @see #loadParallel(Path, ForkJoinPool)
+     */
+    public LoadReport loadParallel(Path path) throws Exception {
+        return loadParallel(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Carga los registros de un archivo en paralelo.
+     * <p>
+     * El archivo se divide en porciones que terminan en un salto de línea; cada porción se lee, interpreta y
+     * valida en {@code pool}, calculando su propia suma de capital e interés. Las porciones se incorporan en el
+     * orden del archivo a medida que terminan, por lo que el resultado (orden de los registros, cédulas
+     * repetidas, totales y reporte) es el mismo que el de {@link #load(Path)}.
+     *
+     * @param path Ruta del archivo.
+     * @param pool Pool donde se interpretan las porciones.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo.
+     */
+    public LoadReport loadParallel(Path path, ForkJoinPool pool) throws Exception {
+        return checkpointed(() -> loadChunks(path, pool, 0));
+    }
+
+    /**
+     * Carga los registros de un archivo en paralelo con porciones de un tamaño fijo, sin los límites que aplica
+     * {@link #loadParallel(Path, ForkJoinPool)}. Permite probar la división en porciones con archivos pequeños.
+     *
+     * @param path      Ruta del archivo.
+     * @param pool      Pool donde se interpretan las porciones.
+     * @param chunkSize Tamaño aproximado de cada porción en bytes.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception                Cuando ocurre un error al cargar los registros del archivo.
+     * @throws java.lang.IllegalArgumentException Si el tamaño de las porciones no es positivo.
+     */
+    LoadReport loadParallel(Path path, ForkJoinPool pool, long chunkSize) throws Exception {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de las porciones debe ser mayor a 0.");
+        }
+        return checkpointed(() -> loadChunks(path, pool, chunkSize));
+    }
+
+    /**
+     * Carga los registros de un archivo en paralelo sin incorporarlos al diario.
+     *
+     * @param path      Ruta del archivo.
+     * @param pool      Pool de fork/join donde se interpretan las porciones.
+     * @param chunkSize Tamaño de cada porción en bytes, o 0 para calcularlo según el archivo y el pool.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros del archivo.
+     * @see #loadParallel(Path, ForkJoinPool)
+     */
+    private LoadReport loadChunks(Path path, ForkJoinPool pool, long chunkSize) throws Exception {
+        var report = new LoadReport();
+        var start = System.nanoTime();
+        long bytes = 0;
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (chunkSize == 0) {
+                var targetSize = channel.size() / (pool.getParallelism() * 4L);
+                chunkSize = Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, targetSize));
+            }
+            var chunks = LedgerChunk.split(channel, chunkSize);
+
+            var tasks = new ArrayList<ForkJoinTask<LedgerChunk>>(chunks.size());
+            for (var chunk : chunks) {
+                tasks.add(pool.submit(() -> chunk.parse(channel, mode)));
+            }
+
+            long lineOffset = 0;
+            try {
+                for (var task : tasks) {
+                    var chunk = task.get();
+                    merge(chunk, lineOffset, report);
+                    lineOffset += chunk.getLineCount();
+                    bytes += chunk.getSize();
+
+                    if (chunk.isFinished()) {
+                        break;
+                    }
+                }
+            } finally {
+                tasks.forEach(task -> task.cancel(false));
+            }
+        } catch (IOException | ExecutionException | InterruptedException e) {
+            var cause = e instanceof ExecutionException ? e.getCause() : e;
+            throw new Exception("Error al cargar los registros del archivo.\nCausa: " + cause.getClass().getName() + ": " + cause.getMessage());
+        }
+
+        report.finish(bytes, System.nanoTime() - start);
+        printReport(report);
+        return report;
+    }
+
+    /**
+     * Guarda los registros en una instantánea binaria.
+     * <p>
+     * Cada registro ocupa {@value BinarySnapshot#RECORD_SIZE} bytes y el archivo incluye los totales y sumas de
+     * verificación, por lo que puede cargarse sin interpretar texto. El archivo se reemplaza de forma atómica.
+     *
+     * @param path Ruta del archivo.
+     * @throws java.lang.Exception Cuando ocurre un error al guardar los registros o algún valor no cabe en el formato.
+     * @see #loadBinary(Path)
+     */
+    public void saveBinary(Path path) throws Exception {
+        try {
+            BinarySnapshot.write(path, snapshot -> {
+                for (var record : this) {
+                    snapshot.write(record);
+                }
+            });
+        } catch (IOException e) {
+            throw new Exception("Error al guardar los registros en el archivo.\nCausa: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Carga los registros de una instantánea binaria.
+     * <p>
+     * La instantánea se verifica por completo antes de agregar cualquier registro: si el encabezado, las sumas de
+     * verificación o los totales no coinciden, la lista no se modifica. Las cédulas que ya existen en la lista se
+     * ignoran y quedan detalladas en el reporte, con el número de registro dentro de la instantánea.
+     *
+     * @param path Ruta del archivo.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros o el archivo no es una instantánea válida.
+     * @see #saveBinary(Path)
+     */
+    public LoadReport loadBinary(Path path) throws Exception {
+        return checkpointed(() -> loadSnapshot(path));
+    }
+
+    /**
+     * Carga los registros de una instantánea binaria sin incorporarlos al diario.
+     *
+     * @param path Ruta del archivo.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error al cargar los registros o el archivo no es una instantánea válida.
+     * @see #loadBinary(Path)
+     */
+    private LoadReport loadSnapshot(Path path) throws Exception {
+        var report = new LoadReport();
+        var start = System.nanoTime();
+        List<Record> records;
+
+        try {
+            records = BinarySnapshot.read(path, mode, new MoneyTotal(), new MoneyTotal());
+        } catch (IOException e) {
+            throw new Exception("Error al cargar los registros del archivo.\nCausa: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+
+        long number = 0;
+        for (var record : records) {
+            number++;
+            try {
+                insert(record);
+                report.accept();
+            } catch (IllegalArgumentException e) {
+                report.reject(number, e.getMessage());
+            }
+        }
+
+        report.finish(BinarySnapshot.HEADER_SIZE + records.size() * (long) BinarySnapshot.RECORD_SIZE, System.nanoTime() - start);
+        printReport(report);
+        return report;
+    }
+
+    /**
+     * Convierte un archivo de texto en una instantánea binaria.
+     * <p>
+     * Las líneas del archivo de texto que no cumplen con el formato se ignoran, igual que en {@link #load(Path)}.
+     *
+     * @param text     Ruta del archivo de texto.
+     * @param snapshot Ruta de la instantánea.
+     * @param mode     Representación numérica utilizada al interpretar el archivo de texto.
+     * @return Reporte de la carga del archivo de texto.
+     * @throws java.lang.Exception Cuando ocurre un error al leer el archivo de texto o al escribir la instantánea.
+     */
+    public static LoadReport convertToBinary(Path text, Path snapshot, NumericMode mode) throws Exception {
+        var bank = new BankInfo(mode);
+        var report = bank.load(text);
+        bank.saveBinary(snapshot);
+        return report;
+    }
+
+    /**
+     * Abre un diario de operaciones, recuperando el estado guardado en una instantánea y en el diario.
+     * <p>
+     * Si la instantánea existe, sus registros se cargan con {@link #loadBinary(Path)}; luego se aplican las
+     * operaciones del diario que se registraron sobre esa instantánea. A partir de ese momento, cada llamada a
+     * {@link #add(String, BigDecimal, BigDecimal, short)}, {@link #updateRecord(String, BigDecimal, BigDecimal, short)}
+     * y {@link #removeRecord(String)} se escribe en el diario y se confirma en el disco antes de aplicarse, por lo
+     * que una operación completada no se pierde aunque el programa termine inesperadamente. Las cargas de archivos
+     * no escriben cada registro en el diario: al terminar, incorporan la lista completa a la instantánea con
+     * {@link #compact()}.
+     *
+     * @param snapshot Ruta de la instantánea binaria.
+     * @param journal  Ruta del diario.
+     * @return Reporte de las operaciones aplicadas desde el diario.
+     * @throws java.lang.IllegalStateException Si ya hay un diario abierto o la lista no está vacía.
+     * @throws java.lang.Exception             Cuando ocurre un error al leer la instantánea o el diario.
+     * @see #compact()
+     */
+    public LoadReport openJournal(Path snapshot, Path journal) throws Exception {
+        if (this.journal != null) {
+            throw new IllegalStateException("Ya hay un diario de operaciones abierto.");
+        }
+        if (size != 0) {
+            throw new IllegalStateException("La lista debe estar vacía para recuperar los registros del diario.");
+        }
+
+        if (Files.exists(snapshot)) {
+            loadBinary(snapshot);
+        }
+
+        var report = new LoadReport();
+        var start = System.nanoTime();
+        try {
+            this.journal = Journal.open(journal, BinarySnapshot.identify(snapshot), entry -> replay(entry, report));
+            this.snapshotPath = snapshot;
+            report.finish(Files.size(journal), System.nanoTime() - start);
+        } catch (IOException e) {
+            throw new Exception("Error al cargar el diario de operaciones.\nCausa: " + e.getClass().getName() + ": " + e.getMessage());
+        }
+
+        return report;
+    }
+
+    /**
+     * Carga de registros que no pasa por el diario.
+     */
+    @FunctionalInterface
+    private interface Load {
+        /**
+         * Ejecuta la carga.
+         *
+         * @return Reporte de la carga.
+         * @throws java.lang.Exception Cuando ocurre un error al cargar los registros.
+         */
+        LoadReport run() throws Exception;
+    }
+
+    /**
+     * Ejecuta una carga y, si hay un diario abierto y la lista cambió, incorpora los registros cargados a la
+     * instantánea con {@link #compact()}.
+     * <p>
+     * Las cargas agregan los registros sin escribirlos en el diario; sin la compactación, un cierre inesperado
+     * los perdería y las operaciones registradas después sobre esas cédulas se rechazarían al recuperar el
+     * diario. La compactación también se realiza si la carga falla después de agregar algunos registros.
+     *
+     * @param load Carga.
+     * @return Reporte de la carga.
+     * @throws java.lang.Exception Cuando ocurre un error en la carga o al compactar el diario.
+     */
+    private LoadReport checkpointed(Load load) throws Exception {
+        var modified = modCount;
+        LoadReport report;
+        try {
+            report = load.run();
+        } catch (Exception e) {
+            if (journal != null && modCount != modified) {
+                try {
+                    compact();
+                } catch (Exception suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+
+        if (journal != null && modCount != modified) {
+            compact();
+        }
+        return report;
+    }
+
+    /**
+     * Indica si hay un diario de operaciones abierto.
+     *
+     * @return Booleano que indica si las operaciones se registran en un diario.
+     */
+    public boolean hasJournal() {
+        return journal != null;
+    }
+
+    /**
+     * Aplica una operación del diario sin volver a registrarla.
+     *
+     * @param entry  Operación.
+     * @param report Reporte de las operaciones aplicadas.
+     */
+    private void replay(Journal.Entry entry, LoadReport report) {
+        var number = report.getAccepted() + report.getRejected() + 1;
+        try {
+            switch (entry.operation()) {
+                case Journal.ADD -> insert(new Record(entry.cc(), entry.capital(), entry.interestTax(), entry.day(), mode));
+                case Journal.UPDATE -> {
+                    var slot = index.getOrDefault(entry.cc(), ABSENT);
+                    if (slot == ABSENT) {
+                        throw new NullPointerException("No existe un usuario con esa cédula.");
+                    }
+                    update(slot, entry.capital(), entry.interestTax(), entry.day());
+                }
+                case Journal.REMOVE -> {
+                    var slot = index.getOrDefault(entry.cc(), ABSENT);
+                    if (slot == ABSENT) {
+                        throw new NullPointerException("El valor que desea eliminar no existe en la lista.");
+                    }
+                    unlink(slot);
+                }
+            }
+            report.accept();
+        } catch (IllegalArgumentException | NullPointerException e) {
+            report.reject(number, e.getMessage());
+        }
+    }
+
+    /**
+     * Escribe una operación en el diario, si hay uno abierto, y espera a que quede confirmada en el disco.
+     *
+     * @param entry Operación.
+     * @throws java.lang.IllegalStateException Si la operación no pudo escribirse en el diario.
+     */
+    private void log(Journal.Entry entry) throws IllegalStateException {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.write(entry);
+        } catch (IOException e) {
+            throw new IllegalStateException("Error al registrar la operación en el diario.\nCausa: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Incorpora todas las operaciones del diario a una nueva instantánea y vacía el diario.
+     * <p>
+     * La instantánea se reemplaza de forma atómica antes de vaciar el diario. Si el programa termina entre ambos
+     * pasos, el diario queda asociado a la instantánea anterior y se descarta al abrirlo de nuevo, porque sus
+     * operaciones ya forman parte de la nueva instantánea.
+     *
+     * @throws java.lang.IllegalStateException Si no hay un diario abierto.
+     * @throws java.lang.Exception             Cuando ocurre un error al guardar la instantánea o al vaciar el diario.
+     */
+    public void compact() throws Exception {
+        if (journal == null) {
+            throw new IllegalStateException("No hay un diario de operaciones abierto.");
+        }
+
+        saveBinary(snapshotPath);
+        try {
+            journal.reset(BinarySnapshot.identify(snapshotPath));
+        } catch (IOException e) {
+            throw new Exception("Error al vaciar el diario de operaciones.\nCausa: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cierra el diario de operaciones, si hay uno abierto. Las operaciones posteriores no se registran.
+     *
+     * @throws java.lang.Exception Cuando ocurre un error al cerrar el diario.
+     */
+    public void closeJournal() throws Exception {
+        if (journal == null) {
+            return;
+        }
+
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new Exception("Error al cerrar el diario de operaciones.\nCausa: " + e.getMessage());
+        } finally {
+            journal = null;
+            snapshotPath = null;
+        }
+    }
+
+    /**
+     * Incorpora una porción interpretada a la lista, en el orden del archivo.
+     * <p>
+     * Los registros cuya cédula ya existe se rechazan y se descuentan de la suma parcial de la porción antes de
+     * agregarla a los totales. Las líneas rechazadas se agregan al reporte en orden de línea.
+     *
+     * @param chunk      Porción interpretada.
+     * @param lineOffset Cantidad de líneas de las porciones anteriores.
+     * @param report     Reporte de la carga.
+     */
+    private void merge(LedgerChunk chunk, long lineOffset, LoadReport report) {
+        var records = chunk.getRecords();
+        var duplicates = new ArrayList<LoadReport.Rejection>();
+
+        for (int i = 0; i < records.size(); i++) {
+            var record = records.get(i);
+            if (index.containsKey(record.getCcValue())) {
+                duplicates.add(new LoadReport.Rejection(lineOffset + chunk.getLine(i), "Ya existe un usuario con esa cédula."));
+                MoneyTotal.accumulate(record, true, chunk.getCapital(), chunk.getInterest());
+            } else {
+                add(record);
+                report.accept();
+            }
+        }
+
+        totalCapital.add(chunk.getCapital());
+        totalInterest.add(chunk.getInterest());
+
+        List<LoadReport.Rejection> invalid = chunk.getReport().getRejections();
+        var pendingInvalid = chunk.getReport().getRejected();
+        int i = 0;
+        int j = 0;
+        while (i < invalid.size() || j < duplicates.size()) {
+            if (j == duplicates.size() || (i < invalid.size() && invalid.get(i).line() + lineOffset < duplicates.get(j).line())) {
+                report.reject(invalid.get(i).line() + lineOffset, invalid.get(i).reason());
+                i++;
+                pendingInvalid--;
+            } else {
+                report.reject(duplicates.get(j).line(), duplicates.get(j).reason());
+                j++;
+            }
+        }
+
+        // Las líneas rechazadas que la porción no detalló solo se cuentan.
+        report.countRejected(pendingInvalid);
     }
 }
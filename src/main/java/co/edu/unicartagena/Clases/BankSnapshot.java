@@ -0,0 +1,171 @@
+package co.edu.unicartagena.Clases;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+
+/**
+ * Vista inmutable de los registros y los totales de un banco en un instante dado.
+ * <p>
+ * Los cambios posteriores en el banco no afectan a la vista, por lo que puede recorrerse, listarse o guardarse
+ * sin bloquear a quienes siguen modificando el banco. Los registros de la vista no deben modificarse.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+public final class BankSnapshot {
+    /**
+     * Registros de la vista, en orden de inserción.
+     */
+    private final Iterable<Record> records;
+
+    /**
+     * Cantidad de registros.
+     */
+    private final int size;
+
+    /**
+     * Capital total.
+     */
+    private final BigDecimal totalCapital;
+
+    /**
+     * Interés total.
+     */
+    private final BigDecimal totalInterest;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param records       Registros de la vista, en orden de inserción.
+     * @param size          Cantidad de registros.
+     * @param totalCapital  Capital total.
+     * @param totalInterest Interés total.
+     */
+    BankSnapshot(Iterable<Record> records, int size, BigDecimal totalCapital, BigDecimal totalInterest) {
+        this.records = records;
+        this.size = size;
+        this.totalCapital = totalCapital;
+        this.totalInterest = totalInterest;
+    }
+
+    /**
+     * Obtiene los registros de la vista.
+     *
+     * @return Registros, en orden de inserción.
+     */
+    public Iterable<Record> getRecords() {
+        return records;
+    }
+
+    /**
+     * Obtiene la cantidad de registros.
+     *
+     * @return Cantidad de registros.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Obtiene el capital total.
+     *
+     * @return Capital total.
+     */
+    public BigDecimal getTotalCapital() {
+        return totalCapital;
+    }
+
+    /**
+     * Obtiene el interés total.
+     *
+     * @return Interés total.
+     */
+    public BigDecimal getTotalInterest() {
+        return totalInterest;
+    }
+
+    /**
+     * Devuelve una versión simplificada de los registros en un StringBuilder, con los datos de cada registro
+     * separados por punto y coma.
+     *
+     * @return Registros en un StringBuilder.
+     */
+    public StringBuilder getListSimplified() {
+        var sb = new StringBuilder();
+        for (var record : records) {
+            record.appendSimplified(sb).append('\n');
+        }
+
+        return sb;
+    }
+
+    /**
+     * Guarda los registros de la vista en un archivo con el mismo formato que {@link BankInfo#save(Path)}.
+     *
+     * @param path Ruta del archivo.
+     * @throws java.lang.Exception Cuando ocurre un error al guardar los registros en el archivo.
+     */
+    public void save(Path path) throws Exception {
+        try {
+            LedgerWriter.writeAtomically(path, writer -> {
+                for (var record : records) {
+                    writer.write(record);
+                }
+            });
+        } catch (Exception e) {
+            throw new Exception("Error al guardar los registros en el archivo.\nCausa: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Escribe el encabezado del listado de registros: los totales y los títulos de las columnas.
+     *
+     * @param out           Destino del encabezado.
+     * @param totalCapital  Capital total.
+     * @param totalInterest Interés total.
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     */
+    static void writeHeader(Appendable out, BigDecimal totalCapital, BigDecimal totalInterest) throws IOException {
+        out.append("Capital total: $").append(String.format("%.2f", totalCapital)).append('\n')
+                .append("Interés total: $").append(String.format("%.2f", totalInterest)).append('\n')
+                .append('\n')
+                .append(String.format(Record.getFormat(), "Cédula", "Capital", "Interés", "Día")).append('\n');
+    }
+
+    /**
+     * Escribe los registros de la vista con el mismo formato que {@link #toString()}, uno a uno, sin construir
+     * el listado completo en memoria.
+     *
+     * @param out Destino del listado.
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     */
+    public void writeTo(Appendable out) throws IOException {
+        writeHeader(out, totalCapital, totalInterest);
+        var row = new StringBuilder(64);
+        for (var record : records) {
+            row.setLength(0);
+            out.append(record.appendTo(row).append('\n'));
+        }
+        out.append('\n');
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Devuelve los registros como String con el mismo formato que {@link BankInfo#toString()}.
+     */
+    @Override
+    public String toString() {
+        var sb = new StringBuilder();
+        try {
+            writeTo(sb);
+        } catch (IOException e) {
+            // Un StringBuilder no lanza IOException.
+            throw new UncheckedIOException(e);
+        }
+
+        return sb.toString();
+    }
+}
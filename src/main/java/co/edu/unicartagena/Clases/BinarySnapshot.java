@@ -0,0 +1,372 @@
+package co.edu.unicartagena.Clases;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Formato binario versionado para guardar y cargar los registros de un banco sin interpretar texto.
+ * <p>
+ * El archivo comienza con un encabezado de {@value #HEADER_SIZE} bytes:
+ * <pre>
+ * int   magic          "BKSN"
+ * short version        {@value #VERSION}
+ * long  recordCount
+ * long  totalCapital   en centavos
+ * long  totalInterest  en centavos
+ * int   recordsCrc     CRC32 de la sección de registros
+ * int   headerCrc      CRC32 de los campos anteriores
+ * </pre>
+ * seguido de {@code recordCount} registros de {@value #RECORD_SIZE} bytes:
+ * <pre>
+ * long  cédula
+ * long  capital        en centavos
+ * long  tasa           dígitos sin el punto decimal
+ * byte  decimales de la tasa
+ * short día
+ * </pre>
+ * Todos los valores se almacenan en orden big-endian.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+final class BinarySnapshot {
+    /**
+     * Número que identifica el formato ("BKSN").
+     */
+    static final int MAGIC = 0x424B534E;
+
+    /**
+     * Versión del formato.
+     */
+    static final short VERSION = 1;
+
+    /**
+     * Tamaño del encabezado en bytes.
+     */
+    static final int HEADER_SIZE = 4 + 2 + 8 + 8 + 8 + 4 + 4;
+
+    /**
+     * Tamaño de cada registro en bytes.
+     */
+    static final int RECORD_SIZE = 8 + 8 + 8 + 1 + 2;
+
+    /**
+     * Cantidad de registros que se leen o escriben por bloque.
+     */
+    private static final int BLOCK_RECORDS = 1 << 14;
+
+    /**
+     * Contenido que se escribe en una instantánea.
+     */
+    @FunctionalInterface
+    interface Body {
+        /**
+         * Escribe los registros.
+         *
+         * @param snapshot Instantánea en escritura.
+         * @throws java.io.IOException Si ocurre un error al escribir.
+         */
+        void writeTo(BinarySnapshot snapshot) throws IOException;
+    }
+
+    /**
+     * Canal del archivo de destino.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Buffer de escritura.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Suma de verificación de la sección de registros.
+     */
+    private final CRC32 crc;
+
+    /**
+     * Cantidad de registros escritos.
+     */
+    private long count;
+
+    /**
+     * Capital total de los registros escritos.
+     */
+    private final MoneyTotal capital;
+
+    /**
+     * Interés total de los registros escritos.
+     */
+    private final MoneyTotal interest;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param channel Canal del archivo de destino.
+     */
+    private BinarySnapshot(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BLOCK_RECORDS * RECORD_SIZE);
+        this.crc = new CRC32();
+        this.capital = new MoneyTotal();
+        this.interest = new MoneyTotal();
+    }
+
+    /**
+     * Escribe una instantánea de forma atómica.
+     * <p>
+     * Los totales del encabezado se calculan a partir de los registros escritos, por lo que siempre coinciden
+     * con los que recalcula {@link #read(Path, NumericMode, MoneyTotal, MoneyTotal)}.
+     *
+     * @param path Ruta del archivo de destino.
+     * @param body Registros de la instantánea.
+     * @return Cantidad de registros escritos.
+     * @throws java.io.IOException Si ocurre un error al escribir o algún valor no cabe en el formato.
+     */
+    static long write(Path path, Body body) throws IOException {
+        return AtomicFile.write(path, channel -> {
+            var snapshot = new BinarySnapshot(channel);
+            channel.position(HEADER_SIZE);
+            body.writeTo(snapshot);
+            snapshot.flush();
+
+            var capitalCents = toCents(snapshot.capital.get(), "El capital total");
+            var interestCents = toCents(snapshot.interest.get(), "El interés total");
+            var header = header(snapshot.count, capitalCents, interestCents, (int) snapshot.crc.getValue());
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            return snapshot.count;
+        });
+    }
+
+    /**
+     * Construye el encabezado de una instantánea.
+     *
+     * @param count         Cantidad de registros.
+     * @param capitalCents  Capital total en centavos.
+     * @param interestCents Interés total en centavos.
+     * @param recordsCrc    Suma de verificación de la sección de registros.
+     * @return Buffer con el encabezado, listo para leerse.
+     */
+    private static ByteBuffer header(long count, long capitalCents, long interestCents, int recordsCrc) {
+        var header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putShort(VERSION).putLong(count).putLong(capitalCents).putLong(interestCents).putInt(recordsCrc);
+
+        var crc = new CRC32();
+        crc.update(header.array(), 0, header.position());
+        header.putInt((int) crc.getValue());
+        return header.flip();
+    }
+
+    /**
+     * Convierte un monto en centavos.
+     *
+     * @param amount Monto.
+     * @param name   Nombre del monto, para el mensaje de error.
+     * @return Monto en centavos.
+     * @throws java.io.IOException Si el monto tiene más de dos decimales o no cabe en un {@code long}.
+     */
+    private static long toCents(BigDecimal amount, String name) throws IOException {
+        try {
+            return amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IOException("%s ($%s) no puede representarse en el formato binario.".formatted(name, amount.toPlainString()));
+        }
+    }
+
+    /**
+     * Escribe un registro.
+     *
+     * @param record Registro.
+     * @throws java.io.IOException Si ocurre un error al escribir o algún valor del registro no cabe en el formato.
+     */
+    void write(Record record) throws IOException {
+        long capitalCents;
+        long rateUnscaled;
+        int rateScale = record.getRateScale();
+
+        try {
+            capitalCents = record.getCapitalCents();
+            if (rateScale >= 0) {
+                rateUnscaled = record.getRateUnscaled();
+            } else {
+                var rate = record.getInterestTax();
+                rateScale = rate.scale();
+                rateUnscaled = rate.unscaledValue().longValueExact();
+                if (rateScale < 0 || rateScale > Byte.MAX_VALUE) {
+                    throw new ArithmeticException();
+                }
+            }
+        } catch (ArithmeticException e) {
+            throw new IOException("El registro %s no puede representarse en el formato binario.".formatted(record.getCc()));
+        }
+
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+
+        buffer.putLong(record.getCcValue())
+                .putLong(capitalCents)
+                .putLong(rateUnscaled)
+                .put((byte) rateScale)
+                .putShort(record.getDay());
+        MoneyTotal.accumulate(record, false, capital, interest);
+        count++;
+    }
+
+    /**
+     * Vacía el buffer en el archivo, actualizando la suma de verificación.
+     *
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     */
+    private void flush() throws IOException {
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Lee una instantánea y verifica su integridad.
+     * <p>
+     * Los registros solo se devuelven si el encabezado, la suma de verificación de los registros y los totales
+     * recalculados coinciden con los almacenados.
+     *
+     * @param path     Ruta del archivo.
+     * @param mode     Representación numérica de los registros creados.
+     * @param capital  Total donde se acumula el capital de los registros leídos.
+     * @param interest Total donde se acumula el interés de los registros leídos.
+     * @return Registros en el orden en que fueron guardados.
+     * @throws java.io.IOException Si ocurre un error al leer el archivo o el archivo no es una instantánea válida.
+     */
+    static List<Record> read(Path path, NumericMode mode, MoneyTotal capital, MoneyTotal interest) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header);
+            header.flip();
+
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new IOException("El archivo no es una instantánea binaria.");
+            }
+            var version = header.getShort();
+            if (version != VERSION) {
+                throw new IOException("Versión de instantánea no soportada: %d.".formatted(version));
+            }
+
+            var count = header.getLong();
+            var capitalCents = header.getLong();
+            var interestCents = header.getLong();
+            var recordsCrc = header.getInt();
+            var headerCrc = new CRC32();
+            headerCrc.update(header.array(), 0, header.position());
+            if (header.getInt() != (int) headerCrc.getValue()) {
+                throw new IOException("El encabezado de la instantánea está dañado.");
+            }
+            if (count < 0 || channel.size() != HEADER_SIZE + count * RECORD_SIZE) {
+                throw new IOException("El tamaño de la instantánea no coincide con su cantidad de registros.");
+            }
+
+            var records = new ArrayList<Record>((int) Math.min(count, Integer.MAX_VALUE - 8));
+            var buffer = ByteBuffer.allocate(BLOCK_RECORDS * RECORD_SIZE);
+            var crc = new CRC32();
+
+            for (long remaining = count; remaining > 0; ) {
+                var block = (int) Math.min(remaining, BLOCK_RECORDS);
+                buffer.clear().limit(block * RECORD_SIZE);
+                readFully(channel, buffer);
+                crc.update(buffer.array(), 0, buffer.limit());
+                buffer.flip();
+
+                for (int i = 0; i < block; i++) {
+                    var record = decode(buffer, mode);
+                    MoneyTotal.accumulate(record, false, capital, interest);
+                    records.add(record);
+                }
+                remaining -= block;
+            }
+
+            if ((int) crc.getValue() != recordsCrc) {
+                throw new IOException("Los registros de la instantánea están dañados.");
+            }
+            if (capital.get().compareTo(BigDecimal.valueOf(capitalCents, 2)) != 0
+                    || interest.get().compareTo(BigDecimal.valueOf(interestCents, 2)) != 0) {
+                throw new IOException("Los totales de la instantánea no coinciden con sus registros.");
+            }
+
+            return records;
+        }
+    }
+
+    /**
+     * Obtiene el identificador de una instantánea a partir de las sumas de verificación de su encabezado.
+     *
+     * @param path Ruta del archivo.
+     * @return Identificador de la instantánea, o 0 si el archivo no existe.
+     * @throws java.io.IOException Si ocurre un error al leer el archivo o no es una instantánea válida.
+     */
+    static long identify(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header);
+            if (header.hasRemaining() || header.getInt(0) != MAGIC) {
+                throw new IOException("El archivo no es una instantánea binaria.");
+            }
+
+            return header.getLong(HEADER_SIZE - 8);
+        }
+    }
+
+    /**
+     * Interpreta un registro.
+     *
+     * @param buffer Buffer posicionado al inicio del registro.
+     * @param mode   Representación numérica del registro.
+     * @return Registro.
+     * @throws java.io.IOException Si el registro contiene valores inválidos.
+     */
+    private static Record decode(ByteBuffer buffer, NumericMode mode) throws IOException {
+        var cc = buffer.getLong();
+        var capitalCents = buffer.getLong();
+        var rateUnscaled = buffer.getLong();
+        var rateScale = buffer.get();
+        var day = buffer.getShort();
+
+        if (cc < 0 || cc >= Decimals.POWERS_OF_TEN[10] || capitalCents < 0 || rateUnscaled < 0 || rateScale < 0) {
+            throw new IOException("La instantánea contiene un registro inválido.");
+        }
+
+        try {
+            return new Record(cc, capitalCents, rateUnscaled, rateScale, day, mode);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("La instantánea contiene un registro inválido: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lee del canal hasta llenar el buffer o llegar al final del archivo.
+     *
+     * @param channel Canal del archivo.
+     * @param buffer  Buffer de destino.
+     * @throws java.io.IOException Si ocurre un error al leer.
+     */
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // Continúa hasta llenar el buffer.
+        }
+    }
+}
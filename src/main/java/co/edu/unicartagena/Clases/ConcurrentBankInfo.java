@@ -0,0 +1,578 @@
+package co.edu.unicartagena.Clases;
+
+import co.edu.unicartagena.Estructuras.LongIntHashMap;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Registros de un banco que admiten operaciones concurrentes desde varios hilos.
+ * <p>
+ * Los registros se reparten en franjas según su cédula. Cada franja tiene su propio candado, sus registros y sus
+ * totales parciales, por lo que las operaciones sobre cédulas de franjas distintas no se bloquean entre sí. Los
+ * registros nunca se modifican: una actualización reemplaza el registro por uno nuevo.
+ * <p>
+ * Los totales parciales de cada franja se publican como un valor inmutable después de cada escritura, de modo
+ * que {@link #getSize()}, {@link #getTotalCapital()} y {@link #getTotalInterest()} los suman sin tomar ningún
+ * candado. Cada franja es consistente por sí misma; una operación concurrente con la lectura puede o no estar
+ * incluida, como en cualquier otra lectura concurrente.
+ * <p>
+ * {@link #snapshot()} toma los candados de todas las franjas, en orden, solo mientras marca sus registros como
+ * compartidos y copia sus totales parciales, lo que cuesta O(franjas) y no depende de la cantidad de registros.
+ * Así la vista refleja un único instante: una operación que afecta a dos franjas nunca queda a medias en ella.
+ * La primera baja o actualización posterior en cada franja copia sus registros antes de modificarlos, por lo que
+ * la vista permanece intacta mientras se recorre y sus totales siempre coinciden con sus registros.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ * @see co.edu.unicartagena.Clases.BankInfo
+ */
+public class ConcurrentBankInfo {
+    /**
+     * Cantidad mínima de franjas.
+     */
+    private static final int MIN_STRIPES = 16;
+
+    /**
+     * Capacidad inicial de los arreglos de cada franja.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Valor que devuelve el índice de una franja cuando una cédula no está registrada.
+     */
+    private static final int ABSENT = -1;
+
+    /**
+     * Registro capturado por una vista junto con su orden de inserción.
+     *
+     * @param sequence Orden de inserción.
+     * @param record   Registro.
+     */
+    private record Entry(long sequence, Record record) {
+    }
+
+    /**
+     * Totales parciales de una franja. Los montos se acumulan en centavos mientras caben en un {@code long} y el
+     * resto como {@link BigDecimal}, igual que {@link MoneyTotal}.
+     *
+     * @param size          Cantidad de registros.
+     * @param capitalCents  Capital en centavos.
+     * @param capitalRest   Capital que no cupo en {@code capitalCents}.
+     * @param interestCents Interés en centavos.
+     * @param interestRest  Interés que no cupo en {@code interestCents}.
+     */
+    private record Totals(int size, long capitalCents, BigDecimal capitalRest, long interestCents, BigDecimal interestRest) {
+        /**
+         * Totales de una franja vacía.
+         */
+        static final Totals EMPTY = new Totals(0, 0, BigDecimal.ZERO, 0, BigDecimal.ZERO);
+
+        /**
+         * Obtiene los totales después de agregar o quitar un registro.
+         *
+         * @param record   Registro.
+         * @param subtract Booleano que indica si el registro se quita.
+         * @return Nuevos totales.
+         */
+        Totals with(Record record, boolean subtract) {
+            var sign = subtract ? -1 : 1;
+            var capitalCents = this.capitalCents;
+            var capitalRest = this.capitalRest;
+            try {
+                capitalCents = Math.addExact(capitalCents, sign * record.getCapitalCents());
+            } catch (ArithmeticException e) {
+                capitalRest = subtract ? capitalRest.subtract(record.getCapital()) : capitalRest.add(record.getCapital());
+            }
+
+            var interestCents = this.interestCents;
+            var interestRest = this.interestRest;
+            try {
+                var cents = record.isFixedPoint() ? record.getInterestCents() : record.getInterest().movePointRight(2).longValueExact();
+                interestCents = Math.addExact(interestCents, sign * cents);
+            } catch (ArithmeticException e) {
+                interestRest = subtract ? interestRest.subtract(record.getInterest()) : interestRest.add(record.getInterest());
+            }
+
+            return new Totals(size + sign, capitalCents, capitalRest, interestCents, interestRest);
+        }
+
+        /**
+         * Suma el capital a un total.
+         *
+         * @param total Total.
+         */
+        void addCapitalTo(MoneyTotal total) {
+            total.addCents(capitalCents);
+            total.add(capitalRest);
+        }
+
+        /**
+         * Suma el interés a un total.
+         *
+         * @param total Total.
+         */
+        void addInterestTo(MoneyTotal total) {
+            total.addCents(interestCents);
+            total.add(interestRest);
+        }
+    }
+
+    /**
+     * Registros de una franja capturados por una vista. Los arreglos no se modifican después de la captura.
+     *
+     * @param records   Registros; solo las primeras {@code size} posiciones están ocupadas.
+     * @param sequences Orden de inserción de cada registro, por posición.
+     * @param size      Cantidad de registros.
+     */
+    private record Capture(Record[] records, long[] sequences, int size) {
+    }
+
+    /**
+     * Franja de registros protegida por un mismo candado.
+     * <p>
+     * Los registros se guardan en arreglos compactos y el índice relaciona cada cédula con su posición; al
+     * eliminar un registro, su posición se ocupa con el último.
+     */
+    private static final class Stripe {
+        /**
+         * Candado de la franja; protege todos los campos salvo {@link #totals}.
+         */
+        final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * Posición de cada cédula en {@link #records}.
+         */
+        final LongIntHashMap index = new LongIntHashMap();
+
+        /**
+         * Registros de la franja.
+         */
+        Record[] records = new Record[INITIAL_CAPACITY];
+
+        /**
+         * Orden de inserción de cada registro, por posición.
+         */
+        long[] sequences = new long[INITIAL_CAPACITY];
+
+        /**
+         * Booleano que indica si {@link #records} y {@link #sequences} pertenecen también a una vista y deben
+         * copiarse antes de modificar una posición ocupada.
+         */
+        boolean shared;
+
+        /**
+         * Totales parciales de la franja. Se reemplazan bajo el candado y se leen sin él.
+         */
+        volatile Totals totals = Totals.EMPTY;
+
+        /**
+         * Prepara los arreglos para modificarlos, copiándolos si pertenecen a una vista o no tienen capacidad para
+         * un registro más.
+         *
+         * @param size Cantidad de registros de la franja.
+         */
+        void writable(int size) {
+            if (shared || size == records.length) {
+                var capacity = size == records.length ? size * 2 : records.length;
+                records = Arrays.copyOf(records, capacity);
+                sequences = Arrays.copyOf(sequences, capacity);
+                shared = false;
+            }
+        }
+    }
+
+    /**
+     * Franjas de registros. La cantidad es una potencia de dos.
+     */
+    private final Stripe[] stripes;
+
+    /**
+     * Representación numérica de los registros y los totales.
+     */
+    private final NumericMode mode;
+
+    /**
+     * Contador del orden de inserción.
+     */
+    private final AtomicLong sequence;
+
+    /**
+     * Constructor de la clase.
+     */
+    public ConcurrentBankInfo() {
+        this(NumericMode.BIG_DECIMAL);
+    }
+
+    /**
+     * Constructor de la clase. Utiliza cuatro franjas por procesador disponible.
+     *
+     * @param mode Representación numérica de los registros y los totales.
+     */
+    public ConcurrentBankInfo(NumericMode mode) {
+        this(mode, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param mode    Representación numérica de los registros y los totales.
+     * @param stripes Cantidad mínima de franjas; se redondea a la siguiente potencia de dos.
+     * @throws java.lang.IllegalArgumentException Si la cantidad de franjas no es positiva.
+     */
+    public ConcurrentBankInfo(NumericMode mode, int stripes) throws IllegalArgumentException {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("La cantidad de franjas debe ser mayor a 0");
+        }
+
+        var count = Integer.highestOneBit(Math.max(stripes, MIN_STRIPES) - 1) << 1;
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe();
+        }
+
+        this.mode = mode;
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     * Obtiene la representación numérica de los registros y los totales.
+     *
+     * @return Representación numérica.
+     */
+    public NumericMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Obtiene la franja de una cédula.
+     *
+     * @param cc Cédula del usuario.
+     * @return Franja.
+     */
+    private Stripe stripeOf(long cc) {
+        var hash = cc * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash >>> 32) & (stripes.length - 1)];
+    }
+
+    /**
+     * Agrega un registro.
+     *
+     * @param cc          Cédula del usuario.
+     * @param capital     Capital inicial del registro.
+     * @param interestTax Tasa de interés del registro.
+     * @param day         Día del usuario.
+     * @throws java.lang.IllegalArgumentException Si ya existe un usuario con la cédula indicada o si los datos no son válidos.
+     */
+    public void add(String cc, BigDecimal capital, BigDecimal interestTax, short day) throws IllegalArgumentException {
+        var record = new Record(cc, capital, interestTax, day, mode);
+        var key = record.getCcValue();
+        var stripe = stripeOf(key);
+
+        stripe.lock.lock();
+        try {
+            if (stripe.index.containsKey(key)) {
+                throw new IllegalArgumentException("Ya existe un usuario con esa cédula.");
+            }
+
+            // Agregar al final no modifica las posiciones capturadas por una vista, así que solo se copia si falta espacio.
+            var totals = stripe.totals;
+            var slot = totals.size();
+            if (slot == stripe.records.length) {
+                stripe.writable(slot);
+            }
+            stripe.records[slot] = record;
+            stripe.sequences[slot] = sequence.getAndIncrement();
+            stripe.index.put(key, slot);
+            stripe.totals = totals.with(record, false);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Remueve un registro.
+     *
+     * @param cc Cédula del usuario.
+     * @throws java.lang.NullPointerException Si no existe un usuario con la cédula indicada.
+     */
+    public void removeRecord(String cc) throws NullPointerException {
+        var key = parseOrAbsent(cc);
+        var stripe = stripeOf(key);
+
+        stripe.lock.lock();
+        try {
+            var slot = key < 0 ? ABSENT : stripe.index.getOrDefault(key, ABSENT);
+            if (slot == ABSENT) {
+                throw new NullPointerException("El valor que desea eliminar no existe en la lista.");
+            }
+
+            var totals = stripe.totals;
+            var last = totals.size() - 1;
+            stripe.writable(totals.size());
+            var removed = stripe.records[slot];
+            if (slot != last) {
+                stripe.records[slot] = stripe.records[last];
+                stripe.sequences[slot] = stripe.sequences[last];
+                stripe.index.put(stripe.records[slot].getCcValue(), slot);
+            }
+            stripe.records[last] = null;
+            stripe.index.remove(key, ABSENT);
+            stripe.totals = totals.with(removed, true);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Actualiza un registro, reemplazándolo por uno nuevo con los datos indicados.
+     *
+     * @param cc          Cédula del usuario.
+     * @param capital     Capital del usuario.
+     * @param interestTax Tasa de interés del usuario.
+     * @param day         Día en que el depósito fue realizado.
+     * @throws java.lang.NullPointerException     Si no existe un usuario con la cédula indicada.
+     * @throws java.lang.IllegalArgumentException Si los datos no son válidos.
+     */
+    public void updateRecord(String cc, BigDecimal capital, BigDecimal interestTax, short day) throws NullPointerException {
+        var key = parseOrAbsent(cc);
+        if (key < 0) {
+            throw new NullPointerException("No existe un usuario con esa cédula.");
+        }
+
+        var record = new Record(key, capital, interestTax, day, mode);
+        var stripe = stripeOf(key);
+
+        stripe.lock.lock();
+        try {
+            var slot = stripe.index.getOrDefault(key, ABSENT);
+            if (slot == ABSENT) {
+                throw new NullPointerException("No existe un usuario con esa cédula.");
+            }
+
+            var totals = stripe.totals;
+            stripe.writable(totals.size());
+            var previous = stripe.records[slot];
+            stripe.records[slot] = record;
+            stripe.totals = totals.with(previous, true).with(record, false);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Obtiene un registro. El registro devuelto no debe modificarse.
+     *
+     * @param cc Cédula del usuario.
+     * @return Registro, o {@code null} si no existe un usuario con la cédula indicada.
+     */
+    public Record getRecord(String cc) {
+        var key = parseOrAbsent(cc);
+        if (key < 0) {
+            return null;
+        }
+
+        var stripe = stripeOf(key);
+        stripe.lock.lock();
+        try {
+            var slot = stripe.index.getOrDefault(key, ABSENT);
+            return slot == ABSENT ? null : stripe.records[slot];
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * Convierte una cédula en número.
+     *
+     * @param cc Cédula del usuario.
+     * @return Cédula como número, o -1 si la cédula no es válida.
+     */
+    private static long parseOrAbsent(String cc) {
+        try {
+            return Record.parseCC(cc);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de registros, sin detener a los demás hilos.
+     *
+     * @return Cantidad de registros.
+     */
+    public int getSize() {
+        int size = 0;
+        for (var stripe : stripes) {
+            size += stripe.totals.size();
+        }
+        return size;
+    }
+
+    /**
+     * Obtiene el capital total registrado, sin detener a los demás hilos.
+     *
+     * @return Capital total.
+     */
+    public BigDecimal getTotalCapital() {
+        var total = new MoneyTotal();
+        for (var stripe : stripes) {
+            stripe.totals.addCapitalTo(total);
+        }
+        return total.get();
+    }
+
+    /**
+     * Obtiene el interés total registrado, sin detener a los demás hilos.
+     *
+     * @return Interés total.
+     */
+    public BigDecimal getTotalInterest() {
+        var total = new MoneyTotal();
+        for (var stripe : stripes) {
+            stripe.totals.addInterestTo(total);
+        }
+        return total.get();
+    }
+
+    /**
+     * Obtiene una vista inmutable de los registros y los totales en un mismo instante.
+     * <p>
+     * Se toman los candados de todas las franjas en orden (los escritores solo toman uno, por lo que no hay
+     * interbloqueos) y se sueltan en cuanto cada franja queda marcada como compartida; los registros se ordenan
+     * la primera vez que se recorre la vista, sin bloquear a los demás hilos. Los totales de la vista son los de
+     * los registros capturados.
+     *
+     * @return Vista de los registros.
+     */
+    public BankSnapshot snapshot() {
+        var captured = new ArrayList<Capture>(stripes.length);
+        var capital = new MoneyTotal();
+        var interest = new MoneyTotal();
+        int size = 0;
+
+        var totals = new Totals[stripes.length];
+        int locked = 0;
+        try {
+            for (var stripe : stripes) {
+                stripe.lock.lock();
+                locked++;
+            }
+            for (int i = 0; i < stripes.length; i++) {
+                var stripe = stripes[i];
+                stripe.shared = true;
+                totals[i] = stripe.totals;
+                captured.add(new Capture(stripe.records, stripe.sequences, totals[i].size()));
+            }
+        } finally {
+            for (int i = 0; i < locked; i++) {
+                stripes[i].lock.unlock();
+            }
+        }
+
+        for (var stripeTotals : totals) {
+            stripeTotals.addCapitalTo(capital);
+            stripeTotals.addInterestTo(interest);
+            size += stripeTotals.size();
+        }
+
+        return new BankSnapshot(new CapturedRecords(captured, size), size, capital.get(), interest.get());
+    }
+
+    /**
+     * Registros capturados por una vista. Se ordenan por orden de inserción la primera vez que se recorren, de
+     * modo que las vistas que solo consultan los totales no pagan el ordenamiento.
+     */
+    private static final class CapturedRecords implements Iterable<Record> {
+        /**
+         * Registros de cada franja en el momento de la captura.
+         */
+        private final List<Capture> captured;
+
+        /**
+         * Cantidad de registros capturados.
+         */
+        private final int size;
+
+        /**
+         * Registros ordenados, o {@code null} si aún no se han recorrido.
+         */
+        private volatile List<Record> sorted;
+
+        /**
+         * Constructor de la clase.
+         *
+         * @param captured Registros de cada franja.
+         * @param size     Cantidad de registros.
+         */
+        private CapturedRecords(List<Capture> captured, int size) {
+            this.captured = captured;
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Record> iterator() {
+            var records = sorted;
+            if (records == null) {
+                synchronized (this) {
+                    records = sorted;
+                    if (records == null) {
+                        records = sort();
+                        sorted = records;
+                    }
+                }
+            }
+            return records.iterator();
+        }
+
+        /**
+         * Ordena los registros capturados por orden de inserción.
+         *
+         * @return Registros ordenados.
+         */
+        private List<Record> sort() {
+            var entries = new ArrayList<Entry>(size);
+            for (var capture : captured) {
+                for (int i = 0; i < capture.size(); i++) {
+                    entries.add(new Entry(capture.sequences()[i], capture.records()[i]));
+                }
+            }
+            entries.sort(Comparator.comparingLong(Entry::sequence));
+
+            var records = new ArrayList<Record>(size);
+            for (var entry : entries) {
+                records.add(entry.record());
+            }
+            return Collections.unmodifiableList(records);
+        }
+    }
+
+    /**
+     * Guarda una vista de los registros en un archivo, sin detener a los demás hilos durante la escritura.
+     *
+     * @param path Ruta del archivo.
+     * @throws java.lang.Exception Cuando ocurre un error al guardar los registros en el archivo.
+     * @see co.edu.unicartagena.Clases.BankSnapshot#save(Path)
+     */
+    public void save(Path path) throws Exception {
+        snapshot().save(path);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Devuelve una vista de los registros como String, mostrando el total del capital e interés acumulado.
+     */
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+}
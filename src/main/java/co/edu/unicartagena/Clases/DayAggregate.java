@@ -0,0 +1,35 @@
+package co.edu.unicartagena.Clases;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Acumulados de los registros cuyos depósitos se realizaron en un tramo de días.
+ * <p>
+ * El interés de un registro es {@code capital × tasa + (360 - día) / 360}, redondeado hacia arriba a centavos.
+ * Como los tres términos se acumulan por separado, el interés se puede proyectar para otra tasa sin recorrer los
+ * registros; la proyección omite el redondeo de cada registro, por lo que difiere del interés exacto en menos de
+ * un centavo por registro.
+ *
+ * @param count        Cantidad de registros.
+ * @param capital      Suma del capital.
+ * @param capitalRate  Suma de {@code capital × tasa}.
+ * @param yearFraction Suma de la fracción del año {@code (360 - día) / 360}, con 10 decimales por registro.
+ * @param interest     Suma del interés de los registros.
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ * @see BankInfo#aggregateDays(short, short)
+ */
+public record DayAggregate(long count, BigDecimal capital, BigDecimal capitalRate, BigDecimal yearFraction,
+                           BigDecimal interest) {
+    /**
+     * Método que permite proyectar el interés de los registros si la tasa de todos cambiara.
+     *
+     * @param rateShift Cambio de la tasa de interés; puede ser negativo.
+     * @return Interés proyectado, redondeado a centavos.
+     * @throws java.lang.NullPointerException Si el cambio es {@code null}.
+     */
+    public BigDecimal projectInterest(BigDecimal rateShift) throws NullPointerException {
+        return capitalRate.add(capital.multiply(rateShift)).add(yearFraction).setScale(2, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,132 @@
+package co.edu.unicartagena.Clases;
+
+import co.edu.unicartagena.Estructuras.FenwickTree;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Acumulados de los registros de un {@link BankInfo} agrupados por día de depósito.
+ * <p>
+ * Hay un grupo por cada día válido (0 a 360) y cada acumulado se guarda en un {@link FenwickTree}, de modo que
+ * agregar o quitar un registro y consultar un tramo de días cuestan O(log 361).
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+final class DayBuckets {
+    /**
+     * Cantidad de días válidos.
+     */
+    static final int DAYS = 361;
+
+    /**
+     * Fracción del año {@code (360 - día) / 360} de cada día, con el mismo redondeo que {@link Record#getInterest()}.
+     */
+    private static final BigDecimal[] YEAR_FRACTIONS = new BigDecimal[DAYS];
+
+    static {
+        var year = BigDecimal.valueOf(360);
+        for (int day = 0; day < DAYS; day++) {
+            YEAR_FRACTIONS[day] = BigDecimal.valueOf(360 - day).divide(year, 10, RoundingMode.HALF_UP);
+        }
+    }
+
+    /**
+     * Cantidad de registros por día.
+     */
+    private final FenwickTree<Long> counts;
+
+    /**
+     * Suma del capital por día.
+     */
+    private final FenwickTree<BigDecimal> capital;
+
+    /**
+     * Suma de {@code capital × tasa} por día.
+     */
+    private final FenwickTree<BigDecimal> capitalRate;
+
+    /**
+     * Suma de la fracción del año por día, es decir, la cantidad de registros por la fracción del día.
+     */
+    private final FenwickTree<BigDecimal> yearFraction;
+
+    /**
+     * Suma del interés por día.
+     */
+    private final FenwickTree<BigDecimal> interest;
+
+    /**
+     * Constructor de la clase a partir de los registros existentes, en O(n).
+     *
+     * @param records Registros.
+     */
+    DayBuckets(Iterable<Record> records) {
+        var counts = new Long[DAYS];
+        var capital = new BigDecimal[DAYS];
+        var capitalRate = new BigDecimal[DAYS];
+        var yearFraction = new BigDecimal[DAYS];
+        var interest = new BigDecimal[DAYS];
+        var rawCounts = new long[DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            capital[day] = capitalRate[day] = interest[day] = BigDecimal.ZERO;
+        }
+
+        for (var record : records) {
+            var day = record.getDay();
+            rawCounts[day]++;
+            capital[day] = capital[day].add(record.getCapital());
+            capitalRate[day] = capitalRate[day].add(record.getCapital().multiply(record.getInterestTax()));
+            interest[day] = interest[day].add(record.getInterest());
+        }
+        for (int day = 0; day < DAYS; day++) {
+            counts[day] = rawCounts[day];
+            yearFraction[day] = YEAR_FRACTIONS[day].multiply(BigDecimal.valueOf(rawCounts[day]));
+        }
+
+        this.counts = new FenwickTree<>(counts, 0L, Long::sum, (a, b) -> a - b);
+        this.capital = new FenwickTree<>(capital, BigDecimal.ZERO, BigDecimal::add, BigDecimal::subtract);
+        this.capitalRate = new FenwickTree<>(capitalRate, BigDecimal.ZERO, BigDecimal::add, BigDecimal::subtract);
+        this.yearFraction = new FenwickTree<>(yearFraction, BigDecimal.ZERO, BigDecimal::add, BigDecimal::subtract);
+        this.interest = new FenwickTree<>(interest, BigDecimal.ZERO, BigDecimal::add, BigDecimal::subtract);
+    }
+
+    /**
+     * Agrega o quita un registro de los acumulados de su día.
+     *
+     * @param record   Registro.
+     * @param subtract Booleano que indica si el registro se quita.
+     */
+    void accumulate(Record record, boolean subtract) {
+        var day = record.getDay();
+        var capital = record.getCapital();
+        var capitalRate = capital.multiply(record.getInterestTax());
+        var yearFraction = YEAR_FRACTIONS[day];
+        var interest = record.getInterest();
+        if (subtract) {
+            capital = capital.negate();
+            capitalRate = capitalRate.negate();
+            yearFraction = yearFraction.negate();
+            interest = interest.negate();
+        }
+
+        counts.add(day, subtract ? -1L : 1L);
+        this.capital.add(day, capital);
+        this.capitalRate.add(day, capitalRate);
+        this.yearFraction.add(day, yearFraction);
+        this.interest.add(day, interest);
+    }
+
+    /**
+     * Obtiene los acumulados de un tramo de días.
+     *
+     * @param from Primer día, incluido.
+     * @param to   Último día, incluido.
+     * @return Acumulados del tramo.
+     */
+    DayAggregate aggregate(int from, int to) {
+        return new DayAggregate(counts.sum(from, to), capital.sum(from, to), capitalRate.sum(from, to),
+                yearFraction.sum(from, to), interest.sum(from, to));
+    }
+}
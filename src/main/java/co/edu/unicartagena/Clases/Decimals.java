@@ -0,0 +1,191 @@
+package co.edu.unicartagena.Clases;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Utilidades para escribir números en texto sin pasar por {@link String#format(String, Object...)}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+final class Decimals {
+    /**
+     * Potencias de diez de 0 a 18.
+     */
+    static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Separador decimal de una configuración regional.
+     *
+     * @param locale    Configuración regional consultada.
+     * @param separator Separador decimal, o {@code 0} si la configuración regional no usa dígitos ASCII.
+     */
+    private record Symbols(Locale locale, char separator) {
+    }
+
+    /**
+     * Último separador decimal consultado, o {@code null} si todavía no se ha consultado ninguno.
+     */
+    private static volatile Symbols symbols;
+
+    /**
+     * Constructor privado; la clase solo tiene métodos estáticos.
+     */
+    private Decimals() {
+    }
+
+    /**
+     * Obtiene la cantidad de dígitos de un número no negativo.
+     *
+     * @param value Número no negativo.
+     * @return Cantidad de dígitos, al menos 1.
+     */
+    static int digits(long value) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+
+        return digits;
+    }
+
+    /**
+     * Escribe un número no negativo rellenando con ceros a la izquierda hasta cierta cantidad de dígitos.
+     *
+     * @param buffer Buffer de destino.
+     * @param value  Número no negativo.
+     * @param width  Cantidad mínima de dígitos.
+     */
+    static void putLong(ByteBuffer buffer, long value, int width) {
+        int digits = Math.max(width, digits(value));
+        int end = buffer.position() + digits;
+        for (int i = end - 1; i >= end - digits; i--) {
+            buffer.put(i, (byte) ('0' + value % 10));
+            value /= 10;
+        }
+
+        buffer.position(end);
+    }
+
+    /**
+     * Escribe un número decimal no negativo tal como lo haría {@link java.math.BigDecimal#toPlainString()}.
+     *
+     * @param buffer   Buffer de destino.
+     * @param unscaled Dígitos del número sin el punto decimal; no negativo.
+     * @param scale    Cantidad de decimales; entre 0 y 18.
+     */
+    static void putDecimal(ByteBuffer buffer, long unscaled, int scale) {
+        if (scale == 0) {
+            putLong(buffer, unscaled, 1);
+            return;
+        }
+
+        putLong(buffer, unscaled / POWERS_OF_TEN[scale], 1);
+        buffer.put((byte) '.');
+        putLong(buffer, unscaled % POWERS_OF_TEN[scale], scale);
+    }
+
+    /**
+     * Escribe un texto compuesto únicamente por caracteres ASCII.
+     *
+     * @param buffer Buffer de destino.
+     * @param text   Texto ASCII.
+     */
+    static void putAscii(ByteBuffer buffer, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+    }
+
+    /**
+     * Obtiene el separador decimal que usa {@link String#format(String, Object...)} con la configuración regional
+     * de formato actual.
+     * <p>
+     * El valor se conserva mientras la configuración regional no cambie. Si la configuración regional escribe
+     * los dígitos con caracteres distintos de {@code 0}-{@code 9}, los números no pueden escribirse sin pasar por
+     * {@link java.util.Formatter} y se devuelve {@code 0}.
+     *
+     * @return Separador decimal, o {@code 0} si la configuración regional no usa dígitos ASCII.
+     */
+    static char decimalSeparator() {
+        var locale = Locale.getDefault(Locale.Category.FORMAT);
+        var current = symbols;
+        if (current == null || !current.locale().equals(locale)) {
+            var format = DecimalFormatSymbols.getInstance(locale);
+            current = new Symbols(locale, format.getZeroDigit() == '0' ? format.getDecimalSeparator() : 0);
+            symbols = current;
+        }
+
+        return current.separator();
+    }
+
+    /**
+     * Agrega un número no negativo rellenando con ceros a la izquierda hasta cierta cantidad de dígitos.
+     *
+     * @param sb    StringBuilder de destino.
+     * @param value Número no negativo.
+     * @param width Cantidad mínima de dígitos.
+     * @return El mismo StringBuilder.
+     */
+    static StringBuilder appendLong(StringBuilder sb, long value, int width) {
+        int start = sb.length();
+        int end = start + Math.max(width, digits(value));
+        sb.setLength(end);
+        for (int i = end - 1; i >= start; i--) {
+            sb.setCharAt(i, (char) ('0' + value % 10));
+            value /= 10;
+        }
+
+        return sb;
+    }
+
+    /**
+     * Agrega un número decimal no negativo tal como lo haría {@link java.math.BigDecimal#toPlainString()}, con
+     * el separador decimal indicado.
+     *
+     * @param sb        StringBuilder de destino.
+     * @param unscaled  Dígitos del número sin el separador decimal; no negativo.
+     * @param scale     Cantidad de decimales; entre 0 y 18.
+     * @param separator Separador decimal.
+     * @return El mismo StringBuilder.
+     */
+    static StringBuilder appendDecimal(StringBuilder sb, long unscaled, int scale, char separator) {
+        if (scale == 0) {
+            return appendLong(sb, unscaled, 1);
+        }
+
+        appendLong(sb, unscaled / POWERS_OF_TEN[scale], 1).append(separator);
+        return appendLong(sb, unscaled % POWERS_OF_TEN[scale], scale);
+    }
+
+    /**
+     * Agrega un número decimal no negativo con una cantidad fija de decimales, redondeando hacia arriba desde la
+     * mitad, como lo hace {@link java.util.Formatter} con {@code %.nf}.
+     *
+     * @param sb        StringBuilder de destino.
+     * @param value     Número no negativo.
+     * @param scale     Cantidad de decimales; entre 0 y 18.
+     * @param separator Separador decimal.
+     * @return El mismo StringBuilder.
+     */
+    static StringBuilder appendFixed(StringBuilder sb, BigDecimal value, int scale, char separator) {
+        var rounded = value.setScale(scale, RoundingMode.HALF_UP);
+        if (rounded.unscaledValue().bitLength() < Long.SIZE) {
+            return appendDecimal(sb, rounded.unscaledValue().longValue(), scale, separator);
+        }
+
+        var plain = rounded.toPlainString();
+        return sb.append(separator == '.' ? plain : plain.replace('.', separator));
+    }
+}
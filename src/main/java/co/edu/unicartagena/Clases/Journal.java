@@ -0,0 +1,463 @@
+package co.edu.unicartagena.Clases;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Diario de operaciones de solo escritura al final, utilizado para persistir cada cambio de un banco sin
+ * reescribir todos sus registros.
+ * <p>
+ * El archivo comienza con un encabezado de {@value #HEADER_SIZE} bytes:
+ * <pre>
+ * int   magic       "BKJN"
+ * short version     {@value #VERSION}
+ * long  snapshotId  identificador de la instantánea sobre la que se aplican las operaciones
+ * </pre>
+ * seguido de entradas con el formato:
+ * <pre>
+ * int   length      tamaño del contenido
+ * int   crc         CRC32 del contenido
+ * byte  operation   {@link #ADD}, {@link #UPDATE} o {@link #REMOVE}
+ * long  cédula
+ * decimal capital   (salvo en {@link #REMOVE})
+ * decimal tasa      (salvo en {@link #REMOVE})
+ * short día         (salvo en {@link #REMOVE})
+ * </pre>
+ * donde cada decimal se guarda como su escala ({@code int}), la cantidad de bytes de sus dígitos ({@code byte}) y
+ * los dígitos en complemento a dos.
+ * <p>
+ * Las escrituras concurrentes comparten las sincronizaciones con el disco: mientras un hilo espera a que el
+ * sistema confirme sus entradas, las de los demás hilos se acumulan y se confirman con la siguiente
+ * sincronización.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+final class Journal implements Closeable {
+    /**
+     * Número que identifica el formato ("BKJN").
+     */
+    static final int MAGIC = 0x424B4A4E;
+
+    /**
+     * Versión del formato.
+     */
+    static final short VERSION = 1;
+
+    /**
+     * Tamaño del encabezado en bytes.
+     */
+    static final int HEADER_SIZE = 4 + 2 + 8;
+
+    /**
+     * Operación que agrega un registro.
+     */
+    static final byte ADD = 1;
+
+    /**
+     * Operación que actualiza un registro.
+     */
+    static final byte UPDATE = 2;
+
+    /**
+     * Operación que elimina un registro.
+     */
+    static final byte REMOVE = 3;
+
+    /**
+     * Tamaño máximo del contenido de una entrada.
+     */
+    private static final int MAX_ENTRY_SIZE = 1 << 16;
+
+    /**
+     * Operación registrada en el diario.
+     *
+     * @param operation   Tipo de operación.
+     * @param cc          Cédula del usuario.
+     * @param capital     Capital del usuario, o {@code null} en {@link #REMOVE}.
+     * @param interestTax Tasa de interés del usuario, o {@code null} en {@link #REMOVE}.
+     * @param day         Día en que el depósito fue realizado, o 0 en {@link #REMOVE}.
+     */
+    record Entry(byte operation, long cc, BigDecimal capital, BigDecimal interestTax, short day) {
+        /**
+         * Crea una entrada que elimina un registro.
+         *
+         * @param cc Cédula del usuario.
+         * @return Entrada.
+         */
+        static Entry remove(long cc) {
+            return new Entry(REMOVE, cc, null, null, (short) 0);
+        }
+    }
+
+    /**
+     * Canal del archivo.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Cantidad de entradas escritas.
+     */
+    private long appended;
+
+    /**
+     * Cantidad de entradas confirmadas en el disco.
+     */
+    private long durable;
+
+    /**
+     * Booleano que indica si un hilo está sincronizando el archivo.
+     */
+    private boolean syncing;
+
+    /**
+     * Booleano que indica si una escritura fallida dejó bytes incompletos que no pudieron descartarse.
+     */
+    private boolean failed;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param channel Canal del archivo, posicionado al final de la última entrada válida.
+     */
+    Journal(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Abre un diario, aplicando sus entradas si corresponden a la instantánea indicada.
+     * <p>
+     * Si el archivo no existe o está vacío, se crea. Si el diario pertenece a otra instantánea, sus entradas ya
+     * fueron incorporadas a la instantánea actual por una compactación interrumpida y se descartan. Si el archivo
+     * termina en una entrada incompleta o dañada, se trunca en la última entrada válida.
+     *
+     * @param path       Ruta del archivo.
+     * @param snapshotId Identificador de la instantánea actual, o 0 si no existe.
+     * @param replay     Acción que aplica cada entrada válida, en orden.
+     * @return Diario abierto para agregar entradas.
+     * @throws java.io.IOException Si ocurre un error al leer o escribir el archivo, o si no es un diario válido.
+     */
+    static Journal open(Path path, long snapshotId, Consumer<Entry> replay) throws IOException {
+        var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        try {
+            var journal = new Journal(channel);
+            if (channel.size() < HEADER_SIZE) {
+                journal.reset(snapshotId);
+                return journal;
+            }
+
+            var header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                // Continúa hasta llenar el buffer.
+            }
+            header.flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("El archivo no es un diario de operaciones.");
+            }
+            var version = header.getShort();
+            if (version != VERSION) {
+                throw new IOException("Versión de diario no soportada: %d.".formatted(version));
+            }
+            var journalSnapshot = header.getLong();
+            if (journalSnapshot != snapshotId) {
+                if (snapshotId == 0) {
+                    throw new IOException("No se encontró la instantánea sobre la que se escribió el diario.");
+                }
+                journal.reset(snapshotId);
+                return journal;
+            }
+
+            var end = journal.replay(replay);
+            if (end < channel.size()) {
+                channel.truncate(end);
+                channel.force(true);
+            }
+            channel.position(end);
+            return journal;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Aplica las entradas válidas del diario.
+     *
+     * @param replay Acción que aplica cada entrada.
+     * @return Posición del final de la última entrada válida.
+     * @throws java.io.IOException Si ocurre un error al leer el archivo.
+     */
+    private long replay(Consumer<Entry> replay) throws IOException {
+        channel.position(HEADER_SIZE);
+        var input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+        var crc = new CRC32();
+        long position = HEADER_SIZE;
+
+        while (true) {
+            Entry entry;
+            int length;
+            try {
+                length = input.readInt();
+                var checksum = input.readInt();
+                if (length <= 0 || length > MAX_ENTRY_SIZE) {
+                    break;
+                }
+
+                var payload = new byte[length];
+                input.readFully(payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+
+                entry = decode(ByteBuffer.wrap(payload));
+            } catch (EOFException e) {
+                break;
+            }
+
+            if (entry == null) {
+                break;
+            }
+            replay.accept(entry);
+            position += 8 + length;
+            appended++;
+        }
+
+        durable = appended;
+        return position;
+    }
+
+    /**
+     * Escribe una entrada y espera a que quede confirmada en el disco.
+     *
+     * @param entry Entrada.
+     * @throws java.io.IOException Si ocurre un error al escribir o sincronizar el archivo.
+     */
+    void write(Entry entry) throws IOException {
+        write(List.of(entry));
+    }
+
+    /**
+     * Escribe varias entradas seguidas y espera a que queden confirmadas en el disco con una sola sincronización.
+     * <p>
+     * Si la escritura falla a mitad de camino, el archivo se trunca en la posición anterior para que las entradas
+     * siguientes no queden detrás de bytes incompletos, que al recuperar el diario harían descartarlas. Si ni
+     * siquiera puede truncarse, el diario deja de admitir entradas.
+     *
+     * @param entries Entradas, en orden.
+     * @throws java.io.IOException Si ocurre un error al escribir o sincronizar el archivo, o si una escritura
+     *                             anterior dejó el diario incompleto.
+     */
+    void write(List<Entry> entries) throws IOException {
+        var payloads = new ArrayList<byte[]>(entries.size());
+        int length = 0;
+        for (var entry : entries) {
+            var payload = encode(entry);
+            payloads.add(payload);
+            length += 8 + payload.length;
+        }
+
+        var crc = new CRC32();
+        var buffer = ByteBuffer.allocate(length);
+        for (var payload : payloads) {
+            crc.reset();
+            crc.update(payload);
+            buffer.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        }
+        buffer.flip();
+
+        long ticket;
+        synchronized (this) {
+            if (failed) {
+                throw new IOException("El diario quedó incompleto por un error de escritura anterior y no admite más entradas.");
+            }
+
+            var start = channel.position();
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException e) {
+                discard(start, e);
+                throw e;
+            }
+            appended += entries.size();
+            ticket = appended;
+        }
+
+        sync(ticket);
+    }
+
+    /**
+     * Descarta los bytes de una escritura fallida truncando el archivo en la posición donde comenzó.
+     *
+     * @param start Posición donde comenzó la escritura.
+     * @param cause Error de la escritura; si no se puede truncar, el nuevo error se agrega como suprimido.
+     */
+    private void discard(long start, IOException cause) {
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (IOException e) {
+            failed = true;
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * Espera a que las entradas hasta la indicada queden confirmadas en el disco.
+     * <p>
+     * Si ningún hilo está sincronizando, el hilo actual sincroniza todas las entradas escritas hasta el momento;
+     * en caso contrario, espera a que la sincronización en curso termine y vuelve a verificar.
+     *
+     * @param ticket Número de la entrada.
+     * @throws java.io.IOException Si ocurre un error al sincronizar el archivo.
+     */
+    private void sync(long ticket) throws IOException {
+        long target;
+        synchronized (this) {
+            while (durable < ticket && syncing) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Se interrumpió la espera de la sincronización del diario.");
+                }
+            }
+            if (durable >= ticket) {
+                return;
+            }
+
+            syncing = true;
+            target = appended;
+        }
+
+        var synced = false;
+        try {
+            channel.force(false);
+            synced = true;
+        } finally {
+            synchronized (this) {
+                syncing = false;
+                if (synced) {
+                    durable = Math.max(durable, target);
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Descarta todas las entradas y asocia el diario a una nueva instantánea.
+     *
+     * @param snapshotId Identificador de la instantánea.
+     * @throws java.io.IOException Si ocurre un error al escribir el archivo.
+     */
+    synchronized void reset(long snapshotId) throws IOException {
+        while (syncing) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Se interrumpió la espera de la sincronización del diario.");
+            }
+        }
+
+        var header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putShort(VERSION).putLong(snapshotId).flip();
+        channel.truncate(0);
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+        channel.position(HEADER_SIZE);
+        durable = appended;
+        failed = false;
+    }
+
+    /**
+     * Cierra el archivo del diario.
+     *
+     * @throws java.io.IOException Si ocurre un error al cerrar el archivo.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Codifica el contenido de una entrada.
+     *
+     * @param entry Entrada.
+     * @return Contenido de la entrada.
+     */
+    private static byte[] encode(Entry entry) {
+        if (entry.operation() == REMOVE) {
+            return ByteBuffer.allocate(1 + 8).put(REMOVE).putLong(entry.cc()).array();
+        }
+
+        var capital = entry.capital().unscaledValue().toByteArray();
+        var interestTax = entry.interestTax().unscaledValue().toByteArray();
+        if (capital.length > Byte.MAX_VALUE || interestTax.length > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Los valores del registro son demasiado grandes para el diario.");
+        }
+
+        return ByteBuffer.allocate(1 + 8 + 5 + capital.length + 5 + interestTax.length + 2)
+                .put(entry.operation())
+                .putLong(entry.cc())
+                .putInt(entry.capital().scale()).put((byte) capital.length).put(capital)
+                .putInt(entry.interestTax().scale()).put((byte) interestTax.length).put(interestTax)
+                .putShort(entry.day())
+                .array();
+    }
+
+    /**
+     * Decodifica el contenido de una entrada.
+     *
+     * @param payload Contenido de la entrada.
+     * @return Entrada, o {@code null} si el contenido no es válido.
+     */
+    private static Entry decode(ByteBuffer payload) {
+        try {
+            var operation = payload.get();
+            var cc = payload.getLong();
+            Entry entry = switch (operation) {
+                case REMOVE -> Entry.remove(cc);
+                case ADD, UPDATE -> new Entry(operation, cc, getDecimal(payload), getDecimal(payload), payload.getShort());
+                default -> null;
+            };
+            return payload.hasRemaining() ? null : entry;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lee un decimal del contenido de una entrada.
+     *
+     * @param payload Contenido de la entrada.
+     * @return Decimal.
+     */
+    private static BigDecimal getDecimal(ByteBuffer payload) {
+        var scale = payload.getInt();
+        var digits = new byte[payload.get()];
+        payload.get(digits);
+        return new BigDecimal(new BigInteger(digits), scale);
+    }
+}
@@ -0,0 +1,246 @@
+package co.edu.unicartagena.Clases;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Porción de un archivo de registros que termina en un salto de línea y puede interpretarse de forma
+ * independiente a las demás.
+ * <p>
+ * Al interpretarse, la porción conserva sus registros en orden junto con el número de línea de cada uno,
+ * relativo al inicio de la porción, y la suma parcial de su capital e interés.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+final class LedgerChunk {
+    /**
+     * Tamaño del buffer utilizado para buscar los saltos de línea que delimitan las porciones.
+     */
+    private static final int PROBE_SIZE = 4096;
+
+    /**
+     * Posición del primer byte de la porción en el archivo.
+     */
+    private final long start;
+
+    /**
+     * Posición siguiente al último byte de la porción en el archivo.
+     */
+    private final long end;
+
+    /**
+     * Registros válidos de la porción, en orden de aparición.
+     */
+    private final ArrayList<Record> records;
+
+    /**
+     * Número de línea, relativo a la porción, de cada registro de {@link #records}.
+     */
+    private int[] lines;
+
+    /**
+     * Reporte de la porción, con números de línea relativos a la porción.
+     */
+    private final LoadReport report;
+
+    /**
+     * Suma del capital de los registros de la porción.
+     */
+    private final MoneyTotal capital;
+
+    /**
+     * Suma del interés de los registros de la porción.
+     */
+    private final MoneyTotal interest;
+
+    /**
+     * Cantidad de líneas interpretadas.
+     */
+    private long lineCount;
+
+    /**
+     * Booleano que indica si la porción contiene la línea de fin de archivo.
+     */
+    private boolean finished;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param start Posición del primer byte de la porción en el archivo.
+     * @param end   Posición siguiente al último byte de la porción en el archivo.
+     */
+    private LedgerChunk(long start, long end) {
+        this.start = start;
+        this.end = end;
+        this.records = new ArrayList<>();
+        this.lines = new int[16];
+        this.report = new LoadReport();
+        this.capital = new MoneyTotal();
+        this.interest = new MoneyTotal();
+    }
+
+    /**
+     * Divide un archivo en porciones de aproximadamente el mismo tamaño que terminan en un salto de línea.
+     *
+     * @param channel    Canal del archivo.
+     * @param targetSize Tamaño aproximado de cada porción en bytes.
+     * @return Porciones del archivo, en orden.
+     * @throws java.io.IOException Si ocurre un error al leer el archivo.
+     */
+    static List<LedgerChunk> split(FileChannel channel, long targetSize) throws IOException {
+        var chunks = new ArrayList<LedgerChunk>();
+        var size = channel.size();
+        var probe = ByteBuffer.allocate(PROBE_SIZE);
+
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(size, start + targetSize);
+            if (end < size) {
+                end = nextLineStart(channel, end - 1, size, probe);
+            }
+
+            chunks.add(new LedgerChunk(start, end));
+            start = end;
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Busca la posición siguiente al primer salto de línea a partir de una posición.
+     *
+     * @param channel  Canal del archivo.
+     * @param position Posición donde inicia la búsqueda.
+     * @param size     Tamaño del archivo.
+     * @param probe    Buffer auxiliar para la búsqueda.
+     * @return Posición siguiente al salto de línea, o el tamaño del archivo si no hay más saltos de línea.
+     * @throws java.io.IOException Si ocurre un error al leer el archivo.
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+
+        return size;
+    }
+
+    /**
+     * Lee e interpreta la porción. Puede ejecutarse en paralelo con otras porciones del mismo canal.
+     *
+     * @param channel Canal del archivo.
+     * @param mode    Representación numérica de los registros.
+     * @return Esta porción, ya interpretada.
+     * @throws java.io.IOException Si ocurre un error al leer el archivo.
+     */
+    LedgerChunk parse(FileChannel channel, NumericMode mode) throws IOException {
+        var buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                break;
+            }
+        }
+
+        var parser = new LedgerParser(mode, 1);
+        parser.parse(buffer, 0, buffer.position(), true, report, record -> {
+            if (records.size() == lines.length) {
+                lines = Arrays.copyOf(lines, lines.length * 2);
+            }
+            lines[records.size()] = (int) (parser.getLine() - 1);
+            records.add(record);
+            MoneyTotal.accumulate(record, false, capital, interest);
+        });
+
+        lineCount = parser.getLine() - 1;
+        finished = parser.isFinished();
+        return this;
+    }
+
+    /**
+     * Obtiene los registros válidos de la porción.
+     *
+     * @return Registros en orden de aparición.
+     */
+    List<Record> getRecords() {
+        return records;
+    }
+
+    /**
+     * Obtiene el número de línea, relativo a la porción, de un registro.
+     *
+     * @param index Posición del registro en {@link #getRecords()}.
+     * @return Número de línea.
+     */
+    int getLine(int index) {
+        return lines[index];
+    }
+
+    /**
+     * Obtiene el reporte de la porción, con números de línea relativos a la porción.
+     *
+     * @return Reporte de la porción.
+     */
+    LoadReport getReport() {
+        return report;
+    }
+
+    /**
+     * Obtiene la suma del capital de la porción.
+     *
+     * @return Total de capital.
+     */
+    MoneyTotal getCapital() {
+        return capital;
+    }
+
+    /**
+     * Obtiene la suma del interés de la porción.
+     *
+     * @return Total de interés.
+     */
+    MoneyTotal getInterest() {
+        return interest;
+    }
+
+    /**
+     * Obtiene la cantidad de líneas interpretadas.
+     *
+     * @return Cantidad de líneas.
+     */
+    long getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * Obtiene la cantidad de bytes de la porción.
+     *
+     * @return Cantidad de bytes.
+     */
+    long getSize() {
+        return end - start;
+    }
+
+    /**
+     * Indica si la porción contiene la línea de fin de archivo.
+     *
+     * @return Booleano que indica si la porción contiene la línea de fin de archivo.
+     */
+    boolean isFinished() {
+        return finished;
+    }
+}
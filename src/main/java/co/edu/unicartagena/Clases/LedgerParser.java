@@ -0,0 +1,394 @@
+package co.edu.unicartagena.Clases;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Intérprete de archivos de registros con el formato {@code cédula;capital;día;tasa}, una línea por registro.
+ * <p>
+ * Lee los bytes directamente de un {@link ByteBuffer}, sin crear un String por línea ni por campo: cada campo
+ * se recorre una sola vez y se convierte a su valor numérico. Solo los números con formatos poco comunes
+ * (exponentes, signos o más dígitos de los que caben en un {@code long}) se interpretan con
+ * {@link BigDecimal}. Una línea que contiene únicamente un punto ({@code .}) marca el final del archivo.
+ * <p>
+ * Cada instancia lleva la cuenta de las líneas leídas, por lo que no debe compartirse entre hilos.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+final class LedgerParser {
+    /**
+     * Cantidad máxima de dígitos enteros del capital que se interpretan sin BigDecimal.
+     */
+    private static final int MAX_CAPITAL_DIGITS = 16;
+
+    /**
+     * Cantidad máxima de dígitos de la tasa de interés que se interpretan sin BigDecimal.
+     */
+    private static final int MAX_RATE_DIGITS = 18;
+
+    /**
+     * Representación numérica de los registros creados.
+     */
+    private final NumericMode mode;
+
+    /**
+     * Número de la siguiente línea que se interpretará.
+     */
+    private long line;
+
+    /**
+     * Booleano que indica si se encontró la línea de fin de archivo.
+     */
+    private boolean finished;
+
+    /**
+     * Resultado de la última conversión numérica: capital en centavos o dígitos de la tasa.
+     */
+    private long unscaled;
+
+    /**
+     * Resultado de la última conversión numérica: cantidad de decimales de la tasa.
+     */
+    private int scale;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param mode      Representación numérica de los registros creados.
+     * @param firstLine Número de la primera línea que se interpretará.
+     */
+    LedgerParser(NumericMode mode, long firstLine) {
+        this.mode = mode;
+        this.line = firstLine;
+        this.finished = false;
+    }
+
+    /**
+     * Indica si se encontró la línea de fin de archivo.
+     *
+     * @return Booleano que indica si se encontró la línea de fin de archivo.
+     */
+    boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Obtiene el número de la siguiente línea que se interpretará.
+     *
+     * @return Número de línea.
+     */
+    long getLine() {
+        return line;
+    }
+
+    /**
+     * Interpreta las líneas de una porción de un buffer.
+     * <p>
+     * Cada registro válido se entrega a {@code sink}; si la línea no es válida, o si {@code sink} lanza
+     * {@link IllegalArgumentException}, la línea se registra como rechazada en {@code report}.
+     *
+     * @param buffer     Buffer con los bytes del archivo. Su posición y límite no se modifican.
+     * @param from       Índice del primer byte.
+     * @param to         Índice siguiente al último byte.
+     * @param endOfInput Booleano que indica si los bytes terminan el archivo, aunque la última línea no tenga salto de línea.
+     * @param report     Reporte donde se cuentan los registros aceptados y rechazados.
+     * @param sink       Destino de los registros válidos.
+     * @return Índice del primer byte no consumido, que pertenece a una línea incompleta.
+     */
+    int parse(ByteBuffer buffer, int from, int to, boolean endOfInput, LoadReport report, Consumer<Record> sink) {
+        int start = from;
+        while (start < to && !finished) {
+            int end = start;
+            while (end < to && buffer.get(end) != '\n') {
+                end++;
+            }
+
+            if (end == to && !endOfInput) {
+                return start;
+            }
+
+            parseLine(buffer, start, end, report, sink);
+            start = end + 1;
+        }
+
+        return Math.min(start, to);
+    }
+
+    /**
+     * Interpreta una línea.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice del primer byte de la línea.
+     * @param to     Índice del salto de línea, o del final de los datos.
+     * @param report Reporte donde se cuentan los registros aceptados y rechazados.
+     * @param sink   Destino del registro si es válido.
+     */
+    private void parseLine(ByteBuffer buffer, int from, int to, LoadReport report, Consumer<Record> sink) {
+        long number = line++;
+
+        if (to > from && buffer.get(to - 1) == '\r') {
+            to--;
+        }
+
+        if (to == from) {
+            return;
+        }
+
+        if (to - from == 1 && buffer.get(from) == '.') {
+            finished = true;
+            return;
+        }
+
+        try {
+            sink.accept(readRecord(buffer, from, to));
+            report.accept();
+        } catch (IllegalArgumentException e) {
+            report.reject(number, e.getMessage());
+        }
+    }
+
+    /**
+     * Crea un registro a partir de los campos de una línea.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice del primer byte de la línea.
+     * @param to     Índice siguiente al último byte de la línea.
+     * @return Registro.
+     * @throws java.lang.IllegalArgumentException Si la línea no tiene el formato esperado o sus datos no son válidos.
+     */
+    private Record readRecord(ByteBuffer buffer, int from, int to) throws IllegalArgumentException {
+        int ccEnd = indexOf(buffer, from, to);
+        int capitalEnd = indexOf(buffer, ccEnd + 1, to);
+        int dayEnd = indexOf(buffer, capitalEnd + 1, to);
+        if (dayEnd >= to) {
+            throw new IllegalArgumentException("La línea debe tener 4 campos separados por punto y coma.");
+        }
+        int rateEnd = indexOf(buffer, dayEnd + 1, to);
+
+        long cc = readCC(buffer, from, ccEnd);
+        short day = readDay(buffer, capitalEnd + 1, dayEnd);
+
+        BigDecimal capital = null;
+        long capitalCents = 0;
+        if (readCents(buffer, ccEnd + 1, capitalEnd)) {
+            capitalCents = unscaled;
+        } else {
+            capital = readBigDecimal(buffer, ccEnd + 1, capitalEnd, "capital");
+        }
+
+        if (readDecimal(buffer, dayEnd + 1, rateEnd)) {
+            if (capital == null) {
+                return new Record(cc, capitalCents, unscaled, scale, day, mode);
+            }
+            return new Record(cc, capital, BigDecimal.valueOf(unscaled, scale), day, mode);
+        }
+
+        var rate = readBigDecimal(buffer, dayEnd + 1, rateEnd, "tasa de interés");
+        return new Record(cc, capital != null ? capital : BigDecimal.valueOf(capitalCents, 2), rate, day, mode);
+    }
+
+    /**
+     * Busca el siguiente separador de campos.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice donde inicia la búsqueda.
+     * @param to     Índice donde termina la búsqueda.
+     * @return Índice del separador, o {@code to} si no existe.
+     */
+    private static int indexOf(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        while (i < to && buffer.get(i) != ';') {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * Interpreta una cédula de 10 dígitos.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice del primer byte del campo.
+     * @param to     Índice siguiente al último byte del campo.
+     * @return Cédula como número.
+     * @throws java.lang.IllegalArgumentException Si la cédula no es válida.
+     */
+    private static long readCC(ByteBuffer buffer, int from, int to) throws IllegalArgumentException {
+        if (to - from == 10) {
+            long value = 0;
+            int i = from;
+            for (; i < to; i++) {
+                int digit = buffer.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+            }
+
+            if (i == to) {
+                return value;
+            }
+        }
+
+        return Record.parseCC(text(buffer, from, to));
+    }
+
+    /**
+     * Interpreta el día del depósito.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice del primer byte del campo.
+     * @param to     Índice siguiente al último byte del campo.
+     * @return Día del depósito.
+     * @throws java.lang.IllegalArgumentException Si el día no es un número.
+     */
+    private static short readDay(ByteBuffer buffer, int from, int to) throws IllegalArgumentException {
+        if (to > from && to - from <= 3) {
+            int value = 0;
+            int i = from;
+            for (; i < to; i++) {
+                int digit = buffer.get(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    break;
+                }
+                value = value * 10 + digit;
+            }
+
+            if (i == to) {
+                return (short) value;
+            }
+        }
+
+        try {
+            return Short.parseShort(text(buffer, from, to));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El día debe ser un número entre 0 y 360");
+        }
+    }
+
+    /**
+     * Interpreta un capital con el formato {@code dígitos[.dígitos]} y lo trunca a centavos.
+     * <p>
+     * El resultado queda en {@link #unscaled}.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice del primer byte del campo.
+     * @param to     Índice siguiente al último byte del campo.
+     * @return Booleano que indica si el campo tenía el formato esperado.
+     */
+    private boolean readCents(ByteBuffer buffer, int from, int to) {
+        long value = 0;
+        int integerDigits = 0;
+        int decimals = 0;
+        boolean point = false;
+
+        for (int i = from; i < to; i++) {
+            byte c = buffer.get(i);
+            if (c >= '0' && c <= '9') {
+                if (!point) {
+                    if (++integerDigits > MAX_CAPITAL_DIGITS) {
+                        return false;
+                    }
+                    value = value * 10 + (c - '0');
+                } else if (decimals++ < 2) {
+                    value = value * 10 + (c - '0');
+                }
+            } else if ((c == '.' || c == ',') && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+
+        if (integerDigits + decimals == 0) {
+            return false;
+        }
+
+        for (int i = Math.min(decimals, 2); i < 2; i++) {
+            value *= 10;
+        }
+
+        unscaled = value;
+        return true;
+    }
+
+    /**
+     * Interpreta un número con el formato {@code dígitos[.dígitos]} conservando sus decimales.
+     * <p>
+     * El resultado queda en {@link #unscaled} y {@link #scale}.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice del primer byte del campo.
+     * @param to     Índice siguiente al último byte del campo.
+     * @return Booleano que indica si el campo tenía el formato esperado.
+     */
+    private boolean readDecimal(ByteBuffer buffer, int from, int to) {
+        long value = 0;
+        int digits = 0;
+        int decimals = 0;
+        boolean point = false;
+
+        for (int i = from; i < to; i++) {
+            byte c = buffer.get(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_RATE_DIGITS) {
+                    return false;
+                }
+                value = value * 10 + (c - '0');
+                if (point) {
+                    decimals++;
+                }
+            } else if ((c == '.' || c == ',') && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+
+        if (digits == 0) {
+            return false;
+        }
+
+        unscaled = value;
+        scale = decimals;
+        return true;
+    }
+
+    /**
+     * Interpreta un número con BigDecimal, aceptando la coma como separador decimal.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice del primer byte del campo.
+     * @param to     Índice siguiente al último byte del campo.
+     * @param field  Nombre del campo, para el mensaje de error.
+     * @return Número interpretado.
+     * @throws java.lang.IllegalArgumentException Si el campo no es un número.
+     */
+    private static BigDecimal readBigDecimal(ByteBuffer buffer, int from, int to, String field) throws IllegalArgumentException {
+        var text = text(buffer, from, to);
+        try {
+            return new BigDecimal(text.replace(",", "."));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("El campo %s no es un número válido: '%s'".formatted(field, text));
+        }
+    }
+
+    /**
+     * Convierte una porción del buffer en String. Solo se usa en los casos poco comunes.
+     *
+     * @param buffer Buffer con los bytes del archivo.
+     * @param from   Índice del primer byte.
+     * @param to     Índice siguiente al último byte.
+     * @return Texto de la porción.
+     */
+    private static String text(ByteBuffer buffer, int from, int to) {
+        var chars = new char[to - from];
+        for (int i = from; i < to; i++) {
+            chars[i - from] = (char) (buffer.get(i) & 0xFF);
+        }
+
+        return new String(chars);
+    }
+}
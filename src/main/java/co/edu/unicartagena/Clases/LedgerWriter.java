@@ -0,0 +1,135 @@
+package co.edu.unicartagena.Clases;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * Escritor de archivos de registros con el formato {@code cédula;capital;día;tasa}, una línea por registro.
+ * <p>
+ * Cada registro se escribe directamente en un buffer directo reutilizable que se vacía en el archivo cuando
+ * se llena, por lo que la memoria utilizada no depende de la cantidad de registros.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+final class LedgerWriter {
+    /**
+     * Tamaño del buffer de escritura.
+     */
+    private static final int BUFFER_SIZE = 256 << 10;
+
+    /**
+     * Espacio libre que se garantiza en el buffer antes de escribir un registro.
+     */
+    private static final int LINE_RESERVE = 128;
+
+    /**
+     * Contenido que se escribe en un archivo de registros.
+     */
+    @FunctionalInterface
+    interface Body {
+        /**
+         * Escribe los registros.
+         *
+         * @param writer Escritor de registros.
+         * @throws java.io.IOException Si ocurre un error al escribir.
+         */
+        void writeTo(LedgerWriter writer) throws IOException;
+    }
+
+    /**
+     * Canal del archivo de destino.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Buffer de escritura.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Cantidad de registros escritos.
+     */
+    private long count;
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param channel Canal del archivo de destino.
+     */
+    LedgerWriter(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    }
+
+    /**
+     * Escribe un archivo de registros de forma atómica.
+     *
+     * @param path Ruta del archivo de destino.
+     * @param body Contenido del archivo.
+     * @return Cantidad de registros escritos.
+     * @throws java.io.IOException Si ocurre un error al escribir el archivo.
+     * @see AtomicFile#write(Path, AtomicFile.Body)
+     */
+    static long writeAtomically(Path path, Body body) throws IOException {
+        return AtomicFile.write(path, channel -> {
+            var writer = new LedgerWriter(channel);
+            body.writeTo(writer);
+            writer.flush();
+            return writer.count;
+        });
+    }
+
+    /**
+     * Escribe un registro seguido de un salto de línea.
+     *
+     * @param record Registro.
+     * @throws java.io.IOException Si ocurre un error al vaciar el buffer.
+     */
+    void write(Record record) throws IOException {
+        var capital = record.isFixedPoint() ? null : record.getCapital().toPlainString();
+        var rateScale = record.getRateScale();
+        var rate = rateScale < 0 ? record.getInterestTax().toPlainString() : null;
+
+        int length = LINE_RESERVE + (capital == null ? 0 : capital.length()) + (rate == null ? 0 : rate.length());
+        if (buffer.remaining() < length) {
+            flush();
+        }
+        if (buffer.remaining() < length) {
+            throw new IOException("El registro %s es demasiado grande para el buffer de escritura.".formatted(record.getCc()));
+        }
+
+        Decimals.putLong(buffer, record.getCcValue(), 10);
+        buffer.put((byte) ';');
+        if (capital == null) {
+            Decimals.putDecimal(buffer, record.getCapitalCents(), 2);
+        } else {
+            Decimals.putAscii(buffer, capital);
+        }
+        buffer.put((byte) ';');
+        Decimals.putLong(buffer, record.getDay(), 1);
+        buffer.put((byte) ';');
+        if (rate == null) {
+            Decimals.putDecimal(buffer, record.getRateUnscaled(), rateScale);
+        } else {
+            Decimals.putAscii(buffer, rate);
+        }
+        buffer.put((byte) '\n');
+        count++;
+    }
+
+    /**
+     * Vacía el buffer en el archivo.
+     *
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
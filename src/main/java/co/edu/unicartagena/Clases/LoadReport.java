@@ -0,0 +1,197 @@
+package co.edu.unicartagena.Clases;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de la carga de registros desde un archivo.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+public class LoadReport {
+    /**
+     * Cantidad máxima de líneas rechazadas que se detallan en el reporte.
+     */
+    public static final int MAX_DETAILS = 100;
+
+    /**
+     * Cantidad máxima de líneas rechazadas que se muestran en {@link #toString()}.
+     */
+    private static final int PRINTED_DETAILS = 10;
+
+    /**
+     * Línea rechazada durante la carga.
+     *
+     * @param line   Número de la línea, empezando en 1.
+     * @param reason Motivo del rechazo.
+     */
+    public record Rejection(long line, String reason) {
+        @Override
+        public String toString() {
+            return "Línea %d: %s".formatted(line, reason);
+        }
+    }
+
+    /**
+     * Cantidad de registros cargados.
+     */
+    private long accepted;
+
+    /**
+     * Cantidad de líneas rechazadas.
+     */
+    private long rejected;
+
+    /**
+     * Primeras líneas rechazadas, en orden de aparición.
+     */
+    private final List<Rejection> rejections;
+
+    /**
+     * Cantidad de bytes leídos.
+     */
+    private long bytes;
+
+    /**
+     * Duración de la carga en nanosegundos.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Constructor de la clase.
+     */
+    public LoadReport() {
+        rejections = new ArrayList<>();
+    }
+
+    /**
+     * Registra un registro cargado.
+     */
+    void accept() {
+        accepted++;
+    }
+
+    /**
+     * Registra una línea rechazada.
+     *
+     * @param line   Número de la línea.
+     * @param reason Motivo del rechazo.
+     */
+    void reject(long line, String reason) {
+        rejected++;
+        if (rejections.size() < MAX_DETAILS) {
+            rejections.add(new Rejection(line, reason));
+        }
+    }
+
+    /**
+     * Registra líneas rechazadas sin detallarlas.
+     *
+     * @param count Cantidad de líneas rechazadas.
+     */
+    void countRejected(long count) {
+        rejected += count;
+    }
+
+    /**
+     * Registra los datos de rendimiento de la carga.
+     *
+     * @param bytes        Cantidad de bytes leídos.
+     * @param elapsedNanos Duración de la carga en nanosegundos.
+     */
+    void finish(long bytes, long elapsedNanos) {
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Obtiene la cantidad de registros cargados.
+     *
+     * @return Cantidad de registros cargados.
+     */
+    public long getAccepted() {
+        return accepted;
+    }
+
+    /**
+     * Obtiene la cantidad de líneas rechazadas.
+     *
+     * @return Cantidad de líneas rechazadas.
+     */
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * Obtiene las primeras {@link #MAX_DETAILS} líneas rechazadas.
+     *
+     * @return Líneas rechazadas, en orden de aparición.
+     */
+    public List<Rejection> getRejections() {
+        return Collections.unmodifiableList(rejections);
+    }
+
+    /**
+     * Obtiene la cantidad de bytes leídos.
+     *
+     * @return Cantidad de bytes leídos.
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Obtiene la duración de la carga.
+     *
+     * @return Duración de la carga en nanosegundos.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Obtiene la velocidad de lectura de la carga.
+     *
+     * @return Bytes por segundo.
+     */
+    public double getBytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Obtiene la velocidad de la carga en registros.
+     *
+     * @return Registros cargados por segundo.
+     */
+    public double getRecordsPerSecond() {
+        return elapsedNanos == 0 ? 0 : accepted * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Devuelve la cantidad de registros cargados, la velocidad de la carga y, si las hay, las líneas rechazadas.
+     */
+    @Override
+    public String toString() {
+        var sb = new StringBuilder("Se cargaron %d registros.\n".formatted(accepted));
+        if (elapsedNanos > 0) {
+            sb.append("Velocidad: %.1f MB/s, %.0f registros/s (%.3f s).\n".formatted(
+                    getBytesPerSecond() / 1e6, getRecordsPerSecond(), elapsedNanos / 1e9));
+        }
+        if (rejected > 0) {
+            sb.append("%d registros fueron ignorados porque no cumplían con el formato necesario.\n".formatted(rejected));
+            var printed = rejections.subList(0, Math.min(PRINTED_DETAILS, rejections.size()));
+            for (var rejection : printed) {
+                sb.append("  ").append(rejection).append('\n');
+            }
+            if (rejected > printed.size()) {
+                sb.append("  ...\n");
+            }
+        }
+
+        return sb.toString();
+    }
+}
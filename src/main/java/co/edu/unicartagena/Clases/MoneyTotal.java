@@ -0,0 +1,117 @@
+package co.edu.unicartagena.Clases;
+
+import java.math.BigDecimal;
+
+/**
+ * Acumulador de montos de dinero.
+ * <p>
+ * Los montos expresados en centavos se suman en un {@code long}; los montos en {@link BigDecimal} y los que
+ * desbordarían el {@code long} se suman en un {@link BigDecimal} aparte. El total es la suma de ambas partes.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class MoneyTotal {
+    /**
+     * Parte del total acumulada en centavos.
+     */
+    private long cents;
+
+    /**
+     * Parte del total acumulada como BigDecimal.
+     */
+    private BigDecimal rest;
+
+    /**
+     * Constructor de la clase.
+     */
+    MoneyTotal() {
+        cents = 0;
+        rest = new BigDecimal(0);
+    }
+
+    /**
+     * Suma un monto en centavos.
+     *
+     * @param amount Monto en centavos; puede ser negativo.
+     */
+    void addCents(long amount) {
+        long result = cents + amount;
+        if (((cents ^ result) & (amount ^ result)) < 0) {
+            rest = rest.add(BigDecimal.valueOf(amount, 2));
+        } else {
+            cents = result;
+        }
+    }
+
+    /**
+     * Suma un monto.
+     *
+     * @param amount Monto.
+     */
+    void add(BigDecimal amount) {
+        rest = rest.add(amount);
+    }
+
+    /**
+     * Resta un monto.
+     *
+     * @param amount Monto.
+     */
+    void subtract(BigDecimal amount) {
+        rest = rest.subtract(amount);
+    }
+
+    /**
+     * Suma otro total.
+     *
+     * @param other Total que se suma.
+     */
+    void add(MoneyTotal other) {
+        addCents(other.cents);
+        rest = rest.add(other.rest);
+    }
+
+    /**
+     * Suma o resta el capital y el interés de un registro a un par de totales.
+     * <p>
+     * Los registros en punto fijo se acumulan en centavos; los demás se acumulan como BigDecimal.
+     *
+     * @param record   Registro.
+     * @param subtract Booleano que indica si los montos se restan.
+     * @param capital  Total de capital.
+     * @param interest Total de interés.
+     */
+    static void accumulate(Record record, boolean subtract, MoneyTotal capital, MoneyTotal interest) {
+        if (record.isFixedPoint()) {
+            var cents = record.getCapitalCents();
+            capital.addCents(subtract ? -cents : cents);
+
+            try {
+                var interestCents = record.getInterestCents();
+                interest.addCents(subtract ? -interestCents : interestCents);
+                return;
+            } catch (ArithmeticException ignored) {
+            }
+        } else if (subtract) {
+            capital.subtract(record.getCapital());
+        } else {
+            capital.add(record.getCapital());
+        }
+
+        if (subtract) {
+            interest.subtract(record.getInterest());
+        } else {
+            interest.add(record.getInterest());
+        }
+    }
+
+    /**
+     * Obtiene el total acumulado.
+     *
+     * @return Total acumulado.
+     */
+    BigDecimal get() {
+        return cents == 0 ? rest : rest.add(BigDecimal.valueOf(cents, 2));
+    }
+}
@@ -0,0 +1,22 @@
+package co.edu.unicartagena.Clases;
+
+/**
+ * Representación numérica utilizada por los registros y los totales de un banco.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+public enum NumericMode {
+    /**
+     * Capital y tasa de interés almacenados como {@link java.math.BigDecimal}.
+     */
+    BIG_DECIMAL,
+
+    /**
+     * Capital almacenado en centavos y tasa de interés en millonésimas, ambos como {@code long}.
+     * <p>
+     * Los valores que no caben en esa representación (más de 6 decimales en la tasa o desbordamiento) se
+     * almacenan como {@link java.math.BigDecimal}.
+     */
+    FIXED_POINT
+}
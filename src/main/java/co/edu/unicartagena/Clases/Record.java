@@ -11,25 +11,81 @@ import java.math.RoundingMode;
  */
 public class Record {
     /**
-     * Cédula del usuario.
+     * Cantidad de dígitos de una cédula.
      */
-    private final String cc;
+    private static final int CC_LENGTH = 10;
 
     /**
-     * Capital inicial del usuario.
+     * Escala utilizada para almacenar la tasa de interés en punto fijo (millonésimas).
+     */
+    private static final int RATE_SCALE = 6;
+
+    /**
+     * Marca de {@link #interestCents} para un interés no calculado.
+     */
+    private static final long NOT_COMPUTED = -1;
+
+    /**
+     * Marca de {@link #interestCents} para un interés que desborda un {@code long}.
+     */
+    private static final long OVERFLOW = -2;
+
+    /**
+     * Potencias de diez de 0 a 18.
+     */
+    private static final long[] POWERS_OF_TEN = Decimals.POWERS_OF_TEN;
+
+    /**
+     * Cédula del usuario, almacenada como número.
+     */
+    private final long cc;
+
+    /**
+     * Booleano que indica si el registro intenta almacenar sus valores en punto fijo.
+     */
+    private final boolean fixedPoint;
+
+    /**
+     * Capital inicial del usuario, o {@code null} si está almacenado en {@link #capitalCents}.
      */
     private BigDecimal capital;
 
     /**
-     * Interés del usuario.
+     * Capital inicial del usuario en centavos, válido cuando {@link #capital} es {@code null}.
+     */
+    private long capitalCents;
+
+    /**
+     * Interés del usuario, o {@code null} si está almacenado en {@link #rateMicros}.
      */
     private BigDecimal interestTax;
 
+    /**
+     * Tasa de interés en millonésimas, válida cuando {@link #interestTax} es {@code null}.
+     */
+    private long rateMicros;
+
+    /**
+     * Escala original de la tasa de interés, válida cuando {@link #interestTax} es {@code null}.
+     */
+    private byte rateScale;
+
     /**
      * Día en que se depositó el capital.
      */
     private short day;
 
+    /**
+     * Interés calculado del usuario, o {@code null} si no se ha calculado desde la última actualización.
+     */
+    private BigDecimal interest;
+
+    /**
+     * Interés calculado en centavos, {@link #NOT_COMPUTED} si no se ha calculado desde la última actualización
+     * o {@link #OVERFLOW} si el cálculo en punto fijo desborda.
+     */
+    private long interestCents;
+
     /**
      * Constructor de la clase.
      *
@@ -39,15 +95,121 @@ public class Record {
      * @param day         día en que se depositó el capital.
      */
     public Record(String cc, BigDecimal capital, BigDecimal interestTax, short day) {
-        checkCC(cc);
+        this(cc, capital, interestTax, day, NumericMode.BIG_DECIMAL);
+    }
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param cc          cédula del usuario.
+     * @param capital     capital inicial del usuario.
+     * @param interestTax interés del usuario.
+     * @param day         día en que se depositó el capital.
+     * @param mode        representación numérica del registro.
+     */
+    public Record(String cc, BigDecimal capital, BigDecimal interestTax, short day, NumericMode mode) {
+        this(parseCC(cc), capital, interestTax, day, mode);
+    }
+
+    /**
+     * Constructor de la clase a partir de una cédula numérica.
+     *
+     * @param cc          cédula del usuario como número.
+     * @param capital     capital inicial del usuario.
+     * @param interestTax interés del usuario.
+     * @param day         día en que se depositó el capital.
+     * @param mode        representación numérica del registro.
+     */
+    Record(long cc, BigDecimal capital, BigDecimal interestTax, short day, NumericMode mode) {
         checkCapital(capital);
         checkInterest(interestTax);
         checkDay(day);
 
         this.cc = cc;
-        this.capital = capital.setScale(2, RoundingMode.DOWN);
+        this.fixedPoint = mode == NumericMode.FIXED_POINT;
+        store(capital, interestTax, day);
+    }
+
+    /**
+     * Constructor de la clase a partir de valores ya interpretados, sin crear BigDecimal en punto fijo.
+     *
+     * @param cc           cédula del usuario como número.
+     * @param capitalCents capital inicial del usuario en centavos, ya truncado; no negativo.
+     * @param rateUnscaled dígitos de la tasa de interés sin el punto decimal; no negativo.
+     * @param rateScale    cantidad de decimales de la tasa de interés.
+     * @param day          día en que se depositó el capital.
+     * @param mode         representación numérica del registro.
+     */
+    Record(long cc, long capitalCents, long rateUnscaled, int rateScale, short day, NumericMode mode) {
+        checkDay(day);
+
+        this.cc = cc;
+        this.fixedPoint = mode == NumericMode.FIXED_POINT;
+        this.interestCents = NOT_COMPUTED;
+        this.day = day;
+
+        if (fixedPoint) {
+            this.capitalCents = capitalCents;
+        } else {
+            this.capital = BigDecimal.valueOf(capitalCents, 2);
+        }
+
+        if (!fixedPoint || !packRate(rateUnscaled, rateScale)) {
+            this.interestTax = BigDecimal.valueOf(rateUnscaled, rateScale);
+        }
+    }
+
+    /**
+     * Almacena los valores del registro en la representación que corresponda.
+     *
+     * @param capital     capital inicial del usuario.
+     * @param interestTax interés del usuario.
+     * @param day         día en que se depositó el capital.
+     */
+    private void store(BigDecimal capital, BigDecimal interestTax, short day) {
+        var truncated = capital.setScale(2, RoundingMode.DOWN);
+        this.interest = null;
+        this.interestCents = NOT_COMPUTED;
+        this.capital = truncated;
         this.interestTax = interestTax;
         this.day = day;
+
+        if (!fixedPoint) {
+            return;
+        }
+
+        if (truncated.unscaledValue().bitLength() < Long.SIZE) {
+            this.capitalCents = truncated.unscaledValue().longValue();
+            this.capital = null;
+        }
+
+        if (interestTax.unscaledValue().bitLength() < Long.SIZE
+                && packRate(interestTax.unscaledValue().longValue(), interestTax.scale())) {
+            this.interestTax = null;
+        }
+    }
+
+    /**
+     * Intenta almacenar la tasa de interés en millonésimas.
+     *
+     * @param unscaled Dígitos de la tasa de interés sin el punto decimal; no negativo.
+     * @param scale    Cantidad de decimales de la tasa de interés.
+     * @return Booleano que indica si la tasa cabe en punto fijo.
+     */
+    private boolean packRate(long unscaled, int scale) {
+        if (scale < 0 || scale > RATE_SCALE) {
+            return false;
+        }
+
+        long factor = POWERS_OF_TEN[RATE_SCALE - scale];
+        long micros = unscaled * factor;
+        if (Math.multiplyHigh(unscaled, factor) != 0 || micros < 0) {
+            return false;
+        }
+
+        this.rateMicros = micros;
+        this.rateScale = (byte) scale;
+        return true;
     }
 
     /**
@@ -57,15 +219,47 @@ public class Record {
      * @throws java.lang.IllegalArgumentException Si la cédula no tiene 10 dígitos o si no son números.
      */
     public static void checkCC(String cc) throws IllegalArgumentException {
-        if (cc.length() != 10) {
+        parseCC(cc);
+    }
+
+    /**
+     * Verifica que la cédula ingresada sea válida y la convierte en número.
+     *
+     * @param cc cédula del usuario.
+     * @return Cédula como número.
+     * @throws java.lang.IllegalArgumentException Si la cédula no tiene 10 dígitos o si no son números.
+     */
+    public static long parseCC(String cc) throws IllegalArgumentException {
+        if (cc.length() != CC_LENGTH) {
             throw new IllegalArgumentException("La cédula debe tener 10 dígitos. Ingresaste %d de 10 dígitos.".formatted(cc.length()));
         }
 
-        for (var c : cc.toCharArray()) {
-            if (!Character.isDigit(c)) {
+        long value = 0;
+        for (int i = 0; i < CC_LENGTH; i++) {
+            char c = cc.charAt(i);
+            if (c < '0' || c > '9') {
                 throw new IllegalArgumentException("La cédula debe contener solo dígitos");
             }
+            value = value * 10 + (c - '0');
+        }
+
+        return value;
+    }
+
+    /**
+     * Convierte una cédula numérica en su forma de 10 dígitos con ceros a la izquierda.
+     *
+     * @param cc Cédula como número.
+     * @return Cédula de 10 dígitos.
+     */
+    public static String formatCC(long cc) {
+        char[] digits = new char[CC_LENGTH];
+        for (int i = CC_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + cc % 10);
+            cc /= 10;
         }
+
+        return new String(digits);
     }
 
     /**
@@ -110,6 +304,15 @@ public class Record {
      * @return Cédula del usuario.
      */
     public String getCc() {
+        return formatCC(cc);
+    }
+
+    /**
+     * Obtiene la cédula del usuario como número.
+     *
+     * @return Cédula del usuario como número.
+     */
+    public long getCcValue() {
         return cc;
     }
 
@@ -119,7 +322,17 @@ public class Record {
      * @return Capital inicial del usuario.
      */
     public BigDecimal getCapital() {
-        return capital;
+        return capital != null ? capital : BigDecimal.valueOf(capitalCents, 2);
+    }
+
+    /**
+     * Obtiene el capital inicial del usuario en centavos.
+     *
+     * @return Capital inicial del usuario en centavos.
+     * @throws java.lang.ArithmeticException Si el capital no cabe en un {@code long}.
+     */
+    public long getCapitalCents() throws ArithmeticException {
+        return capital != null ? capital.unscaledValue().longValueExact() : capitalCents;
     }
 
     /**
@@ -128,18 +341,114 @@ public class Record {
      * @return Interés del usuario.
      */
     public BigDecimal getInterestTax() {
-        return interestTax;
+        return interestTax != null ? interestTax : BigDecimal.valueOf(getRateUnscaled(), rateScale);
+    }
+
+    /**
+     * Obtiene la cantidad de decimales de la tasa de interés almacenada en punto fijo.
+     *
+     * @return Cantidad de decimales, o {@code -1} si la tasa está almacenada como BigDecimal.
+     */
+    int getRateScale() {
+        return interestTax == null ? rateScale : -1;
+    }
+
+    /**
+     * Obtiene los dígitos de la tasa de interés almacenada en punto fijo, sin el punto decimal.
+     *
+     * @return Dígitos de la tasa con {@link #getRateScale()} decimales.
+     */
+    long getRateUnscaled() {
+        return rateMicros / POWERS_OF_TEN[RATE_SCALE - rateScale];
+    }
+
+    /**
+     * Indica si el capital y la tasa de interés del registro están almacenados en punto fijo.
+     *
+     * @return Booleano que indica si el registro está en punto fijo.
+     */
+    public boolean isFixedPoint() {
+        return capital == null && interestTax == null;
     }
 
     /**
      * Obtiene el interés del usuario.
+     * <p>
+     * El valor se calcula una sola vez y se conserva hasta que {@link #update(BigDecimal, BigDecimal, short)}
+     * modifique el registro.
      *
      * @return Interés del usuario.
      */
     public BigDecimal getInterest() {
+        if (interest == null) {
+            interest = computeInterest();
+        }
+
+        return interest;
+    }
+
+    /**
+     * Calcula el interés del usuario.
+     *
+     * @return Interés del usuario.
+     */
+    private BigDecimal computeInterest() {
+        if (isFixedPoint()) {
+            try {
+                return BigDecimal.valueOf(getInterestCents(), 2);
+            } catch (ArithmeticException ignored) {
+            }
+        }
+
+        var capital = getCapital();
+        var interestTax = getInterestTax();
         return capital.multiply(interestTax).add(BigDecimal.valueOf(360).subtract(BigDecimal.valueOf(day)).divide(BigDecimal.valueOf(360), 10, RoundingMode.HALF_UP)).setScale(2, RoundingMode.UP);
     }
 
+    /**
+     * Obtiene el interés del usuario en centavos usando aritmética de punto fijo.
+     * <p>
+     * Aplica los mismos redondeos que {@link #getInterest()}: la fracción del año se redondea hacia arriba
+     * desde la mitad con 10 decimales y el resultado se redondea alejándose de cero a centavos. Al igual que
+     * {@link #getInterest()}, el valor se conserva hasta la siguiente actualización.
+     *
+     * @return Interés del usuario en centavos.
+     * @throws java.lang.ArithmeticException Si el registro no está en punto fijo o el cálculo desborda un {@code long}.
+     */
+    public long getInterestCents() throws ArithmeticException {
+        if (!isFixedPoint()) {
+            throw new ArithmeticException("El registro no está almacenado en punto fijo.");
+        }
+
+        if (interestCents == NOT_COMPUTED) {
+            try {
+                interestCents = computeInterestCents();
+            } catch (ArithmeticException e) {
+                interestCents = OVERFLOW;
+            }
+        }
+
+        if (interestCents == OVERFLOW) {
+            throw new ArithmeticException("El interés del registro desborda la aritmética de punto fijo.");
+        }
+
+        return interestCents;
+    }
+
+    /**
+     * Calcula el interés del usuario en centavos usando aritmética de punto fijo.
+     *
+     * @return Interés del usuario en centavos.
+     * @throws java.lang.ArithmeticException Si el cálculo desborda un {@code long}.
+     */
+    private long computeInterestCents() throws ArithmeticException {
+        // capitalCents * rateMicros tiene escala 8; se lleva a escala 10 para sumar la fracción del año.
+        long product = Math.multiplyExact(Math.multiplyExact(capitalCents, rateMicros), 100L);
+        long yearFraction = ((360L - day) * POWERS_OF_TEN[10] + 180L) / 360L;
+        long sum = Math.addExact(product, yearFraction);
+        return Math.addExact(sum, POWERS_OF_TEN[8] - 1) / POWERS_OF_TEN[8];
+    }
+
     /**
      * Obtiene el día en que se depositó el capital.
      *
@@ -157,9 +466,7 @@ public class Record {
      * @param day      Día en que se depositó el capital.
      */
     public void update(BigDecimal capital, BigDecimal interest, short day) {
-        this.capital = capital.setScale(2, RoundingMode.DOWN);
-        this.interestTax = interest;
-        this.day = day;
+        store(capital, interest, day);
     }
 
     /**
@@ -177,17 +484,131 @@ public class Record {
      *
      * @return Información del registro.
      * @see #getFormat() Formato utilizado para imprimir los registros.
+     * @see #appendTo(StringBuilder)
      */
     public String toString() {
-        return String.format("%-10s  %-13s  %-13s  %-4d", cc, "$%.2f".formatted(capital), "%.4f%%".formatted(interestTax.multiply(BigDecimal.valueOf(100))), day);
+        return appendTo(new StringBuilder(48)).toString();
+    }
+
+    /**
+     * Agrega la información del registro a un StringBuilder, con el mismo texto que {@link #toString()}.
+     * <p>
+     * Las columnas de {@link #getFormat()} se escriben directamente, sin interpretar el formato ni crear textos
+     * intermedios, usando el separador decimal de la configuración regional como lo hace
+     * {@link String#format(String, Object...)}. Si la configuración regional no usa los dígitos {@code 0}-{@code 9},
+     * se utiliza {@link String#format(String, Object...)}.
+     *
+     * @param sb StringBuilder de destino.
+     * @return El mismo StringBuilder.
+     */
+    public StringBuilder appendTo(StringBuilder sb) {
+        var separator = Decimals.decimalSeparator();
+        if (separator == 0) {
+            return sb.append(format());
+        }
+
+        appendCC(sb).append("  ");
+
+        var start = sb.length();
+        sb.append('$');
+        if (capital == null) {
+            Decimals.appendDecimal(sb, capitalCents, 2, separator);
+        } else {
+            Decimals.appendFixed(sb, capital, 2, separator);
+        }
+        pad(sb, start, 13).append("  ");
+
+        start = sb.length();
+        if (interestTax == null) {
+            // La tasa en millonésimas es el porcentaje con cuatro decimales.
+            Decimals.appendDecimal(sb, rateMicros, 4, separator);
+        } else {
+            Decimals.appendFixed(sb, interestTax.movePointRight(2), 4, separator);
+        }
+        sb.append('%');
+        pad(sb, start, 13).append("  ");
+
+        start = sb.length();
+        Decimals.appendLong(sb, day, 1);
+        return pad(sb, start, 4);
+    }
+
+    /**
+     * Información del registro escrita con {@link String#format(String, Object...)}.
+     *
+     * @return Información del registro.
+     */
+    private String format() {
+        return String.format("%-10s  %-13s  %-13s  %-4d", getCc(), "$%.2f".formatted(getCapital()), "%.4f%%".formatted(getInterestTax().multiply(BigDecimal.valueOf(100))), day);
     }
 
     /**
      * Obtiene los datos del registro separados por punto y coma.
      *
      * @return String con los datos del registro.
+     * @see #appendSimplified(StringBuilder)
      */
     public String getSimplifiedString() {
-        return String.format("%s;%s;%d;%s", cc, capital.toPlainString(), day, interestTax.toPlainString());
+        return appendSimplified(new StringBuilder(40)).toString();
+    }
+
+    /**
+     * Agrega los datos del registro separados por punto y coma a un StringBuilder, con el mismo texto que
+     * {@link #getSimplifiedString()}.
+     *
+     * @param sb StringBuilder de destino.
+     * @return El mismo StringBuilder.
+     */
+    public StringBuilder appendSimplified(StringBuilder sb) {
+        if (Decimals.decimalSeparator() == 0) {
+            return sb.append(String.format("%s;%s;%d;%s", getCc(), getCapital().toPlainString(), day, getInterestTax().toPlainString()));
+        }
+
+        appendCC(sb).append(';');
+        if (capital == null) {
+            Decimals.appendDecimal(sb, capitalCents, 2, '.');
+        } else {
+            sb.append(capital.toPlainString());
+        }
+
+        Decimals.appendLong(sb.append(';'), day, 1).append(';');
+        if (interestTax == null) {
+            return Decimals.appendDecimal(sb, getRateUnscaled(), rateScale, '.');
+        }
+        return sb.append(interestTax.toPlainString());
+    }
+
+    /**
+     * Agrega la cédula del usuario con 10 dígitos, como {@link #formatCC(long)}.
+     *
+     * @param sb StringBuilder de destino.
+     * @return El mismo StringBuilder.
+     */
+    private StringBuilder appendCC(StringBuilder sb) {
+        int start = sb.length();
+        sb.setLength(start + CC_LENGTH);
+        long value = cc;
+        for (int i = start + CC_LENGTH - 1; i >= start; i--) {
+            sb.setCharAt(i, (char) ('0' + value % 10));
+            value /= 10;
+        }
+
+        return sb;
+    }
+
+    /**
+     * Rellena con espacios a la derecha una columna que empieza en {@code start} hasta cierto ancho.
+     *
+     * @param sb    StringBuilder de destino.
+     * @param start Posición donde empieza la columna.
+     * @param width Ancho mínimo de la columna.
+     * @return El mismo StringBuilder.
+     */
+    private static StringBuilder pad(StringBuilder sb, int start, int width) {
+        for (int i = sb.length() - start; i < width; i++) {
+            sb.append(' ');
+        }
+
+        return sb;
     }
 }
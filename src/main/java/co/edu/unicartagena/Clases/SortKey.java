@@ -0,0 +1,52 @@
+package co.edu.unicartagena.Clases;
+
+import java.math.BigDecimal;
+
+/**
+ * Campo de los registros por el que se puede mantener un índice ordenado en un {@link BankInfo}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ * @see BankInfo#findRange(SortKey, BigDecimal, BigDecimal)
+ */
+public enum SortKey {
+    /**
+     * Capital del registro.
+     */
+    CAPITAL,
+
+    /**
+     * Día en que se realizó el depósito.
+     */
+    DAY,
+
+    /**
+     * Interés generado por el registro.
+     */
+    INTEREST;
+
+    /**
+     * Claves de los días posibles, para no crear una por registro.
+     */
+    private static final BigDecimal[] DAYS = new BigDecimal[361];
+
+    static {
+        for (int i = 0; i < DAYS.length; i++) {
+            DAYS[i] = BigDecimal.valueOf(i);
+        }
+    }
+
+    /**
+     * Obtiene la clave de un registro.
+     *
+     * @param record Registro.
+     * @return Valor del campo en el registro.
+     */
+    BigDecimal keyOf(Record record) {
+        return switch (this) {
+            case CAPITAL -> record.getCapital();
+            case DAY -> DAYS[record.getDay()];
+            case INTEREST -> record.getInterest();
+        };
+    }
+}
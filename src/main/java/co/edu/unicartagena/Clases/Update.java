@@ -0,0 +1,16 @@
+package co.edu.unicartagena.Clases;
+
+import java.math.BigDecimal;
+
+/**
+ * Actualización de un registro utilizada por {@link BankInfo#applyUpdates(java.util.Collection)}.
+ *
+ * @param cc          Cédula del usuario.
+ * @param capital     Nuevo capital del usuario.
+ * @param interestTax Nueva tasa de interés del usuario.
+ * @param day         Nuevo día en que el depósito fue realizado.
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+public record Update(String cc, BigDecimal capital, BigDecimal interestTax, short day) {
+}
@@ -0,0 +1,312 @@
+package co.edu.unicartagena.Estructuras;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Clase que representa una lista enlazada simple que puede modificarse desde varios hilos sin bloqueos.
+ * <p>
+ * Sigue el algoritmo de Harris y Michael: el sucesor de cada nodo es una referencia atómica con una marca. Para
+ * eliminar un nodo primero se marca su sucesor (eliminación lógica) y luego se intenta desenlazarlo del
+ * predecesor (eliminación física). Cualquier hilo que recorra la lista y encuentre un nodo marcado ayuda a
+ * desenlazarlo antes de continuar, de modo que ninguna operación espera a otro hilo.
+ * <p>
+ * El recorrido con {@link #iterator()} es débilmente consistente: nunca lanza
+ * {@link java.util.ConcurrentModificationException}, devuelve cada valor a lo sumo una vez y puede reflejar o
+ * no los cambios hechos durante el recorrido.
+ *
+ * @param <T> Tipo de dato que almacenará la lista.
+ * @author Pablo José Hernández Meléndez
+ * @see co.edu.unicartagena.Estructuras.SimpleLinkedList
+ */
+public class ConcurrentSimpleLinkedList<T> implements Iterable<T> {
+    /**
+     * Nodo centinela que precede al primer valor de la lista. Nunca se elimina.
+     */
+    private final Node<T> head;
+
+    /**
+     * Pista del último nodo de la lista. Puede quedar atrás del último nodo real o apuntar a un nodo eliminado.
+     */
+    private final AtomicReference<Node<T>> tail;
+
+    /**
+     * Tamaño de la lista.
+     */
+    private final LongAdder size;
+
+    /**
+     * Clase que representa un nodo de la lista.
+     *
+     * @param <E> Tipo de dato que almacenará el nodo.
+     */
+    private static final class Node<E> {
+        /**
+         * Valor que almacenará el nodo.
+         */
+        private final E value;
+
+        /**
+         * Sucesor del nodo actual ({@code null} si es el último), marcado si el nodo actual fue eliminado.
+         */
+        private final AtomicMarkableReference<Node<E>> next;
+
+        /**
+         * Constructor de la clase.
+         *
+         * @param value Valor que almacenará el nodo.
+         */
+        private Node(E value) {
+            this.value = value;
+            this.next = new AtomicMarkableReference<>(null, false);
+        }
+
+        /**
+         * Método que permite saber si el nodo fue eliminado lógicamente.
+         *
+         * @return Booleano que indica si el nodo fue eliminado.
+         */
+        private boolean isDeleted() {
+            return next.isMarked();
+        }
+    }
+
+    /**
+     * Resultado de una búsqueda: el nodo encontrado y su predecesor.
+     *
+     * @param previous Predecesor del nodo encontrado, o el último nodo recorrido si no se encontró ninguno.
+     * @param current  Nodo encontrado, o {@code null} si ningún nodo cumple la condición.
+     * @param <E>      Tipo de dato de los nodos.
+     */
+    private record Window<E>(Node<E> previous, Node<E> current) {
+    }
+
+    /**
+     * Constructor de la clase.
+     */
+    public ConcurrentSimpleLinkedList() {
+        head = new Node<>(null);
+        tail = new AtomicReference<>(head);
+        size = new LongAdder();
+    }
+
+    /**
+     * Método que permite agregar un nuevo nodo al final de la lista.
+     *
+     * @param values Valor(es) que almacenará(n) el/los nuevo(s) nodo(s).
+     */
+    @SafeVarargs
+    public final void add(T... values) {
+        for (T value : values) {
+            append(new Node<>(value));
+        }
+    }
+
+    /**
+     * Método de ayuda para enlazar un nodo al final de la lista.
+     *
+     * @param node Nodo a enlazar.
+     */
+    private void append(Node<T> node) {
+        var last = tail.get();
+        while (true) {
+            if (last.isDeleted()) {
+                last = find(null, false).previous();
+            }
+
+            var next = last.next.getReference();
+            if (next != null) {
+                last = next;
+                continue;
+            }
+
+            if (last.next.compareAndSet(null, node, false, false)) {
+                advanceTail(last, node);
+                size.increment();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Método de ayuda para adelantar la pista del último nodo después de enlazar un nodo.
+     * <p>
+     * Primero intenta moverla desde el predecesor observado; si otro hilo la movió, la adelanta un nodo a la vez
+     * mientras haya nodos después de ella, de modo que nunca queda atrás del nodo enlazado.
+     *
+     * @param previous Predecesor al que se enlazó el nodo.
+     * @param node     Nodo enlazado.
+     */
+    private void advanceTail(Node<T> previous, Node<T> node) {
+        if (tail.compareAndSet(previous, node)) {
+            return;
+        }
+
+        var last = tail.get();
+        Node<T> next;
+        while ((next = last.next.getReference()) != null) {
+            tail.compareAndSet(last, next);
+            last = tail.get();
+        }
+    }
+
+    /**
+     * Método para eliminar la primera ocurrencia de un valor en la lista.
+     *
+     * @param value Valor que se desea eliminar.
+     * @throws java.lang.NullPointerException Si el valor que se desea eliminar no existe en la lista.
+     */
+    public void deleteFirst(T value) throws NullPointerException {
+        while (true) {
+            var window = find(value, true);
+            var node = window.current();
+            if (node == null) {
+                throw new NullPointerException("El valor que desea eliminar no existe en la lista.");
+            }
+
+            var next = node.next.getReference();
+            if (!node.next.compareAndSet(next, next, false, true)) {
+                // Otro hilo modificó el sucesor o eliminó el nodo; se busca de nuevo.
+                continue;
+            }
+
+            window.previous().next.compareAndSet(node, next, false, false);
+            size.decrement();
+            return;
+        }
+    }
+
+    /**
+     * Método que permite saber si la lista contiene un valor.
+     * <p>
+     * No modifica la lista ni ayuda a desenlazar nodos eliminados.
+     *
+     * @param value Valor a buscar.
+     * @return Booleano que indica si el valor está en la lista.
+     */
+    public boolean contains(T value) {
+        for (var node = head.next.getReference(); node != null; node = node.next.getReference()) {
+            if (!node.isDeleted() && Objects.equals(node.value, value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Método de ayuda que recorre la lista desenlazando los nodos eliminados que encuentra.
+     *
+     * @param value Valor a buscar.
+     * @param match Booleano que indica si se busca el valor; si es {@code false}, se recorre toda la lista.
+     * @return Primer nodo no eliminado con el valor y su predecesor, o el último nodo recorrido y {@code null}.
+     */
+    private Window<T> find(T value, boolean match) {
+        var marked = new boolean[1];
+
+        retry:
+        while (true) {
+            var previous = head;
+            var current = previous.next.getReference();
+
+            while (current != null) {
+                var next = current.next.get(marked);
+                if (marked[0]) {
+                    if (!previous.next.compareAndSet(current, next, false, false)) {
+                        continue retry;
+                    }
+                    current = next;
+                    continue;
+                }
+
+                if (match && Objects.equals(current.value, value)) {
+                    return new Window<>(previous, current);
+                }
+
+                previous = current;
+                current = next;
+            }
+
+            return new Window<>(previous, null);
+        }
+    }
+
+    /**
+     * Método que permite obtener el tamaño de la lista.
+     * <p>
+     * Con modificaciones concurrentes, el valor es aproximado.
+     *
+     * @return Tamaño de la lista.
+     */
+    public int getSize() {
+        return size.intValue();
+    }
+
+    /**
+     * Método que permite recorrer los valores de la lista.
+     *
+     * @return Iterador débilmente consistente sobre los valores de la lista.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            /**
+             * Próximo nodo a devolver, o {@code null} si el recorrido terminó.
+             */
+            private Node<T> next = advance(head);
+
+            /**
+             * Busca el siguiente nodo no eliminado después de un nodo.
+             *
+             * @param node Nodo de origen.
+             * @return Siguiente nodo no eliminado, o {@code null} si no hay más.
+             */
+            private Node<T> advance(Node<T> node) {
+                var current = node.next.getReference();
+                while (current != null && current.isDeleted()) {
+                    current = current.next.getReference();
+                }
+                return current;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public T next() {
+                if (next == null) {
+                    throw new NoSuchElementException("No hay más valores en la lista.");
+                }
+
+                var value = next.value;
+                next = advance(next);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * Método para convertir la lista en un String.
+     *
+     * @return Lista en formato String.
+     * @throws java.lang.NullPointerException Si la lista no tiene nodos.
+     */
+    public String toString() throws NullPointerException {
+        var sb = new StringBuilder();
+        for (var value : this) {
+            sb.append(value).append('\n');
+        }
+
+        if (sb.isEmpty()) {
+            throw new NullPointerException("La lista no tiene nodos.");
+        }
+
+        return sb.toString();
+    }
+}
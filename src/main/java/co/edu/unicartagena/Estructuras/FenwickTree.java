@@ -0,0 +1,146 @@
+package co.edu.unicartagena.Estructuras;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * Clase que representa un árbol de Fenwick (árbol binario indexado) sobre un arreglo de tamaño fijo.
+ * <p>
+ * Permite sumar un valor a una posición y obtener la suma de un prefijo o de un tramo de posiciones en
+ * O(log n), sin recorrer el arreglo. Las operaciones de suma y resta se indican al crear el árbol, por lo que
+ * sirve para cualquier tipo numérico.
+ *
+ * @param <T> Tipo de los valores.
+ * @author Pablo José Hernández Meléndez
+ * @version $Id: $Id
+ */
+public class FenwickTree<T> {
+    /**
+     * Sumas parciales: la posición {@code i} (desde 1) acumula los {@code i & -i} valores que terminan en ella.
+     */
+    private final Object[] tree;
+    /**
+     * Elemento neutro de la suma.
+     */
+    private final T zero;
+    /**
+     * Operación de suma.
+     */
+    private final BinaryOperator<T> add;
+    /**
+     * Operación de resta.
+     */
+    private final BinaryOperator<T> subtract;
+
+    /**
+     * Constructor de la clase. Todas las posiciones comienzan con el elemento neutro.
+     *
+     * @param size     Cantidad de posiciones.
+     * @param zero     Elemento neutro de la suma.
+     * @param add      Operación de suma.
+     * @param subtract Operación de resta.
+     * @throws java.lang.IllegalArgumentException Si la cantidad de posiciones es negativa.
+     */
+    public FenwickTree(int size, T zero, BinaryOperator<T> add, BinaryOperator<T> subtract) throws IllegalArgumentException {
+        if (size < 0) {
+            throw new IllegalArgumentException("La cantidad de posiciones no puede ser negativa.");
+        }
+
+        this.tree = new Object[size + 1];
+        this.zero = zero;
+        this.add = add;
+        this.subtract = subtract;
+        Arrays.fill(tree, zero);
+    }
+
+    /**
+     * Constructor de la clase a partir de los valores iniciales de cada posición, en O(n).
+     *
+     * @param values   Valores iniciales.
+     * @param zero     Elemento neutro de la suma.
+     * @param add      Operación de suma.
+     * @param subtract Operación de resta.
+     */
+    public FenwickTree(T[] values, T zero, BinaryOperator<T> add, BinaryOperator<T> subtract) {
+        this(values.length, zero, add, subtract);
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] = add.apply(node(i), values[i - 1]);
+            var parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] = add.apply(node(parent), node(i));
+            }
+        }
+    }
+
+    /**
+     * Obtiene una suma parcial.
+     *
+     * @param i Posición en {@link #tree}.
+     * @return Suma parcial.
+     */
+    @SuppressWarnings("unchecked")
+    private T node(int i) {
+        return (T) tree[i];
+    }
+
+    /**
+     * Método que permite obtener la cantidad de posiciones.
+     *
+     * @return Cantidad de posiciones.
+     */
+    public int size() {
+        return tree.length - 1;
+    }
+
+    /**
+     * Método que permite sumar un valor a una posición.
+     *
+     * @param index Posición, desde 0.
+     * @param delta Valor que se suma.
+     * @throws java.lang.IndexOutOfBoundsException Si la posición no existe.
+     */
+    public void add(int index, T delta) throws IndexOutOfBoundsException {
+        Objects.checkIndex(index, size());
+        for (int i = index + 1; i < tree.length; i += i & -i) {
+            tree[i] = add.apply(node(i), delta);
+        }
+    }
+
+    /**
+     * Método que permite obtener la suma de las posiciones desde 0 hasta una posición.
+     *
+     * @param index Última posición, incluida; si es negativa, la suma es el elemento neutro.
+     * @return Suma del prefijo.
+     * @throws java.lang.IndexOutOfBoundsException Si la posición es mayor que la última.
+     */
+    public T prefix(int index) throws IndexOutOfBoundsException {
+        if (index >= size()) {
+            throw new IndexOutOfBoundsException("La posición %d no existe.".formatted(index));
+        }
+
+        var sum = zero;
+        for (int i = index + 1; i > 0; i -= i & -i) {
+            sum = add.apply(sum, node(i));
+        }
+        return sum;
+    }
+
+    /**
+     * Método que permite obtener la suma de un tramo de posiciones.
+     *
+     * @param from Primera posición, incluida.
+     * @param to   Última posición, incluida.
+     * @return Suma del tramo, o el elemento neutro si el tramo está vacío.
+     * @throws java.lang.IndexOutOfBoundsException Si alguna posición no existe.
+     */
+    public T sum(int from, int to) throws IndexOutOfBoundsException {
+        Objects.checkIndex(from, size());
+        Objects.checkIndex(to, size());
+        if (from > to) {
+            return zero;
+        }
+
+        return subtract.apply(prefix(to), prefix(from - 1));
+    }
+}
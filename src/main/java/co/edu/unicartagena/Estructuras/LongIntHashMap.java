@@ -0,0 +1,271 @@
+package co.edu.unicartagena.Estructuras;
+
+import java.util.Arrays;
+
+/**
+ * Tabla hash de direccionamiento abierto que relaciona claves {@code long} con valores {@code int}.
+ * <p>
+ * Las claves y los valores se guardan en arreglos primitivos, por lo que ninguna operación crea objetos
+ * envoltorio. Las colisiones se resuelven con sondeo lineal y las eliminaciones desplazan hacia atrás las
+ * entradas siguientes, de modo que la tabla nunca acumula marcas de borrado.
+ *
+ * @author Pablo José Hernández Meléndez
+ */
+public class LongIntHashMap {
+    /**
+     * Clave que marca una posición libre de la tabla.
+     */
+    private static final long FREE = 0L;
+
+    /**
+     * Factor de carga máximo antes de duplicar la tabla.
+     */
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /**
+     * Claves almacenadas.
+     */
+    private long[] keys;
+
+    /**
+     * Valores almacenados, en la misma posición que su clave.
+     */
+    private int[] values;
+
+    /**
+     * Máscara para reducir un hash a una posición de la tabla.
+     */
+    private int mask;
+
+    /**
+     * Cantidad de entradas que provoca el siguiente crecimiento de la tabla.
+     */
+    private int threshold;
+
+    /**
+     * Cantidad de entradas almacenadas en los arreglos.
+     */
+    private int size;
+
+    /**
+     * Booleano que indica si la clave {@code 0} está presente; se guarda aparte porque coincide con {@link #FREE}.
+     */
+    private boolean hasFreeKey;
+
+    /**
+     * Valor asociado a la clave {@code 0}.
+     */
+    private int freeValue;
+
+    /**
+     * Constructor de la clase.
+     */
+    public LongIntHashMap() {
+        this(16);
+    }
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param expectedSize Cantidad de entradas que se espera almacenar sin crecer.
+     */
+    public LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Obtiene la capacidad, potencia de dos, necesaria para almacenar cierta cantidad de entradas.
+     *
+     * @param expectedSize Cantidad de entradas.
+     * @return Capacidad de la tabla.
+     */
+    private static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 2) / (double) LOAD_FACTOR);
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("La tabla no puede almacenar %d entradas.".formatted(expectedSize));
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Reserva arreglos vacíos para cierta capacidad.
+     *
+     * @param capacity Capacidad de la tabla.
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Calcula la posición inicial de una clave.
+     *
+     * @param key Clave.
+     * @return Posición inicial en la tabla.
+     */
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * Obtiene la posición de una clave distinta de {@link #FREE}.
+     *
+     * @param key Clave.
+     * @return Posición de la clave, o {@code -1} si no existe.
+     */
+    private int find(long key) {
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == key) {
+                return i;
+            }
+            if (current == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     *
+     * @param key          Clave.
+     * @param defaultValue Valor devuelto si la clave no existe.
+     * @return Valor asociado, o {@code defaultValue} si la clave no existe.
+     */
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == FREE) {
+            return hasFreeKey ? freeValue : defaultValue;
+        }
+
+        int i = find(key);
+        return i < 0 ? defaultValue : values[i];
+    }
+
+    /**
+     * Indica si una clave existe en la tabla.
+     *
+     * @param key Clave.
+     * @return Booleano que indica si la clave existe.
+     */
+    public boolean containsKey(long key) {
+        return key == FREE ? hasFreeKey : find(key) >= 0;
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el valor anterior si existía.
+     *
+     * @param key   Clave.
+     * @param value Valor.
+     */
+    public void put(long key, int value) {
+        if (key == FREE) {
+            hasFreeKey = true;
+            freeValue = value;
+            return;
+        }
+
+        int i = slot(key);
+        for (; keys[i] != FREE; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+        }
+
+        keys[i] = key;
+        values[i] = value;
+        if (++size >= threshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * Elimina una clave de la tabla.
+     *
+     * @param key          Clave.
+     * @param defaultValue Valor devuelto si la clave no existe.
+     * @return Valor que estaba asociado a la clave, o {@code defaultValue} si la clave no existía.
+     */
+    public int remove(long key, int defaultValue) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                return defaultValue;
+            }
+            hasFreeKey = false;
+            return freeValue;
+        }
+
+        int i = find(key);
+        if (i < 0) {
+            return defaultValue;
+        }
+
+        int removed = values[i];
+        shiftBack(i);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Libera una posición desplazando hacia atrás las entradas de su misma cadena de sondeo.
+     *
+     * @param gap Posición que se libera.
+     */
+    private void shiftBack(int gap) {
+        for (int i = (gap + 1) & mask; keys[i] != FREE; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+            // La entrada puede ocupar el hueco si su posición inicial no está entre el hueco y su posición actual.
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+
+        keys[gap] = FREE;
+    }
+
+    /**
+     * Redistribuye las entradas en una tabla de mayor capacidad.
+     *
+     * @param capacity Nueva capacidad.
+     */
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key != FREE) {
+                int i = slot(key);
+                while (keys[i] != FREE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de entradas de la tabla.
+     *
+     * @return Cantidad de entradas.
+     */
+    public int size() {
+        return hasFreeKey ? size + 1 : size;
+    }
+
+    /**
+     * Elimina todas las entradas de la tabla.
+     */
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+        hasFreeKey = false;
+    }
+}
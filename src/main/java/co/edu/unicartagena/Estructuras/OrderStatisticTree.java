@@ -0,0 +1,496 @@
+package co.edu.unicartagena.Estructuras;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.function.LongConsumer;
+
+/**
+ * Clase que representa un árbol de búsqueda ordenado por clave que conoce el tamaño de cada subárbol.
+ * <p>
+ * Cada entrada es un par (clave, identificador); las entradas se ordenan por clave y, entre claves iguales, por
+ * identificador, de modo que varias entradas pueden compartir la clave. El árbol es un treap: cada nodo tiene una
+ * prioridad aleatoria y las rotaciones mantienen el orden de montículo de las prioridades, por lo que la
+ * profundidad esperada es O(log n) sin importar el orden de inserción.
+ * <p>
+ * Gracias al tamaño de los subárboles, contar las entradas de un rango cuesta O(log n) y recorrer las {@code k}
+ * entradas de un rango o las {@code k} mayores cuesta O(log n + k).
+ *
+ * @param <K> Tipo de las claves.
+ * @author Pablo José Hernández Meléndez
+ * @version $Id: $Id
+ */
+public class OrderStatisticTree<K extends Comparable<? super K>> {
+    /**
+     * Raíz del árbol, o {@code null} si está vacío.
+     */
+    private Node<K> root;
+    /**
+     * Generador de las prioridades de los nodos.
+     */
+    private final SplittableRandom priorities;
+
+    /**
+     * Clase que representa un nodo del árbol.
+     *
+     * @param <K> Tipo de la clave.
+     */
+    private static final class Node<K> {
+        /**
+         * Clave de la entrada.
+         */
+        private final K key;
+        /**
+         * Identificador de la entrada.
+         */
+        private final long id;
+        /**
+         * Prioridad del nodo; ningún hijo tiene una prioridad mayor.
+         */
+        private int priority;
+        /**
+         * Cantidad de nodos del subárbol que empieza en este nodo.
+         */
+        private int size;
+        /**
+         * Subárbol con las entradas menores.
+         */
+        private Node<K> left;
+        /**
+         * Subárbol con las entradas mayores.
+         */
+        private Node<K> right;
+
+        /**
+         * Constructor de la clase.
+         *
+         * @param key      Clave de la entrada.
+         * @param id       Identificador de la entrada.
+         * @param priority Prioridad del nodo.
+         */
+        Node(K key, long id, int priority) {
+            this.key = key;
+            this.id = id;
+            this.priority = priority;
+            this.size = 1;
+        }
+
+        /**
+         * Recalcula el tamaño del subárbol a partir del de sus hijos.
+         */
+        void resize() {
+            size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+
+    /**
+     * Constructor de la clase.
+     */
+    public OrderStatisticTree() {
+        priorities = new SplittableRandom();
+    }
+
+    /**
+     * Obtiene el tamaño de un subárbol.
+     *
+     * @param node Raíz del subárbol, o {@code null}.
+     * @return Cantidad de nodos del subárbol.
+     */
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Compara una entrada con la de un nodo.
+     *
+     * @param key  Clave de la entrada.
+     * @param id   Identificador de la entrada.
+     * @param node Nodo.
+     * @return Negativo, cero o positivo si la entrada es menor, igual o mayor que la del nodo.
+     */
+    private int compare(K key, long id, Node<K> node) {
+        int c = key.compareTo(node.key);
+        return c != 0 ? c : Long.compare(id, node.id);
+    }
+
+    /**
+     * Método que permite obtener la cantidad de entradas del árbol.
+     *
+     * @return Cantidad de entradas.
+     */
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Método que permite eliminar todas las entradas del árbol.
+     */
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Método que permite agregar una entrada al árbol.
+     *
+     * @param key Clave de la entrada.
+     * @param id  Identificador de la entrada.
+     * @return Booleano que indica si la entrada se agregó; {@code false} si ya existía.
+     * @throws java.lang.NullPointerException Si la clave es {@code null}.
+     */
+    public boolean insert(K key, long id) throws NullPointerException {
+        if (key == null) {
+            throw new NullPointerException("La clave no puede ser nula.");
+        }
+
+        var before = size();
+        root = insert(root, key, id);
+        return size() != before;
+    }
+
+    /**
+     * Método de ayuda para agregar una entrada a un subárbol.
+     *
+     * @param node Raíz del subárbol.
+     * @param key  Clave de la entrada.
+     * @param id   Identificador de la entrada.
+     * @return Nueva raíz del subárbol.
+     */
+    private Node<K> insert(Node<K> node, K key, long id) {
+        if (node == null) {
+            return new Node<>(key, id, priorities.nextInt());
+        }
+
+        int c = compare(key, id, node);
+        if (c == 0) {
+            return node;
+        }
+
+        if (c < 0) {
+            node.left = insert(node.left, key, id);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, key, id);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+
+        node.resize();
+        return node;
+    }
+
+    /**
+     * Método que permite reemplazar el contenido del árbol por un conjunto de entradas.
+     * <p>
+     * Ordena las entradas una sola vez y arma un árbol balanceado, lo que evita descender desde la raíz por cada
+     * entrada. Las prioridades aleatorias se reparten por niveles, de mayor a menor, para conservar el orden de
+     * montículo. Si hay entradas repetidas, se conserva solo una.
+     *
+     * @param keys Claves de las entradas.
+     * @param ids  Identificadores de las entradas, en el mismo orden que las claves.
+     * @throws java.lang.IllegalArgumentException Si los arreglos tienen distinta longitud.
+     * @throws java.lang.NullPointerException     Si alguna clave es {@code null}.
+     */
+    public void build(K[] keys, long[] ids) throws IllegalArgumentException, NullPointerException {
+        if (keys.length != ids.length) {
+            throw new IllegalArgumentException("Las claves y los identificadores deben tener la misma longitud.");
+        }
+
+        Node<K>[] nodes = newNodes(keys.length);
+        for (int i = 0; i < nodes.length; i++) {
+            if (keys[i] == null) {
+                throw new NullPointerException("La clave no puede ser nula.");
+            }
+            nodes[i] = new Node<>(keys[i], ids[i], 0);
+        }
+        Arrays.sort(nodes, (a, b) -> compare(a.key, a.id, b));
+
+        int unique = 0;
+        for (var node : nodes) {
+            if (unique == 0 || compare(node.key, node.id, nodes[unique - 1]) != 0) {
+                nodes[unique++] = node;
+            }
+        }
+
+        root = link(nodes, 0, unique);
+        if (root == null) {
+            return;
+        }
+
+        var values = new int[unique];
+        for (int i = 0; i < unique; i++) {
+            values[i] = priorities.nextInt();
+        }
+        Arrays.sort(values);
+
+        var queue = new ArrayDeque<Node<K>>();
+        queue.add(root);
+        for (int i = unique - 1; !queue.isEmpty(); i--) {
+            var node = queue.poll();
+            node.priority = values[i];
+            if (node.left != null) {
+                queue.add(node.left);
+            }
+            if (node.right != null) {
+                queue.add(node.right);
+            }
+        }
+    }
+
+    /**
+     * Crea un arreglo de nodos.
+     *
+     * @param length Longitud del arreglo.
+     * @param <K>    Tipo de las claves.
+     * @return Arreglo vacío.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <K> Node<K>[] newNodes(int length) {
+        return (Node<K>[]) new Node[length];
+    }
+
+    /**
+     * Método de ayuda para enlazar un tramo ordenado de nodos como un subárbol balanceado.
+     *
+     * @param nodes Nodos ordenados.
+     * @param from  Posición del primer nodo, incluida.
+     * @param to    Posición del último nodo, excluida.
+     * @return Raíz del subárbol, o {@code null} si el tramo está vacío.
+     */
+    private Node<K> link(Node<K>[] nodes, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+
+        var middle = (from + to) >>> 1;
+        var node = nodes[middle];
+        node.left = link(nodes, from, middle);
+        node.right = link(nodes, middle + 1, to);
+        node.resize();
+        return node;
+    }
+
+    /**
+     * Método que permite eliminar una entrada del árbol.
+     *
+     * @param key Clave de la entrada.
+     * @param id  Identificador de la entrada.
+     * @return Booleano que indica si la entrada se eliminó; {@code false} si no existía.
+     */
+    public boolean remove(K key, long id) {
+        if (key == null) {
+            return false;
+        }
+
+        var before = size();
+        root = remove(root, key, id);
+        return size() != before;
+    }
+
+    /**
+     * Método de ayuda para eliminar una entrada de un subárbol.
+     *
+     * @param node Raíz del subárbol.
+     * @param key  Clave de la entrada.
+     * @param id   Identificador de la entrada.
+     * @return Nueva raíz del subárbol.
+     */
+    private Node<K> remove(Node<K> node, K key, long id) {
+        if (node == null) {
+            return null;
+        }
+
+        int c = compare(key, id, node);
+        if (c < 0) {
+            node.left = remove(node.left, key, id);
+        } else if (c > 0) {
+            node.right = remove(node.right, key, id);
+        } else {
+            return merge(node.left, node.right);
+        }
+
+        node.resize();
+        return node;
+    }
+
+    /**
+     * Método de ayuda para unir dos subárboles cuyas entradas están separadas (todas las de {@code left} son
+     * menores que las de {@code right}).
+     *
+     * @param left  Subárbol con las entradas menores.
+     * @param right Subárbol con las entradas mayores.
+     * @return Raíz del subárbol resultante.
+     */
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.resize();
+            return left;
+        }
+
+        right.left = merge(left, right.left);
+        right.resize();
+        return right;
+    }
+
+    /**
+     * Método de ayuda para rotar un subárbol hacia la derecha.
+     *
+     * @param node Raíz del subárbol.
+     * @return Nueva raíz del subárbol (el hijo izquierdo anterior).
+     */
+    private Node<K> rotateRight(Node<K> node) {
+        var left = node.left;
+        node.left = left.right;
+        left.right = node;
+        node.resize();
+        left.resize();
+        return left;
+    }
+
+    /**
+     * Método de ayuda para rotar un subárbol hacia la izquierda.
+     *
+     * @param node Raíz del subárbol.
+     * @return Nueva raíz del subárbol (el hijo derecho anterior).
+     */
+    private Node<K> rotateLeft(Node<K> node) {
+        var right = node.right;
+        node.right = right.left;
+        right.left = node;
+        node.resize();
+        right.resize();
+        return right;
+    }
+
+    /**
+     * Método que permite contar las entradas con una clave menor (o menor o igual) que la indicada.
+     *
+     * @param key       Clave de referencia.
+     * @param inclusive Booleano que indica si se cuentan las entradas con una clave igual.
+     * @return Cantidad de entradas.
+     */
+    public int rank(K key, boolean inclusive) {
+        int count = 0;
+        var node = root;
+        while (node != null) {
+            int c = key.compareTo(node.key);
+            if (c < 0 || (c == 0 && !inclusive)) {
+                node = node.left;
+            } else {
+                count += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Método que permite obtener el identificador de la entrada que ocupa una posición en orden ascendente, en
+     * O(log n). Es la operación inversa de {@link #rank(Comparable, boolean)}.
+     *
+     * @param position Posición de la entrada, desde 0.
+     * @return Identificador de la entrada.
+     * @throws java.lang.IndexOutOfBoundsException Si la posición no existe.
+     */
+    public long select(int position) throws IndexOutOfBoundsException {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("La posición %d no existe.".formatted(position));
+        }
+
+        var node = root;
+        while (true) {
+            int left = sizeOf(node.left);
+            if (position < left) {
+                node = node.left;
+            } else if (position == left) {
+                return node.id;
+            } else {
+                position -= left + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Método que permite contar las entradas cuya clave está en un rango, en O(log n).
+     *
+     * @param from Menor clave del rango, incluida, o {@code null} para no limitar el rango por abajo.
+     * @param to   Mayor clave del rango, incluida, o {@code null} para no limitar el rango por arriba.
+     * @return Cantidad de entradas del rango.
+     */
+    public int count(K from, K to) {
+        var upper = to == null ? size() : rank(to, true);
+        var lower = from == null ? 0 : rank(from, false);
+        return Math.max(0, upper - lower);
+    }
+
+    /**
+     * Método que permite recorrer en orden ascendente los identificadores de las entradas cuya clave está en un
+     * rango, en O(log n + k).
+     *
+     * @param from   Menor clave del rango, incluida, o {@code null} para no limitar el rango por abajo.
+     * @param to     Mayor clave del rango, incluida, o {@code null} para no limitar el rango por arriba.
+     * @param action Acción que recibe cada identificador.
+     */
+    public void range(K from, K to, LongConsumer action) {
+        var stack = new ArrayDeque<Node<K>>();
+        var node = root;
+        while (node != null || !stack.isEmpty()) {
+            // Se desciende por la izquierda solo mientras las claves no sean menores que el inicio del rango.
+            while (node != null) {
+                if (from != null && node.key.compareTo(from) < 0) {
+                    node = node.right;
+                } else {
+                    stack.push(node);
+                    node = node.left;
+                }
+            }
+
+            if (stack.isEmpty()) {
+                return;
+            }
+
+            node = stack.pop();
+            if (to != null && node.key.compareTo(to) > 0) {
+                return;
+            }
+            action.accept(node.id);
+            node = node.right;
+        }
+    }
+
+    /**
+     * Método que permite recorrer en orden descendente los identificadores de las entradas con las claves
+     * mayores, en O(log n + k).
+     *
+     * @param limit  Cantidad máxima de entradas que se recorren.
+     * @param action Acción que recibe cada identificador.
+     */
+    public void descending(int limit, LongConsumer action) {
+        var stack = new ArrayDeque<Node<K>>();
+        var node = root;
+        int visited = 0;
+        while (visited < limit && (node != null || !stack.isEmpty())) {
+            while (node != null) {
+                stack.push(node);
+                node = node.right;
+            }
+
+            node = stack.pop();
+            action.accept(node.id);
+            visited++;
+            node = node.left;
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package co.edu.unicartagena.Estructuras;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Clase que representa un mapa inmutable de claves {@code long} no negativas, implementado como un trie de
+ * arreglos comprimidos con mapas de bits (HAMT).
+ * <p>
+ * Cada nivel del trie utiliza 5 bits de la clave, empezando por los más significativos, por lo que el recorrido
+ * devuelve los valores en orden ascendente de clave. Cada nodo guarda solo los hijos presentes y un mapa de bits
+ * que indica cuáles son. Las operaciones que modifican el mapa devuelven uno nuevo que comparte con el original
+ * todos los nodos que no están en el camino de la clave modificada, por lo que cuestan O(log<sub>32</sub> n) y
+ * el mapa original sigue siendo válido.
+ *
+ * @param <V> Tipo de dato de los valores.
+ * @author Pablo José Hernández Meléndez
+ */
+public final class PersistentLongMap<V> implements Iterable<V> {
+    /**
+     * Cantidad de bits de la clave que utiliza cada nivel.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Máscara para obtener la posición de un hijo dentro de un nodo.
+     */
+    private static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * Desplazamiento máximo de la raíz; cubre todas las claves no negativas.
+     */
+    private static final int MAX_SHIFT = 60;
+
+    /**
+     * Mapa vacío.
+     */
+    private static final PersistentLongMap<?> EMPTY = new PersistentLongMap<>(null, 0, 0);
+
+    /**
+     * Raíz del trie, o {@code null} si el mapa está vacío.
+     */
+    private final BitmapNode root;
+
+    /**
+     * Desplazamiento de la clave en el nivel de la raíz.
+     */
+    private final int shift;
+
+    /**
+     * Cantidad de valores del mapa.
+     */
+    private final int size;
+
+    /**
+     * Clase que representa un nodo del trie. En el último nivel, los hijos son los valores del mapa.
+     *
+     * @param bitmap   Mapa de bits con las posiciones ocupadas.
+     * @param children Hijos presentes, en orden de posición.
+     */
+    private record BitmapNode(int bitmap, Object[] children) {
+        /**
+         * Método que permite saber si una posición está ocupada.
+         *
+         * @param bit Posición dentro del nodo.
+         * @return Booleano que indica si la posición está ocupada.
+         */
+        boolean has(int bit) {
+            return (bitmap & (1 << bit)) != 0;
+        }
+
+        /**
+         * Método que permite obtener el índice de una posición dentro del arreglo de hijos.
+         *
+         * @param bit Posición dentro del nodo.
+         * @return Índice en {@link #children}.
+         */
+        int indexOf(int bit) {
+            return Integer.bitCount(bitmap & ((1 << bit) - 1));
+        }
+
+        /**
+         * Crea un nodo igual al actual con un hijo reemplazado o agregado.
+         *
+         * @param bit   Posición dentro del nodo.
+         * @param child Nuevo hijo.
+         * @return Nuevo nodo.
+         */
+        BitmapNode with(int bit, Object child) {
+            var index = indexOf(bit);
+            if (has(bit)) {
+                var copy = children.clone();
+                copy[index] = child;
+                return new BitmapNode(bitmap, copy);
+            }
+
+            var copy = new Object[children.length + 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            copy[index] = child;
+            System.arraycopy(children, index, copy, index + 1, children.length - index);
+            return new BitmapNode(bitmap | (1 << bit), copy);
+        }
+
+        /**
+         * Crea un nodo igual al actual sin un hijo.
+         *
+         * @param bit Posición dentro del nodo; debe estar ocupada.
+         * @return Nuevo nodo, o {@code null} si el nodo queda sin hijos.
+         */
+        BitmapNode without(int bit) {
+            if (children.length == 1) {
+                return null;
+            }
+
+            var index = indexOf(bit);
+            var copy = new Object[children.length - 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            System.arraycopy(children, index + 1, copy, index, copy.length - index);
+            return new BitmapNode(bitmap & ~(1 << bit), copy);
+        }
+    }
+
+    /**
+     * Constructor de la clase.
+     *
+     * @param root  Raíz del trie.
+     * @param shift Desplazamiento de la clave en el nivel de la raíz.
+     * @param size  Cantidad de valores.
+     */
+    private PersistentLongMap(BitmapNode root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Obtiene un mapa vacío.
+     *
+     * @param <V> Tipo de dato de los valores.
+     * @return Mapa vacío.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentLongMap<V> empty() {
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    /**
+     * Construye un mapa a partir de claves ordenadas, sin crear mapas intermedios.
+     *
+     * @param keys   Claves en orden estrictamente ascendente.
+     * @param values Valores de cada clave.
+     * @param count  Cantidad de claves a utilizar.
+     * @param <V>    Tipo de dato de los valores.
+     * @return Mapa con las claves indicadas.
+     * @throws java.lang.IllegalArgumentException Si alguna clave es negativa o las claves no están ordenadas.
+     * @throws java.lang.NullPointerException     Si algún valor es {@code null}.
+     */
+    public static <V> PersistentLongMap<V> ofSorted(long[] keys, V[] values, int count) throws IllegalArgumentException {
+        if (count == 0) {
+            return empty();
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (keys[i] < 0 || (i > 0 && keys[i] <= keys[i - 1])) {
+                throw new IllegalArgumentException("Las claves deben ser no negativas y estar en orden ascendente.");
+            }
+            if (values[i] == null) {
+                throw new NullPointerException("El mapa no admite valores nulos.");
+            }
+        }
+
+        // Cada nivel agrupa los elementos del nivel anterior que comparten el prefijo de la clave.
+        var size = count;
+        var prefixes = Arrays.copyOf(keys, count);
+        var level = Arrays.copyOf(values, count, Object[].class);
+        int shift = 0;
+
+        while (true) {
+            int groups = 0;
+            for (int start = 0; start < count; ) {
+                var prefix = prefixes[start] >>> BITS;
+                int end = start;
+                int bitmap = 0;
+                while (end < count && prefixes[end] >>> BITS == prefix) {
+                    bitmap |= 1 << (int) (prefixes[end] & MASK);
+                    end++;
+                }
+
+                level[groups] = new BitmapNode(bitmap, Arrays.copyOfRange(level, start, end));
+                prefixes[groups] = prefix;
+                groups++;
+                start = end;
+            }
+
+            count = groups;
+            if (count == 1 && prefixes[0] == 0) {
+                return new PersistentLongMap<>((BitmapNode) level[0], shift, size);
+            }
+            shift += BITS;
+        }
+    }
+
+    /**
+     * Obtiene el valor de una clave.
+     *
+     * @param key Clave.
+     * @return Valor, o {@code null} si la clave no está en el mapa.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (root == null || key < 0 || !covers(key)) {
+            return null;
+        }
+
+        var node = root;
+        for (int level = shift; ; level -= BITS) {
+            var bit = (int) (key >>> level) & MASK;
+            if (!node.has(bit)) {
+                return null;
+            }
+
+            var child = node.children[node.indexOf(bit)];
+            if (level == 0) {
+                return (V) child;
+            }
+            node = (BitmapNode) child;
+        }
+    }
+
+    /**
+     * Método que permite saber si la raíz actual alcanza a representar una clave.
+     *
+     * @param key Clave no negativa.
+     * @return Booleano que indica si la clave cabe en el trie sin agregar niveles.
+     */
+    private boolean covers(long key) {
+        return shift >= MAX_SHIFT || key >>> (shift + BITS) == 0;
+    }
+
+    /**
+     * Crea un mapa igual al actual con una clave asociada al valor indicado.
+     *
+     * @param key   Clave no negativa.
+     * @param value Valor.
+     * @return Nuevo mapa.
+     * @throws java.lang.IllegalArgumentException Si la clave es negativa.
+     * @throws java.lang.NullPointerException     Si el valor es {@code null}.
+     */
+    public PersistentLongMap<V> put(long key, V value) throws IllegalArgumentException {
+        if (key < 0) {
+            throw new IllegalArgumentException("La clave debe ser mayor o igual a 0");
+        }
+        if (value == null) {
+            throw new NullPointerException("El mapa no admite valores nulos.");
+        }
+
+        var newRoot = root == null ? new BitmapNode(0, new Object[0]) : root;
+        var newShift = root == null ? 0 : shift;
+        while (newShift < MAX_SHIFT && key >>> (newShift + BITS) != 0) {
+            newRoot = new BitmapNode(1, new Object[]{newRoot});
+            newShift += BITS;
+        }
+
+        var added = new boolean[1];
+        newRoot = put(newRoot, newShift, key, value, added);
+        return new PersistentLongMap<>(newRoot, newShift, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Método de ayuda para asociar una clave en un subárbol.
+     *
+     * @param node  Nodo del subárbol.
+     * @param level Desplazamiento de la clave en el nivel del nodo.
+     * @param key   Clave.
+     * @param value Valor.
+     * @param added Se marca si la clave no existía.
+     * @return Nuevo nodo del subárbol.
+     */
+    private static BitmapNode put(BitmapNode node, int level, long key, Object value, boolean[] added) {
+        var bit = (int) (key >>> level) & MASK;
+        if (level == 0) {
+            added[0] = !node.has(bit);
+            return node.with(bit, value);
+        }
+
+        var child = node.has(bit) ? (BitmapNode) node.children[node.indexOf(bit)] : new BitmapNode(0, new Object[0]);
+        return node.with(bit, put(child, level - BITS, key, value, added));
+    }
+
+    /**
+     * Crea un mapa igual al actual sin una clave.
+     *
+     * @param key Clave.
+     * @return Nuevo mapa, o el mismo mapa si la clave no existía.
+     */
+    public PersistentLongMap<V> remove(long key) {
+        if (get(key) == null) {
+            return this;
+        }
+
+        var newRoot = remove(root, shift, key);
+        return newRoot == null ? empty() : new PersistentLongMap<>(newRoot, shift, size - 1);
+    }
+
+    /**
+     * Método de ayuda para eliminar una clave existente de un subárbol.
+     *
+     * @param node  Nodo del subárbol.
+     * @param level Desplazamiento de la clave en el nivel del nodo.
+     * @param key   Clave.
+     * @return Nuevo nodo del subárbol, o {@code null} si queda vacío.
+     */
+    private static BitmapNode remove(BitmapNode node, int level, long key) {
+        var bit = (int) (key >>> level) & MASK;
+        if (level == 0) {
+            return node.without(bit);
+        }
+
+        var child = remove((BitmapNode) node.children[node.indexOf(bit)], level - BITS, key);
+        return child == null ? node.without(bit) : node.with(bit, child);
+    }
+
+    /**
+     * Método que permite obtener la cantidad de valores del mapa.
+     *
+     * @return Cantidad de valores.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Método que permite recorrer los valores del mapa en orden ascendente de clave.
+     *
+     * @return Iterador sobre los valores.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<>() {
+            /**
+             * Nodos del camino actual, desde la raíz.
+             */
+            private final BitmapNode[] path = new BitmapNode[MAX_SHIFT / BITS + 1];
+
+            /**
+             * Índice del próximo hijo a visitar en cada nodo del camino.
+             */
+            private final int[] positions = new int[path.length];
+
+            /**
+             * Profundidad del nodo de valores del camino, o -1 si el recorrido terminó.
+             */
+            private int depth = -1;
+
+            {
+                if (root != null) {
+                    path[0] = root;
+                    depth = 0;
+                    descend();
+                }
+            }
+
+            /**
+             * Baja por el primer hijo pendiente hasta llegar a un nodo de valores con hijos pendientes, o termina
+             * el recorrido si no quedan.
+             */
+            private void descend() {
+                var leafDepth = shift / BITS;
+                while (depth >= 0) {
+                    var node = path[depth];
+                    if (positions[depth] == node.children.length) {
+                        depth--;
+                        if (depth >= 0) {
+                            positions[depth]++;
+                        }
+                    } else if (depth == leafDepth) {
+                        return;
+                    } else {
+                        path[depth + 1] = (BitmapNode) node.children[positions[depth]];
+                        positions[depth + 1] = 0;
+                        depth++;
+                    }
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return depth >= 0;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public V next() {
+                if (depth < 0) {
+                    throw new NoSuchElementException("No hay más valores en el mapa.");
+                }
+
+                var value = (V) path[depth].children[positions[depth]++];
+                descend();
+                return value;
+            }
+        };
+    }
+}
@@ -1,5 +1,14 @@
 package co.edu.unicartagena.Estructuras;
 
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * Clase que representa una lista enlazada simple.
  *
@@ -7,15 +16,24 @@ package co.edu.unicartagena.Estructuras;
  * @author Pablo José Hernández Meléndez
  * @version $Id: $Id
  */
-public class SimpleLinkedList<T> {
+public class SimpleLinkedList<T> implements Iterable<T> {
     /**
      * Nodo inicial de la lista.
      */
     protected Node<T> head;
+    /**
+     * Nodo final de la lista.
+     */
+    protected Node<T> tail;
     /**
      * Tamaño de la lista.
      */
     protected int size;
+    /**
+     * Cantidad de modificaciones estructurales de la lista (nodos enlazados o desenlazados). Los iteradores la
+     * comparan para detectar modificaciones concurrentes.
+     */
+    protected int modCount;
 
     /**
      * Clase que representa un nodo de la lista.
@@ -26,7 +44,7 @@ public class SimpleLinkedList<T> {
         /**
          * Valor que almacenará el nodo.
          */
-        private final E value;
+        private E value;
         /**
          * Sucesor del nodo actual.
          */
@@ -53,7 +71,16 @@ public class SimpleLinkedList<T> {
          */
         public void setNext(Node<E> next) {
             this.next = next;
-            this.hasNext = true;
+            this.hasNext = next != null;
+        }
+
+        /**
+         * Método que permite reemplazar el valor del nodo.
+         *
+         * @param value Nuevo valor del nodo.
+         */
+        public void setValue(E value) {
+            this.value = value;
         }
 
         /**
@@ -103,6 +130,7 @@ public class SimpleLinkedList<T> {
     public SimpleLinkedList() {
         this.size = 0;
         head = null;
+        tail = null;
     }
 
 
@@ -114,53 +142,117 @@ public class SimpleLinkedList<T> {
     @SafeVarargs
     public final void add(T... values) {
         for (T value : values) {
-            handleAdd(this.head, value);
-            this.size = this.size + 1;
+            var node = new Node<>(value);
+            linkChain(node, node, 1);
         }
     }
 
     /**
-     * Método de ayuda para agregar un nuevo nodo a la lista.
+     * Método que permite agregar todos los valores de una colección al final de la lista.
+     * <p>
+     * Los nodos se enlazan primero entre sí y la cadena resultante se une a la lista en una sola operación.
      *
-     * @param node  Nodo actual.
-     * @param value Valor que almacenará el nuevo nodo.
+     * @param values Valores que almacenarán los nuevos nodos.
      */
-    private void handleAdd(Node<T> node, T value) {
-        if (this.size == 0) {
-            head = new Node<>(value);
-        } else if (node.hasNext()) {
-            handleAdd(node.getNext(), value);
-        } else {
-            node.setNext(new Node<>(value));
+    public void addAll(Iterable<? extends T> values) {
+        linkAll(values.iterator());
+    }
+
+    /**
+     * Método que permite agregar todos los valores de un Stream al final de la lista, respetando su orden.
+     *
+     * @param values Valores que almacenarán los nuevos nodos.
+     */
+    public void addAll(Stream<? extends T> values) {
+        linkAll(values.iterator());
+    }
+
+    /**
+     * Método de ayuda para construir una cadena con los valores de un iterador y enlazarla al final de la lista.
+     *
+     * @param values Iterador con los valores que almacenarán los nuevos nodos.
+     */
+    private void linkAll(Iterator<? extends T> values) {
+        Node<T> first = null;
+        Node<T> last = null;
+        int count = 0;
+
+        while (values.hasNext()) {
+            var node = new Node<T>(values.next());
+            if (first == null) {
+                first = node;
+            } else {
+                last.setNext(node);
+            }
+            last = node;
+            count++;
+        }
+
+        if (count > 0) {
+            linkChain(first, last, count);
         }
     }
 
     /**
-     * Método para convertir la lista en un String.
+     * Método de ayuda para enlazar una cadena de nodos al final de la lista.
      *
-     * @return Lista en formato String.
-     * @throws java.lang.NullPointerException Si la lista no tiene nodos.
+     * @param first Primer nodo de la cadena.
+     * @param last  Último nodo de la cadena.
+     * @param count Cantidad de nodos de la cadena.
      */
-    public String toString() throws NullPointerException {
-        if (this.size == 0) {
-            throw new NullPointerException("La lista no tiene nodos.");
+    private void linkChain(Node<T> first, Node<T> last, int count) {
+        var previous = this.tail;
+
+        if (this.head == null) {
+            this.head = first;
+        } else {
+            this.tail.setNext(first);
         }
 
-        return handleToString(head);
+        this.tail = last;
+        this.size = this.size + count;
+        this.modCount++;
+        linked(previous, first);
+    }
+
+    /**
+     * Método que se invoca después de enlazar una cadena de nodos al final de la lista.
+     * <p>
+     * Permite a las subclases mantener índices sobre los nodos; por defecto no hace nada.
+     *
+     * @param previous Predecesor del primer nodo enlazado, o {@code null} si la cadena quedó como cabeza de la lista.
+     * @param first    Primer nodo enlazado. La cadena continúa hasta el final de la lista.
+     */
+    protected void linked(Node<T> previous, Node<T> first) {
+    }
+
+    /**
+     * Método que se invoca después de desenlazar un nodo de la lista.
+     * <p>
+     * Permite a las subclases mantener índices sobre los nodos; por defecto no hace nada.
+     *
+     * @param previous Predecesor que tenía el nodo, o {@code null} si el nodo era la cabeza de la lista.
+     * @param node     Nodo desenlazado.
+     */
+    protected void unlinked(Node<T> previous, Node<T> node) {
     }
 
     /**
-     * Método de ayuda para convertir la lista en un String.
+     * Método para convertir la lista en un String, con el valor de cada nodo en una línea.
      *
-     * @param node Nodo de origen.
      * @return Lista en formato String.
+     * @throws java.lang.NullPointerException Si la lista no tiene nodos.
      */
-    private String handleToString(Node<T> node) {
-        if (node.hasNext()) {
-            return String.format("%s\n%s", node, handleToString(node.getNext()));
+    public String toString() throws NullPointerException {
+        if (this.size == 0) {
+            throw new NullPointerException("La lista no tiene nodos.");
         }
 
-        return String.format("%s\n", node);
+        var sb = new StringBuilder();
+        for (var node = head; node != null; node = node.hasNext() ? node.getNext() : null) {
+            sb.append(node).append('\n');
+        }
+        return sb.toString();
     }
 
     /**
@@ -179,30 +271,265 @@ public class SimpleLinkedList<T> {
      * @throws java.lang.NullPointerException Si el valor que se desea eliminar no existe en la lista.
      */
     public void deleteFirst(T value) throws NullPointerException {
-        handleDeleteFirst(head, value);
+        Node<T> previous = null;
+        for (var node = head; node != null; node = node.hasNext() ? node.getNext() : null) {
+            if (node.getValue().equals(value)) {
+                unlinkAfter(previous);
+                return;
+            }
+            previous = node;
+        }
+
+        throw new NullPointerException("El valor que desea eliminar no existe en la lista.");
+    }
+
+    /**
+     * Método para desenlazar el sucesor de un nodo sin recorrer la lista.
+     *
+     * @param previous Predecesor del nodo a desenlazar, o {@code null} para desenlazar la cabeza de la lista.
+     * @return Valor del nodo desenlazado.
+     * @throws java.lang.NullPointerException Si no existe un nodo después de {@code previous}.
+     */
+    protected T unlinkAfter(Node<T> previous) throws NullPointerException {
+        var node = previous == null ? this.head : previous.getNext();
+        if (node == null) {
+            throw new NullPointerException("La lista no tiene nodos.");
+        }
+
+        var next = node.hasNext() ? node.getNext() : null;
+
+        if (previous == null) {
+            this.head = next;
+        } else {
+            previous.setNext(next);
+        }
+
+        if (node == this.tail) {
+            this.tail = previous;
+        }
+
         this.size = this.size - 1;
+        this.modCount++;
+        unlinked(previous, node);
+        return node.getValue();
     }
 
     /**
-     * Método de ayuda para eliminar la primera ocurrencia de un valor en la lista.
+     * Método que permite recorrer los valores de la lista en orden.
+     * <p>
+     * El iterador falla rápido: si la lista se modifica estructuralmente mientras se recorre, lanza
+     * {@link ConcurrentModificationException}. Reemplazar el valor de un nodo no se considera una modificación
+     * estructural.
      *
-     * @param node  Nodo actual.
-     * @param value Valor que se desea eliminar.
-     * @throws IllegalArgumentException Si el valor que se desea eliminar no existe en la lista.
+     * @return Iterador sobre los valores de la lista.
      */
-    private void handleDeleteFirst(Node<T> node, T value) throws NullPointerException {
-        if (node.getValue().equals(value) && node == this.head) {
-            if (!node.hasNext()) {
-                this.head = null;
-            } else {
-                this.head = node.getNext();
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Método que permite recorrer los valores de la lista en orden, dividiéndolos para procesarlos en paralelo.
+     * <p>
+     * Como la lista no admite acceso por posición, cada división copia en un arreglo un lote de los siguientes
+     * nodos. Los lotes crecen de 1024 en 1024 valores hasta 2^25, por lo que las listas pequeñas no pagan el costo
+     * de la copia y las grandes se reparten entre todos los núcleos.
+     *
+     * @return Spliterator sobre los valores de la lista.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ListSpliterator();
+    }
+
+    /**
+     * Método que permite obtener un Stream secuencial con los valores de la lista.
+     *
+     * @return Stream con los valores de la lista, en orden.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Método que permite obtener un Stream paralelo con los valores de la lista.
+     *
+     * @return Stream paralelo con los valores de la lista, en orden.
+     * @see #spliterator()
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Iterador que falla rápido sobre los valores de la lista.
+     */
+    private class Itr implements Iterator<T> {
+        /**
+         * Nodo que devolverá la próxima llamada a {@link #next()}.
+         */
+        private Node<T> next;
+
+        /**
+         * Valor de {@link #modCount} al crear el iterador.
+         */
+        private final int expectedModCount;
+
+        /**
+         * Constructor de la clase.
+         */
+        Itr() {
+            next = head;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("La lista se modificó durante el recorrido.");
             }
-        } else if (node.getNext().getValue().equals(value)) {
-            node.setNext(node.getNext().getNext());
-        } else if (node.hasNext()) {
-            handleDeleteFirst(node.getNext(), value);
-        } else {
-            throw new NullPointerException("El valor que desea eliminar no existe en la lista.");
+            if (next == null) {
+                throw new NoSuchElementException("No quedan nodos por recorrer.");
+            }
+
+            var value = next.getValue();
+            next = next.hasNext() ? next.getNext() : null;
+            return value;
+        }
+    }
+
+    /**
+     * Spliterator que divide la lista en lotes de tamaño creciente.
+     */
+    private class ListSpliterator implements Spliterator<T> {
+        /**
+         * Incremento del tamaño de los lotes.
+         */
+        static final int BATCH_UNIT = 1 << 10;
+
+        /**
+         * Tamaño máximo de un lote.
+         */
+        static final int MAX_BATCH = 1 << 25;
+
+        /**
+         * Próximo nodo por recorrer, o {@code null} si no se ha empezado.
+         */
+        private Node<T> current;
+
+        /**
+         * Cantidad de nodos por recorrer, o {@code -1} si no se ha empezado.
+         */
+        private int remaining;
+
+        /**
+         * Valor de {@link #modCount} al empezar el recorrido.
+         */
+        private int expectedModCount;
+
+        /**
+         * Tamaño del último lote.
+         */
+        private int batch;
+
+        /**
+         * Constructor de la clase. El recorrido empieza en la cabeza de la lista al usarlo por primera vez.
+         */
+        ListSpliterator() {
+            remaining = -1;
+        }
+
+        /**
+         * Obtiene la cantidad de nodos por recorrer, tomando la cabeza de la lista si todavía no se ha empezado.
+         *
+         * @return Cantidad de nodos por recorrer.
+         */
+        private int remaining() {
+            if (remaining < 0) {
+                current = head;
+                remaining = size;
+                expectedModCount = modCount;
+            }
+            return remaining;
+        }
+
+        /**
+         * Avanza al siguiente nodo y devuelve el valor del actual.
+         *
+         * @return Valor del nodo actual.
+         * @throws java.util.ConcurrentModificationException Si la lista terminó antes de lo esperado.
+         */
+        private T advance() throws ConcurrentModificationException {
+            if (current == null) {
+                throw new ConcurrentModificationException("La lista se modificó durante el recorrido.");
+            }
+
+            var value = current.getValue();
+            current = current.hasNext() ? current.getNext() : null;
+            remaining--;
+            return value;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            var count = Math.min(remaining(), Math.min(batch + BATCH_UNIT, MAX_BATCH));
+            if (count <= 1) {
+                return null;
+            }
+
+            var values = new Object[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = advance();
+            }
+            batch = count;
+            checkModCount();
+            return Spliterators.spliterator(values, 0, count, Spliterator.ORDERED);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining() == 0) {
+                return false;
+            }
+
+            var value = advance();
+            checkModCount();
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (remaining() > 0) {
+                action.accept(advance());
+            }
+            checkModCount();
+        }
+
+        /**
+         * Verifica que la lista no se haya modificado estructuralmente desde que empezó el recorrido.
+         *
+         * @throws java.util.ConcurrentModificationException Si la lista se modificó.
+         */
+        private void checkModCount() throws ConcurrentModificationException {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("La lista se modificó durante el recorrido.");
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
         }
     }
 }
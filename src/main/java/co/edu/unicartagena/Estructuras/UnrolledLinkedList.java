@@ -0,0 +1,487 @@
+package co.edu.unicartagena.Estructuras;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Clase que representa una lista enlazada desenrollada: los valores se guardan en bloques de hasta
+ * {@value #CHUNK_SIZE} posiciones enlazados entre sí.
+ * <p>
+ * Ofrece las mismas operaciones públicas que {@link SimpleLinkedList}, pero en lugar de un nodo por valor usa un
+ * arreglo por bloque, por lo que cada valor ocupa poco más que su referencia y los recorridos leen memoria
+ * contigua en vez de seguir un puntero por valor. Al eliminar un valor, los siguientes valores del bloque se
+ * desplazan y el bloque se fusiona con su sucesor cuando entre ambos caben en uno solo, de modo que los bloques
+ * se mantienen al menos medio llenos.
+ *
+ * @param <T> Tipo de dato que almacenará la lista.
+ * @author Pablo José Hernández Meléndez
+ * @version $Id: $Id
+ */
+public class UnrolledLinkedList<T> implements Iterable<T> {
+    /**
+     * Cantidad máxima de valores de un bloque.
+     */
+    public static final int CHUNK_SIZE = 64;
+
+    /**
+     * Bloque inicial de la lista.
+     */
+    private Chunk head;
+    /**
+     * Bloque final de la lista.
+     */
+    private Chunk tail;
+    /**
+     * Tamaño de la lista.
+     */
+    private int size;
+    /**
+     * Cantidad de modificaciones estructurales de la lista. Los iteradores la comparan para detectar
+     * modificaciones concurrentes.
+     */
+    private int modCount;
+
+    /**
+     * Bloque de valores de la lista.
+     */
+    private static final class Chunk {
+        /**
+         * Valores del bloque; solo las primeras {@link #count} posiciones están ocupadas.
+         */
+        private final Object[] values;
+        /**
+         * Cantidad de valores del bloque.
+         */
+        private int count;
+        /**
+         * Sucesor del bloque, o {@code null} si es el último.
+         */
+        private Chunk next;
+
+        /**
+         * Constructor de la clase.
+         */
+        Chunk() {
+            values = new Object[CHUNK_SIZE];
+        }
+    }
+
+    /**
+     * Constructor de la clase.
+     */
+    public UnrolledLinkedList() {
+        this.size = 0;
+        head = null;
+        tail = null;
+    }
+
+    /**
+     * Método que permite agregar nuevos valores al final de la lista.
+     *
+     * @param values Valor(es) que se agregará(n).
+     */
+    @SafeVarargs
+    public final void add(T... values) {
+        for (T value : values) {
+            append(value);
+        }
+    }
+
+    /**
+     * Método que permite agregar todos los valores de una colección al final de la lista.
+     *
+     * @param values Valores que se agregarán.
+     */
+    public void addAll(Iterable<? extends T> values) {
+        for (T value : values) {
+            append(value);
+        }
+    }
+
+    /**
+     * Método que permite agregar todos los valores de un Stream al final de la lista, respetando su orden.
+     *
+     * @param values Valores que se agregarán.
+     */
+    public void addAll(Stream<? extends T> values) {
+        values.forEachOrdered(this::append);
+    }
+
+    /**
+     * Método de ayuda para agregar un valor al último bloque, creando uno nuevo si está lleno.
+     *
+     * @param value Valor que se agregará.
+     */
+    private void append(T value) {
+        if (tail == null || tail.count == CHUNK_SIZE) {
+            var chunk = new Chunk();
+            if (tail == null) {
+                head = chunk;
+            } else {
+                tail.next = chunk;
+            }
+            tail = chunk;
+        }
+
+        tail.values[tail.count++] = value;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Método que permite obtener el tamaño de la lista.
+     *
+     * @return Tamaño de la lista.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Método para eliminar la primera ocurrencia de un valor en la lista.
+     *
+     * @param value Valor que se desea eliminar.
+     * @throws java.lang.NullPointerException Si el valor que se desea eliminar no existe en la lista.
+     */
+    public void deleteFirst(T value) throws NullPointerException {
+        Chunk previous = null;
+        for (var chunk = head; chunk != null; chunk = chunk.next) {
+            for (int i = 0; i < chunk.count; i++) {
+                if (Objects.equals(chunk.values[i], value)) {
+                    removeAt(previous, chunk, i);
+                    return;
+                }
+            }
+            previous = chunk;
+        }
+
+        throw new NullPointerException("El valor que desea eliminar no existe en la lista.");
+    }
+
+    /**
+     * Método de ayuda para eliminar un valor de un bloque.
+     * <p>
+     * Los valores siguientes del bloque se desplazan una posición. Un bloque vacío se desenlaza, y un bloque que
+     * queda a menos de la mitad absorbe a su sucesor si entre ambos caben en un solo bloque.
+     *
+     * @param previous Predecesor del bloque, o {@code null} si el bloque es la cabeza de la lista.
+     * @param chunk    Bloque que contiene el valor.
+     * @param index    Posición del valor dentro del bloque.
+     */
+    private void removeAt(Chunk previous, Chunk chunk, int index) {
+        var moved = chunk.count - index - 1;
+        if (moved > 0) {
+            System.arraycopy(chunk.values, index + 1, chunk.values, index, moved);
+        }
+        chunk.values[--chunk.count] = null;
+        size--;
+        modCount++;
+
+        if (chunk.count == 0) {
+            if (previous == null) {
+                head = chunk.next;
+            } else {
+                previous.next = chunk.next;
+            }
+            if (chunk == tail) {
+                tail = previous;
+            }
+            return;
+        }
+
+        var next = chunk.next;
+        if (chunk.count < CHUNK_SIZE / 2 && next != null && chunk.count + next.count <= CHUNK_SIZE) {
+            System.arraycopy(next.values, 0, chunk.values, chunk.count, next.count);
+            chunk.count += next.count;
+            chunk.next = next.next;
+            if (next == tail) {
+                tail = chunk;
+            }
+        }
+    }
+
+    /**
+     * Método para convertir la lista en un String.
+     *
+     * @return Lista en formato String.
+     * @throws java.lang.NullPointerException Si la lista no tiene valores.
+     */
+    public String toString() throws NullPointerException {
+        if (this.size == 0) {
+            throw new NullPointerException("La lista no tiene nodos.");
+        }
+
+        var sb = new StringBuilder();
+        for (var value : this) {
+            sb.append(value).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Método que permite recorrer los valores de la lista en orden.
+     * <p>
+     * El iterador falla rápido: si la lista se modifica mientras se recorre, lanza
+     * {@link ConcurrentModificationException}.
+     *
+     * @return Iterador sobre los valores de la lista.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Método que permite recorrer los valores de la lista en orden, dividiéndolos para procesarlos en paralelo.
+     * <p>
+     * Cada división entrega un lote de bloques completos sin copiar sus valores. Los lotes crecen de 16 en 16
+     * bloques, por lo que las listas pequeñas se recorren en un solo hilo y las grandes se reparten entre todos
+     * los núcleos.
+     *
+     * @return Spliterator sobre los valores de la lista.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ChunkSpliterator(null, null, -1);
+    }
+
+    /**
+     * Método que permite obtener un Stream secuencial con los valores de la lista.
+     *
+     * @return Stream con los valores de la lista, en orden.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Método que permite obtener un Stream paralelo con los valores de la lista.
+     *
+     * @return Stream paralelo con los valores de la lista, en orden.
+     * @see #spliterator()
+     */
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    /**
+     * Iterador que falla rápido sobre los valores de la lista.
+     */
+    private class Itr implements Iterator<T> {
+        /**
+         * Bloque del próximo valor.
+         */
+        private Chunk chunk;
+
+        /**
+         * Posición del próximo valor dentro de {@link #chunk}.
+         */
+        private int index;
+
+        /**
+         * Valor de {@link #modCount} al crear el iterador.
+         */
+        private final int expectedModCount;
+
+        /**
+         * Constructor de la clase.
+         */
+        Itr() {
+            chunk = head;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return chunk != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("La lista se modificó durante el recorrido.");
+            }
+            if (chunk == null) {
+                throw new NoSuchElementException("No quedan valores por recorrer.");
+            }
+
+            var value = (T) chunk.values[index];
+            if (++index == chunk.count) {
+                chunk = chunk.next;
+                index = 0;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Spliterator que recorre un rango de bloques de la lista y lo divide en lotes de bloques completos.
+     */
+    private class ChunkSpliterator implements Spliterator<T> {
+        /**
+         * Incremento, en bloques, del tamaño de los lotes.
+         */
+        static final int BATCH_UNIT = 16;
+
+        /**
+         * Próximo bloque por recorrer.
+         */
+        private Chunk current;
+
+        /**
+         * Bloque donde termina el rango, excluido, o {@code null} para el final de la lista.
+         */
+        private Chunk end;
+
+        /**
+         * Posición del próximo valor dentro de {@link #current}.
+         */
+        private int index;
+
+        /**
+         * Cantidad de valores por recorrer, o {@code -1} si el recorrido todavía no empieza.
+         */
+        private int remaining;
+
+        /**
+         * Valor de {@link #modCount} al empezar el recorrido.
+         */
+        private int expectedModCount;
+
+        /**
+         * Tamaño, en bloques, del último lote.
+         */
+        private int batch;
+
+        /**
+         * Constructor de la clase.
+         *
+         * @param first     Primer bloque del rango; se ignora si {@code remaining} es {@code -1}.
+         * @param end       Bloque donde termina el rango, excluido.
+         * @param remaining Cantidad de valores del rango, o {@code -1} para recorrer toda la lista desde el
+         *                  primer uso.
+         */
+        ChunkSpliterator(Chunk first, Chunk end, int remaining) {
+            this.current = first;
+            this.end = end;
+            this.remaining = remaining;
+            this.expectedModCount = modCount;
+        }
+
+        /**
+         * Obtiene la cantidad de valores por recorrer, tomando la cabeza de la lista si todavía no se ha empezado.
+         *
+         * @return Cantidad de valores por recorrer.
+         */
+        private int remaining() {
+            if (remaining < 0) {
+                current = head;
+                end = null;
+                remaining = size;
+                expectedModCount = modCount;
+            }
+            return remaining;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            if (remaining() == 0 || index != 0) {
+                return null;
+            }
+
+            var chunks = batch + BATCH_UNIT;
+            var first = current;
+            int count = 0;
+            for (int i = 0; i < chunks && current != end && count < remaining; i++) {
+                count += current.count;
+                current = current.next;
+            }
+
+            if (current == end || count >= remaining) {
+                current = first;
+                return null;
+            }
+
+            batch = chunks;
+            remaining -= count;
+            return new ChunkSpliterator(first, current, count);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining() == 0) {
+                return false;
+            }
+
+            checkModCount();
+            var value = (T) current.values[index];
+            if (++index == current.count) {
+                current = current.next;
+                index = 0;
+            }
+            remaining--;
+            action.accept(value);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (remaining() == 0) {
+                return;
+            }
+
+            checkModCount();
+            var chunk = current;
+            var from = index;
+            var left = remaining;
+            current = end;
+            index = 0;
+            remaining = 0;
+
+            while (left > 0) {
+                if (chunk == null) {
+                    throw new ConcurrentModificationException("La lista se modificó durante el recorrido.");
+                }
+
+                var to = Math.min(chunk.count, from + left);
+                for (int i = from; i < to; i++) {
+                    action.accept((T) chunk.values[i]);
+                }
+                left -= to - from;
+                chunk = chunk.next;
+                from = 0;
+            }
+            checkModCount();
+        }
+
+        /**
+         * Verifica que la lista no se haya modificado desde que empezó el recorrido.
+         *
+         * @throws java.util.ConcurrentModificationException Si la lista se modificó.
+         */
+        private void checkModCount() throws ConcurrentModificationException {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException("La lista se modificó durante el recorrido.");
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining();
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+}
@@ -1,19 +1,37 @@
 package co.edu.unicartagena;
 
 import co.edu.unicartagena.Clases.BankInfo;
+import co.edu.unicartagena.Clases.ConcurrentBankInfo;
+import co.edu.unicartagena.Clases.NumericMode;
 import co.edu.unicartagena.Clases.Record;
+import co.edu.unicartagena.Servidor.BankServer;
+import co.edu.unicartagena.Servidor.Command;
+import co.edu.unicartagena.Servidor.LoadGenerator;
 
 import javax.swing.*;
 import javax.swing.filechooser.FileNameExtensionFilter;
 import java.awt.*;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.InputMismatchException;
+import java.util.List;
 import java.util.Scanner;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.LongPredicate;
 
 /**
  * Sistema de administración bancaria con interfaz de clientes basado en listas simples enlazadas
@@ -33,13 +51,62 @@ public class Main {
      * Lista enlazada simple para almacenar información de los registros del banco.
      */
     private static final BankInfo bi = new BankInfo();
+    /**
+     * Cantidad de registros que se muestran por página al listar los usuarios.
+     */
+    private static final int PAGE_SIZE = 50;
 
     /**
      * Método principal del programa.
+     * <p>
+     * Con el argumento {@code --journal <directorio>}, los registros se recuperan del directorio al iniciar y cada
+     * operación queda guardada en un diario; al salir, el diario se incorpora a la instantánea.
+     * <p>
+     * Con el argumento {@code --server <puerto | host:puerto | unix:ruta>}, el programa no muestra el menú y atiende
+     * el protocolo de {@link co.edu.unicartagena.Servidor.BankServer} hasta que se detenga el proceso. El servidor
+     * solo escucha en direcciones locales salvo que se indique {@code --allow-remote}, y solo admite {@code SAVE}
+     * con {@code --save-dir <directorio>}, donde guarda los archivos.
+     * <p>
+     * Con el argumento {@code --batch <archivo | ->}, el programa no muestra el menú: ejecuta las operaciones de
+     * {@link Command} del archivo (o de la entrada estándar), escribe una respuesta por línea y termina.
+     * <p>
+     * Los argumentos pueden indicarse en cualquier orden. {@code --server} no se puede combinar con
+     * {@code --journal} ni con {@code --batch}. Si algún argumento es desconocido o le falta su valor, el programa
+     * muestra el uso en la salida de errores y termina con estado 2, sin abrir el menú.
      *
      * @param args Argumentos de la línea de comandos.
      */
     public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(Options.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        var journal = options.journal();
+        var batch = options.batch();
+        if (options.server() != null) {
+            serve(options);
+            return;
+        }
+
+        // En el modo por lotes, la salida estándar solo lleva las respuestas; los mensajes van a la de errores.
+        var messages = batch != null ? System.err : System.out;
+        bi.setReportStream(messages);
+        if (journal != null) {
+            openJournal(journal, messages);
+        }
+
+        if (batch != null) {
+            runBatch(batch);
+            closeJournal();
+            return;
+        }
+
         menu:
         do {
             cleanConsole();
@@ -55,7 +122,8 @@ public class Main {
                     8.  Listar los usuarios.
                     9.  Guardar lista en un archivo
                     10. Obtener Lista desde un archivo.
-                    11.  Salir
+                    11. Auditar los totales.
+                    12. Salir
                                         
                     Opción:""");
             int option = sc.nextInt();
@@ -71,16 +139,251 @@ public class Main {
                 case 5 -> execute(Main::removeUser, true);
                 case 6 -> execute(Main::updateUser, true);
                 case 7 -> execute(Main::searchUser, true);
-                case 8 -> execute(() -> System.out.println(bi), true);
+                case 8 -> execute(Main::listUsers, true);
                 case 9 -> execute(Main::saveRecords, true);
                 case 10 -> execute(Main::loadRecords, false);
-                case 11 -> {
+                case 11 -> execute(Main::auditTotals, true);
+                case 12 -> {
+                    closeJournal();
                     break menu;
                 }
             }
         } while (true);
     }
 
+    /**
+     * Argumentos de la línea de comandos.
+     *
+     * @param journal       Directorio del diario, o {@code null} si no se indicó.
+     * @param server        Dirección del servidor, o {@code null} si no se indicó.
+     * @param batch         Archivo de operaciones por lotes, o {@code null} si no se indicó.
+     * @param saveDirectory Directorio donde el servidor guarda los archivos de {@code SAVE}, o {@code null} si no
+     *                      se indicó.
+     * @param allowRemote   Booleano que indica si el servidor puede escuchar en una dirección que no sea local.
+     */
+    record Options(Path journal, String server, String batch, Path saveDirectory, boolean allowRemote) {
+        /**
+         * Uso de los argumentos.
+         */
+        static final String USAGE = """
+                Uso: [--journal <directorio>] [--batch <archivo | ->]
+                     --server <puerto | host:puerto | unix:ruta> [--save-dir <directorio>] [--allow-remote]""";
+
+        /**
+         * Argumentos admitidos que reciben un valor.
+         */
+        private static final List<String> FLAGS = List.of("--journal", "--server", "--batch", "--save-dir");
+
+        /**
+         * Interpreta los argumentos de la línea de comandos. Todos se leen antes de validarlos, por lo que el orden
+         * no importa.
+         *
+         * @param args Argumentos.
+         * @return Argumentos interpretados.
+         * @throws java.lang.IllegalArgumentException Si un argumento es desconocido, está repetido, le falta su
+         *                                            valor o no se puede combinar con otro.
+         */
+        static Options parse(String[] args) throws IllegalArgumentException {
+            String journal = null;
+            String server = null;
+            String batch = null;
+            String saveDirectory = null;
+            var allowRemote = false;
+            for (int i = 0; i < args.length; i++) {
+                var flag = args[i];
+                if (flag.equals("--allow-remote")) {
+                    if (allowRemote) {
+                        throw new IllegalArgumentException("El argumento --allow-remote está repetido.");
+                    }
+                    allowRemote = true;
+                    continue;
+                }
+                if (!FLAGS.contains(flag)) {
+                    throw new IllegalArgumentException("Argumento desconocido: " + flag);
+                }
+                // Un valor que empieza con "--" es otro argumento; "-" sí es un valor válido de --batch.
+                if (i + 1 >= args.length || args[i + 1].startsWith("--")) {
+                    throw new IllegalArgumentException("Falta el valor de " + flag + ".");
+                }
+
+                var value = args[++i];
+                switch (flag) {
+                    case "--journal" -> journal = once(journal, flag, value);
+                    case "--server" -> server = once(server, flag, value);
+                    case "--save-dir" -> saveDirectory = once(saveDirectory, flag, value);
+                    default -> batch = once(batch, flag, value);
+                }
+            }
+
+            if (server != null && journal != null) {
+                throw new IllegalArgumentException("El servidor no admite --journal: sus registros no se guardan en un diario.");
+            }
+            if (server != null && batch != null) {
+                throw new IllegalArgumentException("No se puede usar --server junto con --batch.");
+            }
+
+            if (server == null && (saveDirectory != null || allowRemote)) {
+                throw new IllegalArgumentException("--save-dir y --allow-remote solo se usan con --server.");
+            }
+
+            return new Options(journal == null ? null : Paths.get(journal), server, batch,
+                    saveDirectory == null ? null : Paths.get(saveDirectory), allowRemote);
+        }
+
+        /**
+         * Verifica que un argumento no se haya indicado antes.
+         *
+         * @param previous Valor anterior del argumento, o {@code null}.
+         * @param flag     Argumento.
+         * @param value    Valor nuevo.
+         * @return Valor nuevo.
+         * @throws java.lang.IllegalArgumentException Si el argumento ya tenía un valor.
+         */
+        private static String once(String previous, String flag, String value) throws IllegalArgumentException {
+            if (previous != null) {
+                throw new IllegalArgumentException("El argumento " + flag + " está repetido.");
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Ejecuta las operaciones de un archivo sin interacción con el usuario.
+     * <p>
+     * Las respuestas se acumulan en un buffer y se escriben en la salida estándar al llenarse, sin limpiar la
+     * consola ni abrir ventanas. Los reportes de las cargas y, al terminar, la cantidad de operaciones y la
+     * velocidad se informan en la salida de errores, para no mezclarlas con las respuestas.
+     *
+     * @param source Ruta del archivo, o {@code -} para leer la entrada estándar.
+     */
+    private static void runBatch(String source) {
+        var start = System.nanoTime();
+        long operations = 0;
+        long errors = 0;
+
+        var out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16);
+        try (var in = source.equals("-")
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), 1 << 16)
+                : Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+
+                operations++;
+                try {
+                    var command = Command.parse(line);
+                    if (command.operation() == Command.Operation.QUIT) {
+                        out.write("OK\n");
+                        break;
+                    }
+                    executeCommand(command, out);
+                } catch (Exception e) {
+                    errors++;
+                    out.write("ERR ");
+                    out.write(String.valueOf(e.getMessage()).replace('\n', ' '));
+                    out.write('\n');
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Error al leer las operaciones.\nCausa: " + e.getMessage());
+        }
+
+        var elapsed = (System.nanoTime() - start) / 1e9;
+        System.err.printf("%d operaciones (%d con error) en %.3f s: %.0f operaciones/s.%n",
+                operations, errors, elapsed, operations / Math.max(elapsed, 1e-9));
+    }
+
+    /**
+     * Ejecuta una operación del modo por lotes y escribe su respuesta.
+     *
+     * @param command Operación.
+     * @param out     Salida de las respuestas.
+     * @throws java.lang.Exception Cuando la operación falla.
+     */
+    private static void executeCommand(Command command, Writer out) throws Exception {
+        switch (command.operation()) {
+            case ADD -> bi.add(command.cc(), command.capital(), command.interestTax(), command.day());
+            case UPDATE -> bi.updateRecord(command.cc(), command.capital(), command.interestTax(), command.day());
+            case REMOVE -> bi.removeRecord(command.cc());
+            case GET -> {
+                var record = bi.getRecord(command.cc());
+                if (record == null) {
+                    throw new NullPointerException("No existe un usuario con esa cédula.");
+                }
+                out.write("OK ");
+                out.write(record.getSimplifiedString());
+                out.write('\n');
+                return;
+            }
+            case TOTALS -> {
+                out.write("OK %d %s %s\n".formatted(bi.getSize(),
+                        bi.getTotalCapital().toPlainString(), bi.getTotalInterest().toPlainString()));
+                return;
+            }
+            case SAVE -> bi.save(Paths.get(command.path()));
+            case LOAD -> {
+                var report = bi.load(Paths.get(command.path()));
+                out.write("OK %d %d\n".formatted(report.getAccepted(), report.getRejected()));
+                return;
+            }
+            case QUIT -> {
+            }
+        }
+
+        out.write("OK\n");
+    }
+
+    /**
+     * Atiende el protocolo del servidor en la dirección indicada.
+     *
+     * @param options Argumentos del servidor.
+     */
+    private static void serve(Options options) {
+        try (var server = new BankServer(new ConcurrentBankInfo(NumericMode.FIXED_POINT), LoadGenerator.parseAddress(options.server()),
+                options.saveDirectory(), options.allowRemote())) {
+            System.out.println("Servidor escuchando en " + server.getAddress());
+            server.serve();
+        } catch (Exception e) {
+            System.out.println("Error al iniciar el servidor.\nCausa: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Recupera los registros de un directorio y comienza a registrar las operaciones en su diario.
+     *
+     * @param directory Directorio de la instantánea y el diario.
+     * @param messages  Salida de los mensajes de la recuperación.
+     */
+    private static void openJournal(Path directory, PrintStream messages) {
+        try {
+            Files.createDirectories(directory);
+            var report = bi.openJournal(directory.resolve("registros.bksn"), directory.resolve("registros.journal"));
+            messages.printf("Se recuperaron %d operaciones del diario.%n", report.getAccepted());
+        } catch (Exception e) {
+            messages.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Incorpora el diario a la instantánea y lo cierra.
+     */
+    private static void closeJournal() {
+        if (!bi.hasJournal()) {
+            return;
+        }
+
+        try {
+            bi.compact();
+            bi.closeJournal();
+        } catch (Exception e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
     /**
      * Método para encapsular de operaciones.
      *
@@ -374,6 +677,50 @@ public class Main {
         }
     }
 
+    /**
+     * Muestra los registros de la lista por páginas de {@link #PAGE_SIZE} registros.
+     * <p>
+     * Cada página se escribe directamente en la salida estándar a través de un buffer de tamaño fijo, sin
+     * construir el listado completo, por lo que la primera página aparece de inmediato aunque la lista sea muy
+     * grande. Al final de cada página se puede continuar o terminar el listado.
+     */
+    private static void listUsers() {
+        var out = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(FileDescriptor.out), StandardCharsets.UTF_8), 1 << 16);
+        System.out.flush();
+        try {
+            writePages(bi, out, PAGE_SIZE, shown -> {
+                System.out.printf("Mostrando %d de %d registros. Presione enter para ver más o escriba q para terminar: ", shown, bi.getSize());
+                return !sc.nextLine().trim().equalsIgnoreCase("q");
+            });
+        } catch (IOException e) {
+            System.out.println("Error al mostrar los registros.\nCausa: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Escribe el encabezado y los registros de un banco por páginas, vaciando el destino al final de cada página.
+     *
+     * @param bank     Banco.
+     * @param out      Destino del listado.
+     * @param pageSize Cantidad de registros por página.
+     * @param more     Recibe la cantidad de registros mostrados después de cada página a la que le sigue otra, e
+     *                 indica si se continúa con la siguiente.
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     */
+    static void writePages(BankInfo bank, Writer out, int pageSize, LongPredicate more) throws IOException {
+        bank.writeHeader(out);
+        String cursor = null;
+        long shown = 0;
+        while (true) {
+            cursor = bank.writeAfter(out, cursor, pageSize);
+            shown = Math.min(shown + pageSize, bank.getSize());
+            out.flush();
+            if (cursor == null || !more.test(shown)) {
+                return;
+            }
+        }
+    }
+
     /**
      * Guarda los registros en un archivo.
      *
@@ -415,6 +762,17 @@ public class Main {
         }
     }
 
+    /**
+     * Recalcula los totales a partir de los registros y muestra las diferencias con los totales registrados.
+     */
+    private static void auditTotals() {
+        try {
+            System.out.print(bi.audit());
+        } catch (Exception e) {
+            System.out.println(e.getMessage());
+        }
+    }
+
     /**
      * Abre un JFileChooser para seleccionar un archivo.
      *
@@ -0,0 +1,334 @@
+package co.edu.unicartagena.Servidor;
+
+import co.edu.unicartagena.Clases.ConcurrentBankInfo;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Servidor que atiende el protocolo de líneas de {@link Command} sobre TCP o sockets de dominio Unix.
+ * <p>
+ * Cada conexión se atiende en su propio hilo virtual. Un cliente puede enviar varias operaciones sin esperar las
+ * respuestas: el servidor responde cada línea en orden con {@code OK [resultado]} o {@code ERR <mensaje>} y solo
+ * vacía el buffer de salida cuando ya no quedan operaciones recibidas por procesar, de modo que un lote de
+ * operaciones se responde con una sola escritura.
+ * <p>
+ * Los registros se guardan en un {@link ConcurrentBankInfo}, por lo que las operaciones de conexiones distintas
+ * se ejecutan en paralelo.
+ * <p>
+ * Cualquier cliente conectado puede ejecutar operaciones, por lo que el servidor solo escucha en direcciones
+ * locales (loopback o sockets de dominio Unix) salvo que se indique lo contrario, y {@code SAVE} solo escribe
+ * archivos dentro de un directorio elegido al iniciarlo; sin ese directorio, {@code SAVE} está deshabilitada.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+public class BankServer implements Closeable {
+    /**
+     * Tamaño de los buffers de cada conexión.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Máscara del tipo de archivo en el modo de Unix.
+     */
+    private static final int S_IFMT = 0170000;
+
+    /**
+     * Tipo de archivo de un socket en el modo de Unix.
+     */
+    private static final int S_IFSOCK = 0140000;
+
+    /**
+     * Registros atendidos por el servidor.
+     */
+    private final ConcurrentBankInfo bank;
+
+    /**
+     * Canal que acepta las conexiones.
+     */
+    private final ServerSocketChannel server;
+
+    /**
+     * Ejecutor de un hilo virtual por conexión.
+     */
+    private final ExecutorService connections;
+
+    /**
+     * Directorio donde {@code SAVE} escribe los archivos, o {@code null} si la operación está deshabilitada.
+     */
+    private final Path saveDirectory;
+
+    /**
+     * Constructor de la clase. El servidor solo acepta direcciones locales y no admite {@code SAVE}.
+     *
+     * @param bank    Registros atendidos por el servidor.
+     * @param address Dirección TCP local ({@link InetSocketAddress}) o ruta de un socket de dominio Unix
+     *                ({@link UnixDomainSocketAddress}).
+     * @throws java.io.IOException                Si no es posible escuchar en la dirección indicada.
+     * @throws java.lang.IllegalArgumentException Si la dirección TCP no es local.
+     * @see #BankServer(ConcurrentBankInfo, SocketAddress, Path, boolean)
+     */
+    public BankServer(ConcurrentBankInfo bank, SocketAddress address) throws IOException, IllegalArgumentException {
+        this(bank, address, null, false);
+    }
+
+    /**
+     * Constructor de la clase. El servidor queda escuchando en la dirección indicada, pero no acepta conexiones
+     * hasta llamar a {@link #serve()}.
+     * <p>
+     * Si la dirección es un socket de dominio Unix y ya existe un socket en esa ruta (de una ejecución anterior),
+     * se reemplaza; cualquier otro archivo en esa ruta se conserva y el servidor no se inicia.
+     *
+     * @param bank          Registros atendidos por el servidor.
+     * @param address       Dirección TCP ({@link InetSocketAddress}) o ruta de un socket de dominio Unix
+     *                      ({@link UnixDomainSocketAddress}).
+     * @param saveDirectory Directorio donde {@code SAVE} escribe los archivos, o {@code null} para deshabilitarla.
+     * @param allowRemote   Booleano que indica si se admite una dirección TCP que no sea local.
+     * @throws java.io.IOException                Si no es posible escuchar en la dirección indicada o si en la ruta
+     *                                            del socket hay un archivo que no es un socket.
+     * @throws java.lang.IllegalArgumentException Si la dirección TCP no es local y no se admiten direcciones remotas.
+     */
+    public BankServer(ConcurrentBankInfo bank, SocketAddress address, Path saveDirectory, boolean allowRemote)
+            throws IOException, IllegalArgumentException {
+        this.bank = bank;
+        this.saveDirectory = saveDirectory == null ? null : saveDirectory.toAbsolutePath().normalize();
+
+        if (address instanceof UnixDomainSocketAddress unix) {
+            removeStaleSocket(unix.getPath());
+            this.server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            if (!allowRemote && !isLoopback(address)) {
+                throw new IllegalArgumentException("El servidor solo escucha en direcciones locales; %s no lo es.".formatted(address));
+            }
+            this.server = ServerSocketChannel.open();
+        }
+
+        this.server.bind(address);
+        this.connections = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Método de ayuda para saber si una dirección TCP es local.
+     *
+     * @param address Dirección.
+     * @return Booleano que indica si la dirección es de loopback.
+     */
+    private static boolean isLoopback(SocketAddress address) {
+        return address instanceof InetSocketAddress inet && inet.getAddress() != null && inet.getAddress().isLoopbackAddress();
+    }
+
+    /**
+     * Método de ayuda para eliminar el socket que dejó una ejecución anterior en una ruta.
+     *
+     * @param path Ruta del socket.
+     * @throws java.io.IOException Si en la ruta hay un archivo que no es un socket, o si no se puede eliminar.
+     */
+    private static void removeStaleSocket(Path path) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        } catch (NoSuchFileException e) {
+            return;
+        }
+
+        if (!attributes.isOther() || !isSocket(path)) {
+            throw new IOException("En %s ya existe un archivo que no es un socket.".formatted(path));
+        }
+        Files.delete(path);
+    }
+
+    /**
+     * Método de ayuda para saber si un archivo especial es un socket. Si el sistema de archivos no informa el
+     * tipo, se considera que lo es.
+     *
+     * @param path Ruta del archivo.
+     * @return Booleano que indica si el archivo es un socket.
+     * @throws java.io.IOException Si no se pueden leer los atributos del archivo.
+     */
+    private static boolean isSocket(Path path) throws IOException {
+        try {
+            var mode = (Integer) Files.getAttribute(path, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+            return (mode & S_IFMT) == S_IFSOCK;
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Resuelve el archivo de una operación {@code SAVE} dentro de {@link #saveDirectory}.
+     *
+     * @param name Nombre del archivo indicado por el cliente.
+     * @return Ruta del archivo.
+     * @throws java.lang.IllegalArgumentException Si {@code SAVE} está deshabilitada o el nombre no es el de un
+     *                                            archivo dentro del directorio.
+     */
+    private Path saveTarget(String name) throws IllegalArgumentException {
+        if (saveDirectory == null) {
+            throw new IllegalArgumentException("El servidor no admite la operación SAVE.");
+        }
+
+        Path file;
+        try {
+            file = Path.of(name);
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("Nombre de archivo inválido: " + name);
+        }
+        if (file.isAbsolute() || file.getNameCount() != 1 || file.toString().equals("..") || file.toString().equals(".")) {
+            throw new IllegalArgumentException("SAVE solo admite un nombre de archivo, sin directorios: " + name);
+        }
+        return saveDirectory.resolve(file);
+    }
+
+    /**
+     * Obtiene la dirección en la que escucha el servidor.
+     *
+     * @return Dirección local.
+     * @throws java.io.IOException Si el servidor está cerrado.
+     */
+    public SocketAddress getAddress() throws IOException {
+        return server.getLocalAddress();
+    }
+
+    /**
+     * Acepta conexiones hasta que el servidor se cierre. Cada conexión se atiende en un hilo virtual nuevo.
+     *
+     * @throws java.io.IOException Si ocurre un error al aceptar una conexión.
+     */
+    public void serve() throws IOException {
+        while (true) {
+            SocketChannel client;
+            try {
+                client = server.accept();
+            } catch (ClosedChannelException e) {
+                return;
+            }
+
+            connections.submit(() -> handle(client));
+        }
+    }
+
+    /**
+     * Atiende una conexión hasta que el cliente la cierre o envíe {@code QUIT}.
+     *
+     * @param client Conexión.
+     */
+    private void handle(SocketChannel client) {
+        try (client;
+             var reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(client), StandardCharsets.UTF_8), BUFFER_SIZE);
+             var writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(client), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    var command = Command.parse(line);
+                    if (command.operation() == Command.Operation.QUIT) {
+                        writer.write("OK\n");
+                        break;
+                    }
+                    execute(command, writer);
+                } catch (Exception e) {
+                    writeError(writer, e.getMessage());
+                }
+
+                if (!reader.ready()) {
+                    writer.flush();
+                }
+            }
+        } catch (IOException ignored) {
+            // El cliente cerró la conexión.
+        }
+    }
+
+    /**
+     * Ejecuta una operación y escribe su respuesta.
+     *
+     * @param command Operación.
+     * @param writer  Salida de la conexión.
+     * @throws java.lang.Exception Cuando la operación falla.
+     */
+    private void execute(Command command, Writer writer) throws Exception {
+        switch (command.operation()) {
+            case ADD -> {
+                bank.add(command.cc(), command.capital(), command.interestTax(), command.day());
+                writer.write("OK\n");
+            }
+            case UPDATE -> {
+                bank.updateRecord(command.cc(), command.capital(), command.interestTax(), command.day());
+                writer.write("OK\n");
+            }
+            case GET -> {
+                var record = bank.getRecord(command.cc());
+                if (record == null) {
+                    throw new NullPointerException("No existe un usuario con esa cédula.");
+                }
+                writer.write("OK ");
+                writer.write(record.getSimplifiedString());
+                writer.write('\n');
+            }
+            case REMOVE -> {
+                bank.removeRecord(command.cc());
+                writer.write("OK\n");
+            }
+            case TOTALS -> {
+                writer.write("OK %d %s %s\n".formatted(bank.getSize(),
+                        bank.getTotalCapital().toPlainString(), bank.getTotalInterest().toPlainString()));
+            }
+            case SAVE -> {
+                bank.save(saveTarget(command.path()));
+                writer.write("OK\n");
+            }
+            case LOAD -> throw new IllegalArgumentException("El servidor no admite la operación LOAD.");
+            case QUIT -> writer.write("OK\n");
+        }
+    }
+
+    /**
+     * Escribe una respuesta de error en una sola línea.
+     *
+     * @param writer  Salida de la conexión.
+     * @param message Mensaje de error.
+     * @throws java.io.IOException Si ocurre un error al escribir.
+     */
+    private static void writeError(Writer writer, String message) throws IOException {
+        writer.write("ERR ");
+        writer.write(String.valueOf(message).replace('\n', ' '));
+        writer.write('\n');
+    }
+
+    /**
+     * Deja de aceptar conexiones y cierra las conexiones abiertas.
+     *
+     * @throws java.io.IOException Si ocurre un error al cerrar el servidor.
+     */
+    @Override
+    public void close() throws IOException {
+        server.close();
+        connections.shutdownNow();
+    }
+}
@@ -0,0 +1,195 @@
+package co.edu.unicartagena.Servidor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Locale;
+
+/**
+ * Operación del protocolo de líneas utilizado por {@link BankServer}.
+ * <p>
+ * Cada línea contiene el nombre de la operación seguido de sus argumentos, separados por espacios:
+ * <pre>
+ * ADD    &lt;cédula&gt; &lt;capital&gt; &lt;tasa&gt; &lt;día&gt;
+ * UPDATE &lt;cédula&gt; &lt;capital&gt; &lt;tasa&gt; &lt;día&gt;
+ * GET    &lt;cédula&gt;
+ * REMOVE &lt;cédula&gt;
+ * TOTALS
+ * SAVE   &lt;ruta&gt;
+ * LOAD   &lt;ruta&gt;
+ * QUIT
+ * </pre>
+ * Los nombres no distinguen mayúsculas y minúsculas, {@code TOTAL} equivale a {@code TOTALS} y los decimales
+ * admiten punto o coma.
+ *
+ * @param operation   Operación.
+ * @param cc          Cédula del usuario, o {@code null} si la operación no la utiliza.
+ * @param capital     Capital del usuario, o {@code null} si la operación no lo utiliza.
+ * @param interestTax Tasa de interés del usuario, o {@code null} si la operación no la utiliza.
+ * @param day         Día en que el depósito fue realizado, o 0 si la operación no lo utiliza.
+ * @param path        Ruta del archivo, o {@code null} si la operación no la utiliza.
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+public record Command(Operation operation, String cc, BigDecimal capital, BigDecimal interestTax, short day, String path) {
+    /**
+     * Operaciones del protocolo.
+     */
+    public enum Operation {
+        /**
+         * Agrega un registro.
+         */
+        ADD,
+        /**
+         * Actualiza un registro.
+         */
+        UPDATE,
+        /**
+         * Obtiene un registro.
+         */
+        GET,
+        /**
+         * Elimina un registro.
+         */
+        REMOVE,
+        /**
+         * Obtiene la cantidad de registros y los totales.
+         */
+        TOTALS,
+        /**
+         * Guarda los registros en un archivo.
+         */
+        SAVE,
+        /**
+         * Carga los registros de un archivo.
+         */
+        LOAD,
+        /**
+         * Termina la sesión.
+         */
+        QUIT
+    }
+
+    /**
+     * Interpreta una línea del protocolo.
+     *
+     * @param line Línea.
+     * @return Operación.
+     * @throws java.lang.IllegalArgumentException Si la línea no corresponde a una operación válida.
+     */
+    public static Command parse(String line) throws IllegalArgumentException {
+        var tokens = tokenize(line);
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("La línea está vacía.");
+        }
+
+        var name = tokens.get(0).toUpperCase(Locale.ROOT);
+        var operation = switch (name) {
+            case "ADD" -> Operation.ADD;
+            case "UPDATE" -> Operation.UPDATE;
+            case "GET" -> Operation.GET;
+            case "REMOVE" -> Operation.REMOVE;
+            case "TOTAL", "TOTALS" -> Operation.TOTALS;
+            case "SAVE" -> Operation.SAVE;
+            case "LOAD" -> Operation.LOAD;
+            case "QUIT" -> Operation.QUIT;
+            default -> throw new IllegalArgumentException("Operación desconocida: " + tokens.get(0));
+        };
+
+        return switch (operation) {
+            case ADD, UPDATE -> {
+                expect(tokens, 5, "%s <cédula> <capital> <tasa> <día>".formatted(operation));
+                yield new Command(operation, tokens.get(1), decimal(tokens.get(2)), decimal(tokens.get(3)),
+                        day(tokens.get(4)), null);
+            }
+            case GET, REMOVE -> {
+                expect(tokens, 2, "%s <cédula>".formatted(operation));
+                yield new Command(operation, tokens.get(1), null, null, (short) 0, null);
+            }
+            case SAVE, LOAD -> {
+                if (tokens.size() < 2) {
+                    throw new IllegalArgumentException("Uso: %s <ruta>".formatted(operation));
+                }
+                // La ruta puede contener espacios.
+                var path = line.strip().substring(tokens.get(0).length()).strip();
+                yield new Command(operation, null, null, null, (short) 0, path);
+            }
+            case TOTALS, QUIT -> {
+                expect(tokens, 1, operation.toString());
+                yield new Command(operation, null, null, null, (short) 0, null);
+            }
+        };
+    }
+
+    /**
+     * Divide una línea en palabras separadas por espacios o tabulaciones.
+     *
+     * @param line Línea.
+     * @return Palabras de la línea.
+     */
+    private static ArrayList<String> tokenize(String line) {
+        var tokens = new ArrayList<String>(5);
+        int length = line.length();
+        int i = 0;
+
+        while (i < length) {
+            while (i < length && Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+
+            int start = i;
+            while (i < length && !Character.isWhitespace(line.charAt(i))) {
+                i++;
+            }
+
+            if (i > start) {
+                tokens.add(line.substring(start, i));
+            }
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Verifica la cantidad de palabras de una línea.
+     *
+     * @param tokens Palabras de la línea.
+     * @param count  Cantidad esperada.
+     * @param usage  Uso correcto de la operación.
+     * @throws java.lang.IllegalArgumentException Si la cantidad no es la esperada.
+     */
+    private static void expect(ArrayList<String> tokens, int count, String usage) throws IllegalArgumentException {
+        if (tokens.size() != count) {
+            throw new IllegalArgumentException("Uso: " + usage);
+        }
+    }
+
+    /**
+     * Interpreta un decimal.
+     *
+     * @param token Palabra.
+     * @return Decimal.
+     * @throws java.lang.IllegalArgumentException Si la palabra no es un decimal.
+     */
+    private static BigDecimal decimal(String token) throws IllegalArgumentException {
+        try {
+            return new BigDecimal(token.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Número inválido: " + token);
+        }
+    }
+
+    /**
+     * Interpreta un día.
+     *
+     * @param token Palabra.
+     * @return Día.
+     * @throws java.lang.IllegalArgumentException Si la palabra no es un número entero.
+     */
+    private static short day(String token) throws IllegalArgumentException {
+        try {
+            return Short.parseShort(token);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Día inválido: " + token);
+        }
+    }
+}
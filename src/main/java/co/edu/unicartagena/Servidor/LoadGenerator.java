@@ -0,0 +1,178 @@
+package co.edu.unicartagena.Servidor;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Cliente que genera carga sobre un {@link BankServer} y mide las operaciones por segundo.
+ * <p>
+ * Cada conexión se atiende en un hilo virtual y trabaja sobre sus propias cédulas: primero agrega sus registros y
+ * luego ejecuta una mezcla de consultas, actualizaciones y totales. Las operaciones se envían en lotes de
+ * {@code pipeline} líneas antes de leer sus respuestas.
+ * <p>
+ * Uso: {@code LoadGenerator <host:puerto | unix:ruta> [conexiones] [operaciones por conexión] [pipeline]}
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+public class LoadGenerator {
+    /**
+     * Cantidad de registros que agrega cada conexión antes de la mezcla de operaciones.
+     */
+    private static final int RECORDS_PER_CONNECTION = 1000;
+
+    /**
+     * Resultado de una conexión.
+     *
+     * @param operations Cantidad de operaciones respondidas.
+     * @param errors     Cantidad de respuestas de error.
+     */
+    private record Result(long operations, long errors) {
+    }
+
+    /**
+     * Método principal del generador.
+     *
+     * @param args Argumentos de la línea de comandos.
+     * @throws java.lang.Exception Cuando ocurre un error en alguna conexión.
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Uso: LoadGenerator <host:puerto | unix:ruta> [conexiones] [operaciones por conexión] [pipeline]");
+            return;
+        }
+
+        var address = parseAddress(args[0]);
+        var connections = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        var operations = args.length > 2 ? Integer.parseInt(args[2]) : 20_000;
+        var pipeline = args.length > 3 ? Integer.parseInt(args[3]) : 32;
+
+        var start = System.nanoTime();
+        var results = new ArrayList<Future<Result>>(connections);
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                var id = i;
+                results.add(executor.submit(() -> run(address, id, operations, pipeline)));
+            }
+        }
+        var elapsed = (System.nanoTime() - start) / 1e9;
+
+        long total = 0;
+        long errors = 0;
+        for (var result : results) {
+            total += result.get().operations();
+            errors += result.get().errors();
+        }
+
+        System.out.printf("""
+                Conexiones: %d, pipeline: %d
+                Operaciones: %d (%d errores) en %.3f s
+                Velocidad: %.0f operaciones/s
+                """, connections, pipeline, total, errors, elapsed, total / elapsed);
+    }
+
+    /**
+     * Interpreta la dirección del servidor.
+     *
+     * @param value Dirección con el formato {@code host:puerto} o {@code unix:ruta}.
+     * @return Dirección del servidor.
+     */
+    public static SocketAddress parseAddress(String value) {
+        if (value.startsWith("unix:")) {
+            return UnixDomainSocketAddress.of(value.substring("unix:".length()));
+        }
+
+        var separator = value.lastIndexOf(':');
+        if (separator < 0) {
+            return new InetSocketAddress("localhost", Integer.parseInt(value));
+        }
+        return new InetSocketAddress(value.substring(0, separator), Integer.parseInt(value.substring(separator + 1)));
+    }
+
+    /**
+     * Ejecuta la carga de una conexión.
+     *
+     * @param address    Dirección del servidor.
+     * @param id         Número de la conexión.
+     * @param operations Cantidad de operaciones de la mezcla.
+     * @param pipeline   Cantidad de operaciones enviadas antes de leer las respuestas.
+     * @return Resultado de la conexión.
+     * @throws java.io.IOException Si ocurre un error de comunicación.
+     */
+    private static Result run(SocketAddress address, int id, int operations, int pipeline) throws IOException {
+        var family = address instanceof UnixDomainSocketAddress ? StandardProtocolFamily.UNIX : StandardProtocolFamily.INET;
+        try (var channel = SocketChannel.open(family)) {
+            channel.connect(address);
+            var reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8), 1 << 16);
+            var writer = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8), 1 << 16);
+            var random = new SplittableRandom(id);
+            var first = (long) id * RECORDS_PER_CONNECTION;
+
+            long done = 0;
+            long errors = 0;
+            var total = RECORDS_PER_CONNECTION + operations;
+            for (int sent = 0; sent < total; ) {
+                var batch = Math.min(pipeline, total - sent);
+                for (int i = 0; i < batch; i++, sent++) {
+                    writer.write(request(sent, first, random));
+                    writer.write('\n');
+                }
+                writer.flush();
+
+                for (int i = 0; i < batch; i++) {
+                    var response = reader.readLine();
+                    if (response == null) {
+                        throw new IOException("El servidor cerró la conexión.");
+                    }
+                    if (!response.startsWith("OK")) {
+                        errors++;
+                    }
+                    done++;
+                }
+            }
+
+            writer.write("QUIT\n");
+            writer.flush();
+            return new Result(done, errors);
+        }
+    }
+
+    /**
+     * Genera una operación.
+     *
+     * @param number Número de la operación dentro de la conexión.
+     * @param first  Primera cédula de la conexión.
+     * @param random Generador de números aleatorios de la conexión.
+     * @return Línea del protocolo.
+     */
+    private static String request(int number, long first, SplittableRandom random) {
+        if (number < RECORDS_PER_CONNECTION) {
+            return "ADD %010d %d.%02d 0.%02d %d".formatted(first + number, random.nextInt(1_000_000),
+                    random.nextInt(100), random.nextInt(100), random.nextInt(361));
+        }
+
+        var cc = first + random.nextInt(RECORDS_PER_CONNECTION);
+        var kind = random.nextInt(100);
+        if (kind < 70) {
+            return "GET %010d".formatted(cc);
+        } else if (kind < 99) {
+            return "UPDATE %010d %d.%02d 0.%02d %d".formatted(cc, random.nextInt(1_000_000),
+                    random.nextInt(100), random.nextInt(100), random.nextInt(361));
+        }
+        return "TOTALS";
+    }
+}
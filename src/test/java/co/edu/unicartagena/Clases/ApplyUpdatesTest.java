@@ -0,0 +1,83 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de {@link BankInfo#applyUpdates(java.util.Collection)}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class ApplyUpdatesTest {
+    private static final BigDecimal RATE = new BigDecimal("0.05");
+
+    private static BankInfo bank(NumericMode mode) {
+        var bank = new BankInfo(mode);
+        bank.add("0000000001", new BigDecimal("100"), RATE, (short) 10);
+        bank.add("0000000002", new BigDecimal("200"), RATE, (short) 20);
+        return bank;
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void appliesTheLastUpdateOfEachCc(NumericMode mode) {
+        var bank = bank(mode);
+        bank.applyUpdates(List.of(
+                new Update("0000000001", new BigDecimal("150"), RATE, (short) 30),
+                new Update("0000000002", new BigDecimal("250"), RATE, (short) 40),
+                new Update("0000000001", new BigDecimal("175"), RATE, (short) 50)));
+
+        var expected = new BankInfo(mode);
+        expected.add("0000000001", new BigDecimal("175"), RATE, (short) 50);
+        expected.add("0000000002", new BigDecimal("250"), RATE, (short) 40);
+        assertEquals(expected.toString(), bank.toString());
+        assertEquals(expected.getTotalCapital(), bank.getTotalCapital());
+        assertEquals(expected.getTotalInterest(), bank.getTotalInterest());
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void nullEntriesAreReportedByPositionAndNothingIsApplied(NumericMode mode) {
+        var valid = new Update("0000000001", new BigDecimal("150"), RATE, (short) 30);
+        var invalid = new Update[]{
+                null,
+                new Update(null, BigDecimal.ONE, RATE, (short) 1),
+                new Update("0000000002", null, RATE, (short) 1),
+                new Update("0000000002", BigDecimal.ONE, null, (short) 1),
+        };
+        var messages = new String[]{
+                "Actualización 2: La actualización no puede ser nula.",
+                "Actualización 2: La cédula no puede ser nula.",
+                "Actualización 2: El capital no puede ser nulo.",
+                "Actualización 2: La tasa de interés no puede ser nula.",
+        };
+
+        for (int i = 0; i < invalid.length; i++) {
+            var bank = bank(mode);
+            var before = bank.toString();
+            var batch = Arrays.asList(valid, invalid[i]);
+            var error = assertThrows(IllegalArgumentException.class, () -> bank.applyUpdates(batch));
+            assertEquals(messages[i], error.getMessage());
+            assertEquals(before, bank.toString());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void missingCcIsReportedByPosition(NumericMode mode) {
+        var bank = bank(mode);
+        var error = assertThrows(NullPointerException.class, () -> bank.applyUpdates(List.of(
+                new Update("0000000001", BigDecimal.ONE, RATE, (short) 1),
+                new Update("0000000009", BigDecimal.ONE, RATE, (short) 1))));
+        assertEquals("Actualización 2: No existe un usuario con esa cédula.", error.getMessage());
+        assertEquals(new BigDecimal("300.00"), bank.getTotalCapital());
+    }
+}
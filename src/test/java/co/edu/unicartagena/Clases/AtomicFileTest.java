@@ -0,0 +1,58 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Pruebas de {@link AtomicFile}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class AtomicFileTest {
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void requirePosix() {
+        assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+    }
+
+    @Test
+    void replacingAFileKeepsItsPermissions() throws Exception {
+        var file = directory.resolve("data.txt");
+        Files.writeString(file, "");
+        var permissions = PosixFilePermissions.fromString("rw-r-----");
+        Files.setPosixFilePermissions(file, permissions);
+
+        var bank = new BankInfo();
+        bank.add("0000000001", BigDecimal.TEN, BigDecimal.ONE, (short) 1);
+        bank.save(file);
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+
+        bank.saveBinary(file);
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void newFilesGetTheDefaultPermissions() throws Exception {
+        var expected = Files.getPosixFilePermissions(Files.createFile(directory.resolve("reference")));
+        var file = directory.resolve("data.txt");
+
+        new BankInfo().save(file);
+        assertEquals(expected, Files.getPosixFilePermissions(file));
+    }
+}
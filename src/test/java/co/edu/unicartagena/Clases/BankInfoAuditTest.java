@@ -0,0 +1,92 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link BankInfo#audit(ForkJoinPool)} con totales que no coinciden con los registros.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class BankInfoAuditTest {
+    /**
+     * Cantidad de registros; alcanza para dividir la auditoría en varias porciones.
+     */
+    private static final int RECORDS = 150_000;
+
+    private static String cc(int key) {
+        return "%010d".formatted(key);
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void auditReportsTheExactDrift(NumericMode mode) throws Exception {
+        var random = new Random(18);
+        var bank = new BankInfo(mode);
+        for (int i = 0; i < RECORDS; i++) {
+            bank.add(cc(i), BigDecimal.valueOf(random.nextLong(10_000_000L), 2),
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 6), (short) random.nextInt(361));
+        }
+
+        var pool = new ForkJoinPool(4);
+        try {
+            var consistent = bank.audit(pool);
+            assertTrue(consistent.isConsistent(), consistent.toString());
+            assertEquals(RECORDS, consistent.getRecords());
+            assertEquals(0, consistent.getCapitalDifference().signum());
+            assertTrue(consistent.toString().contains("Los totales coinciden con los registros."));
+
+            // Se modifican registros de distintas porciones sin pasar por BankInfo, por lo que los totales
+            // registrados quedan desfasados en la diferencia entre los valores anteriores y los nuevos.
+            var capitalDrift = BigDecimal.ZERO;
+            var interestDrift = BigDecimal.ZERO;
+            for (var key : new int[]{0, 70_000, RECORDS - 1}) {
+                var record = bank.getRecord(cc(key));
+                var oldCapital = record.getCapital();
+                var oldInterest = record.getInterest();
+                record.update(oldCapital.add(new BigDecimal("12.34")), new BigDecimal("0.5"), record.getDay());
+                capitalDrift = capitalDrift.add(oldCapital.subtract(record.getCapital()));
+                interestDrift = interestDrift.add(oldInterest.subtract(record.getInterest()));
+            }
+
+            var stored = bank.getTotalCapital();
+            var report = bank.audit(pool);
+            assertFalse(report.isConsistent());
+            assertEquals(0, report.getUnindexed());
+            assertEquals(stored, report.getStoredCapital());
+            assertEquals(0, new BigDecimal("-37.02").compareTo(report.getCapitalDifference()), report.toString());
+            assertEquals(0, capitalDrift.compareTo(report.getCapitalDifference()), report.toString());
+            assertEquals(0, interestDrift.compareTo(report.getInterestDifference()), report.toString());
+            assertEquals(0, stored.subtract(capitalDrift).compareTo(report.getComputedCapital()));
+            assertTrue(report.toString().contains("(diferencia " + report.getCapitalDifference().toPlainString() + ")"),
+                    report.toString());
+            assertTrue(report.toString().contains("(diferencia " + report.getInterestDifference().toPlainString() + ")"),
+                    report.toString());
+
+            // Los totales registrados no se corrigen con la auditoría.
+            assertEquals(stored, bank.getTotalCapital());
+
+            // Un cambio que solo afecta al interés no aparece como diferencia de capital.
+            var only = new BankInfo(mode);
+            only.add(cc(1), new BigDecimal("100"), new BigDecimal("0.1"), (short) 0);
+            var record = only.getRecord(cc(1));
+            record.update(record.getCapital(), new BigDecimal("0.2"), (short) 0);
+            var interestOnly = only.audit(pool);
+            assertEquals(0, interestOnly.getCapitalDifference().signum());
+            assertEquals(0, new BigDecimal("-10").compareTo(interestOnly.getInterestDifference()), interestOnly.toString());
+            assertFalse(interestOnly.toString().contains("Capital:"), interestOnly.toString());
+            assertTrue(interestOnly.toString().contains("Interés: registrado"), interestOnly.toString());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
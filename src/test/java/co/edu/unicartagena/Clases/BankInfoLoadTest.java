@@ -0,0 +1,163 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de las cargas de {@link BankInfo}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class BankInfoLoadTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void mappedLoadGrowsTheWindowForLongLines() throws Exception {
+        var file = directory.resolve("data.txt");
+        Files.writeString(file, """
+                0000000001;100.00;10;0.5
+                0000000002;200.%s;20;0.25
+                0000000003;300.00;30;0.125
+                """.formatted("0".repeat(40)));
+
+        var expected = new BankInfo();
+        expected.load(file);
+        var mapped = new BankInfo();
+        mapped.loadMapped(file, 8, 128);
+
+        assertEquals(3, mapped.getSize());
+        assertEquals(expected.toString(), mapped.toString());
+    }
+
+    @Test
+    void mappedLoadRejectsLinesLongerThanTheLargestWindow() throws Exception {
+        var file = directory.resolve("data.txt");
+        Files.writeString(file, "0000000001;100.00;10;0.5\n0000000002;200." + "0".repeat(200) + ";20;0.25\n0000000003;1;1;1\n");
+
+        var bank = new BankInfo();
+        var error = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> assertThrows(Exception.class, () -> bank.loadMapped(file, 16, 64)));
+        assertTrue(error.getMessage().contains("supera los 64 bytes"), error.getMessage());
+    }
+
+    @Test
+    void reportsGoToTheConfiguredStream() throws Exception {
+        var file = directory.resolve("data.txt");
+        Files.writeString(file, "0000000001;100.00;10;0.5\nlínea inválida\n");
+
+        var buffer = new ByteArrayOutputStream();
+        var bank = new BankInfo();
+        bank.setReportStream(new PrintStream(buffer, true, StandardCharsets.UTF_8));
+        bank.load(file);
+        var report = buffer.toString(StandardCharsets.UTF_8);
+        assertTrue(report.contains("Se cargaron 1 registros."), report);
+        assertTrue(report.contains("Línea 2"), report);
+
+        buffer.reset();
+        var silent = new BankInfo();
+        silent.setReportStream(null);
+        silent.loadParallel(file);
+        silent.loadMapped(file);
+        assertEquals(0, buffer.size());
+        assertEquals(1, silent.getSize());
+    }
+
+    /**
+     * Genera un archivo con líneas inválidas y cédulas repetidas repartidas por todo el archivo.
+     */
+    private static String ledger(Random random, int lines) {
+        var sb = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            var cc = "%010d".formatted(random.nextInt(lines / 2));
+            switch (random.nextInt(10)) {
+                case 0 -> sb.append("línea inválida ").append(i);
+                case 1 -> sb.append(cc).append(";-5.00;10;0.5");
+                case 2 -> sb.append(cc).append(";5.00;400;0.5");
+                case 3 -> sb.append("");
+                default -> sb.append(cc).append(';').append(random.nextInt(1_000_000)).append('.')
+                        .append("%02d".formatted(random.nextInt(100))).append(';').append(random.nextInt(361))
+                        .append(';').append("0.").append(random.nextInt(1_000_000));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void parallelLoadMatchesSequentialLoadAcrossChunks(NumericMode mode) throws Exception {
+        var random = new Random(7);
+        var file = directory.resolve("data.txt");
+        Files.writeString(file, ledger(random, 2_000));
+
+        var expected = new BankInfo(mode);
+        expected.setReportStream(null);
+        var expectedReport = expected.load(file);
+        assertTrue(expectedReport.getRejected() > 100, "El archivo debe tener líneas rechazadas.");
+
+        var pool = new ForkJoinPool(4);
+        try {
+            // Desde una línea por porción hasta porciones de varios cientos de líneas.
+            for (var chunkSize : new long[]{1, 7, 64, 1_000, 20_000}) {
+                var parallel = new BankInfo(mode);
+                parallel.setReportStream(null);
+                var report = parallel.loadParallel(file, pool, chunkSize);
+
+                assertEquals(expected.toString(), parallel.toString(), "Porciones de " + chunkSize);
+                assertEquals(expected.getTotalCapital(), parallel.getTotalCapital());
+                assertEquals(expected.getTotalInterest(), parallel.getTotalInterest());
+                assertEquals(expectedReport.getAccepted(), report.getAccepted());
+                assertEquals(expectedReport.getRejected(), report.getRejected());
+                assertEquals(expectedReport.getRejections(), report.getRejections(), "Porciones de " + chunkSize);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        var bank = new BankInfo(mode);
+        assertThrows(IllegalArgumentException.class, () -> bank.loadParallel(file, ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    void duplicatesInLaterChunksAreRejectedWithTheirLineNumbers() throws Exception {
+        var file = directory.resolve("data.txt");
+        Files.writeString(file, """
+                0000000001;100.00;10;0.5
+                0000000002;200.00;20;0.25
+                inválida
+                0000000001;300.00;30;0.125
+                0000000003;1.00;1;1
+                0000000002;5.00;5;0.5
+                """);
+
+        var bank = new BankInfo();
+        bank.setReportStream(null);
+        var report = bank.loadParallel(file, ForkJoinPool.commonPool(), 1);
+
+        assertEquals(3, bank.getSize());
+        assertEquals("0000000001;100.00;10;0.5\n0000000002;200.00;20;0.25\n0000000003;1.00;1;1\n",
+                bank.getListSimplified().toString());
+        assertEquals(3, report.getRejected());
+        assertEquals(3, report.getRejections().get(0).line());
+        assertEquals(4, report.getRejections().get(1).line());
+        assertEquals(6, report.getRejections().get(2).line());
+    }
+}
@@ -0,0 +1,107 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas del listado por páginas de {@link BankInfo}: las páginas unidas deben coincidir con
+ * {@link BankInfo#writeTo(Appendable)}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class BankInfoPageTest {
+    private static final int PAGE = 50;
+
+    private static BankInfo bank(int size) {
+        var random = new Random(size);
+        var bank = new BankInfo();
+        for (int i = 0; i < size; i++) {
+            bank.add("%010d".formatted(random.nextInt(1_000_000_000)), BigDecimal.valueOf(random.nextLong(10_000_000L), 2),
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 6), (short) random.nextInt(361));
+        }
+        return bank;
+    }
+
+    private static String header(BankInfo bank) throws Exception {
+        var sb = new StringBuilder();
+        bank.writeHeader(sb);
+        return sb.toString();
+    }
+
+    private static String full(BankInfo bank) throws Exception {
+        var sb = new StringBuilder();
+        bank.writeTo(sb);
+        if (bank.getSize() > 0) {
+            assertEquals(bank.toString(), sb.toString());
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void pagesByOffsetJoinIntoTheFullListing() throws Exception {
+        for (var size : new int[]{0, 1, PAGE - 1, PAGE, PAGE + 1, 2 * PAGE, 137}) {
+            var bank = bank(size);
+            var sb = new StringBuilder(header(bank));
+            for (int offset = 0; offset < size; offset += PAGE) {
+                assertEquals(Math.min(PAGE, size - offset), bank.writePage(sb, offset, PAGE), "Tamaño " + size);
+            }
+            // Después del último registro no se escribe nada.
+            assertEquals(0, bank.writePage(sb, size, PAGE));
+            assertEquals(0, bank.writePage(sb, size + 10, PAGE));
+            assertEquals(full(bank), sb.append('\n').toString(), "Tamaño " + size);
+        }
+    }
+
+    @Test
+    void pagesByCursorJoinIntoTheFullListing() throws Exception {
+        for (var size : new int[]{0, 1, PAGE - 1, PAGE, PAGE + 1, 2 * PAGE, 137}) {
+            var bank = bank(size);
+            var records = new ArrayList<Record>();
+            bank.forEach(records::add);
+
+            var sb = new StringBuilder(header(bank));
+            String cursor = null;
+            int pages = 0;
+            do {
+                cursor = bank.writeAfter(sb, cursor, PAGE);
+                pages++;
+                if (cursor != null) {
+                    // El cursor es la cédula del último registro de la página.
+                    assertEquals(records.get(pages * PAGE - 1).getCc(), cursor);
+                }
+            } while (cursor != null);
+
+            // La última página termina el listado aunque esté completa: no hay una página vacía de más.
+            assertEquals(Math.max(1, (size + PAGE - 1) / PAGE), pages, "Tamaño " + size);
+            assertEquals(full(bank), sb.append('\n').toString(), "Tamaño " + size);
+        }
+    }
+
+    @Test
+    void lastPageAndInvalidArguments() throws Exception {
+        var bank = bank(3);
+        var records = new ArrayList<Record>();
+        bank.forEach(records::add);
+
+        var sb = new StringBuilder();
+        assertNull(bank.writeAfter(sb, records.get(2).getCc(), PAGE));
+        assertEquals("", sb.toString());
+        assertNull(bank.writeAfter(sb, records.get(1).getCc(), PAGE));
+        assertEquals(records.get(2).toString() + "\n", sb.toString());
+        assertEquals(records.get(0).getCc(), bank.writeAfter(new StringBuilder(), null, 1));
+
+        assertNull(new BankInfo().writeAfter(sb, null, PAGE));
+        assertThrows(IllegalArgumentException.class, () -> bank.writePage(new StringBuilder(), -1, PAGE));
+        assertThrows(IllegalArgumentException.class, () -> bank.writePage(new StringBuilder(), 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> bank.writeAfter(new StringBuilder(), null, 0));
+        assertThrows(NullPointerException.class, () -> bank.writeAfter(new StringBuilder(), "9999999999", PAGE));
+    }
+}
@@ -0,0 +1,111 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de {@link BankInfo#snapshot()}: las vistas no cambian con las operaciones posteriores sobre el banco.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class BankSnapshotTest {
+    @TempDir
+    Path directory;
+
+    private static String cc(int key) {
+        return "%010d".formatted(key);
+    }
+
+    /**
+     * Contenido de una vista tomado al crearla: filas, totales, listados y archivo guardado.
+     */
+    private record Expected(BankSnapshot snapshot, List<String> rows, BigDecimal capital, BigDecimal interest,
+                            String listing, String simplified, String saved) {
+    }
+
+    private Expected capture(BankInfo bank, int number) throws Exception {
+        var snapshot = bank.snapshot();
+        assertEquals(bank.toString(), snapshot.toString());
+        assertEquals(bank.getListSimplified().toString(), snapshot.getListSimplified().toString());
+        return new Expected(snapshot, rows(snapshot), snapshot.getTotalCapital(), snapshot.getTotalInterest(),
+                snapshot.toString(), snapshot.getListSimplified().toString(), saved(snapshot, number));
+    }
+
+    private static List<String> rows(BankSnapshot snapshot) {
+        var rows = new ArrayList<String>();
+        for (var record : snapshot.getRecords()) {
+            rows.add(record.getSimplifiedString() + " " + record.getInterest());
+        }
+        return rows;
+    }
+
+    private String saved(BankSnapshot snapshot, int number) throws Exception {
+        var path = directory.resolve("vista-" + number + ".txt");
+        snapshot.save(path);
+        return Files.readString(path);
+    }
+
+    private void assertUnchanged(Expected expected, int number) throws Exception {
+        var snapshot = expected.snapshot();
+        assertEquals(expected.rows(), rows(snapshot), "Vista " + number);
+        assertEquals(expected.rows().size(), snapshot.getSize());
+        assertEquals(expected.capital(), snapshot.getTotalCapital());
+        assertEquals(expected.interest(), snapshot.getTotalInterest());
+        assertEquals(expected.listing(), snapshot.toString());
+        assertEquals(expected.simplified(), snapshot.getListSimplified().toString());
+        assertEquals(expected.saved(), saved(snapshot, number));
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void snapshotsAreIsolatedFromLaterOperations(NumericMode mode) throws Exception {
+        var random = new Random(14);
+        var bank = new BankInfo(mode);
+        var present = new ArrayList<String>();
+        for (int i = 0; i < 200; i++) {
+            bank.add(cc(i), BigDecimal.valueOf(random.nextLong(10_000_000L), 2),
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 6), (short) random.nextInt(361));
+            present.add(cc(i));
+        }
+
+        var snapshots = new ArrayList<Expected>();
+        snapshots.add(capture(bank, 0));
+        int next = 200;
+        for (int round = 1; round <= 20; round++) {
+            switch (round % 4) {
+                case 0 -> bank.updateRecord(present.get(random.nextInt(present.size())),
+                        BigDecimal.valueOf(random.nextLong(10_000_000L), 2), new BigDecimal("0.25"), (short) random.nextInt(361));
+                case 1 -> bank.removeRecord(present.remove(random.nextInt(present.size())));
+                case 2 -> {
+                    bank.add(cc(next), BigDecimal.valueOf(random.nextLong(10_000_000L), 2), BigDecimal.ONE, (short) 180);
+                    present.add(cc(next++));
+                }
+                default -> {
+                    var updates = new ArrayList<Update>();
+                    for (int i = 0; i < 10; i++) {
+                        updates.add(new Update(present.get(random.nextInt(present.size())),
+                                BigDecimal.valueOf(random.nextLong(10_000_000L), 2), new BigDecimal("0.5"), (short) i));
+                    }
+                    bank.applyUpdates(updates);
+                }
+            }
+
+            // Cada vista anterior conserva sus datos después de cada operación.
+            for (int i = 0; i < snapshots.size(); i++) {
+                assertUnchanged(snapshots.get(i), i);
+            }
+            snapshots.add(capture(bank, round));
+        }
+    }
+}
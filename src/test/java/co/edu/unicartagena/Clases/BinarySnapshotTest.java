@@ -0,0 +1,71 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de las instantáneas binarias de {@link BankInfo}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class BinarySnapshotTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void roundTripKeepsRecordsAndTotals() throws Exception {
+        for (var mode : NumericMode.values()) {
+            var bank = new BankInfo(mode);
+            bank.add("0000000001", new BigDecimal("100.50"), new BigDecimal("0.05"), (short) 0);
+            bank.add("0000000002", new BigDecimal("2500"), new BigDecimal("0.1234567"), (short) 360);
+            bank.add("0000000003", new BigDecimal("7.999"), new BigDecimal("3"), (short) 180);
+            var file = directory.resolve(mode + ".bksn");
+            bank.saveBinary(file);
+
+            var loaded = new BankInfo(mode);
+            loaded.loadBinary(file);
+            assertEquals(bank.toString(), loaded.toString());
+            assertEquals(bank.getTotalCapital(), loaded.getTotalCapital());
+            assertEquals(bank.getTotalInterest(), loaded.getTotalInterest());
+        }
+    }
+
+    @Test
+    void recordsAddedOutsideTheTotalsCanBeLoaded() throws Exception {
+        var bank = new BankInfo();
+        bank.add("0000000001", new BigDecimal("100"), new BigDecimal("0.05"), (short) 10);
+        bank.add(new Record("0000000002", new BigDecimal("50"), new BigDecimal("0.1"), (short) 20));
+        var file = directory.resolve("data.bksn");
+        bank.saveBinary(file);
+
+        var loaded = new BankInfo();
+        loaded.loadBinary(file);
+        assertEquals(2, loaded.getSize());
+        assertEquals(new BigDecimal("150.00"), loaded.getTotalCapital());
+        assertEquals(0, loaded.audit().getCapitalDifference().signum());
+    }
+
+    @Test
+    void corruptedRecordsAreRejected() throws Exception {
+        var bank = new BankInfo();
+        bank.add("0000000001", new BigDecimal("100"), new BigDecimal("0.05"), (short) 10);
+        var file = directory.resolve("data.bksn");
+        bank.saveBinary(file);
+
+        var bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+
+        var loaded = new BankInfo();
+        assertThrows(Exception.class, () -> loaded.loadBinary(file));
+        assertEquals(0, loaded.getSize());
+    }
+}
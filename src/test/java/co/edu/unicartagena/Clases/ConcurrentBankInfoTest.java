@@ -0,0 +1,340 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de concurrencia de {@link ConcurrentBankInfo}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class ConcurrentBankInfoTest {
+    private static final int THREADS = 4;
+    private static final int OPERATIONS = 200_000;
+
+    /**
+     * Operaciones por hilo de la prueba etiquetada {@code stress}, que no se ejecuta por defecto.
+     */
+    private static final int STRESS_OPERATIONS = 2_500_000;
+    private static final int KEYS = 2_000;
+
+    private static String cc(int key) {
+        return "%010d".formatted(key);
+    }
+
+    private static BigDecimal capital(Random random) {
+        return BigDecimal.valueOf(random.nextLong(1_000_000_000L), 2);
+    }
+
+    private static BigDecimal rate(Random random) {
+        return BigDecimal.valueOf(random.nextInt(1_000_000), 6);
+    }
+
+    /**
+     * Comprueba que los totales de una vista coinciden con sus registros y que no hay cédulas repetidas.
+     */
+    private static void assertConsistent(BankSnapshot snapshot) {
+        var capital = BigDecimal.ZERO;
+        var interest = BigDecimal.ZERO;
+        var seen = new HashSet<String>();
+        int size = 0;
+        for (var record : snapshot.getRecords()) {
+            assertTrue(seen.add(record.getCc()), record.getCc());
+            capital = capital.add(record.getCapital());
+            interest = interest.add(record.getInterest());
+            size++;
+        }
+
+        assertEquals(size, snapshot.getSize());
+        assertEquals(0, capital.compareTo(snapshot.getTotalCapital()));
+        assertEquals(0, interest.compareTo(snapshot.getTotalInterest()));
+    }
+
+    /**
+     * Ejecuta la misma tarea en varios hilos a la vez y relanza el primer error.
+     */
+    private static void runConcurrently(int threads, Task task) throws Exception {
+        var start = new CountDownLatch(1);
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            var id = t;
+            var worker = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(id);
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        start.countDown();
+        for (var worker : workers) {
+            worker.join();
+        }
+        if (!errors.isEmpty()) {
+            throw new AssertionError(errors.peek());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int id) throws Exception;
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void overlappingWritersKeepTotalsConsistent(NumericMode mode) throws Exception {
+        runOverlappingWriters(mode, OPERATIONS);
+    }
+
+    /**
+     * Ejecuta diez millones de operaciones concurrentes por modo. Se ejecuta con
+     * {@code mvn test -Dgroups=stress -DexcludedGroups=}.
+     */
+    @Tag("stress")
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void millionsOfOverlappingWrites(NumericMode mode) throws Exception {
+        runOverlappingWriters(mode, STRESS_OPERATIONS);
+    }
+
+    /**
+     * Ejecuta altas, actualizaciones y bajas sobre cédulas compartidas por todos los hilos mientras otro hilo toma
+     * vistas, y comprueba que cada vista y el estado final son consistentes.
+     */
+    private static void runOverlappingWriters(NumericMode mode, int operations) throws Exception {
+        var bank = new ConcurrentBankInfo(mode, 4);
+        var done = new AtomicBoolean();
+        var reader = new Thread(() -> {
+            while (!done.get()) {
+                assertConsistent(bank.snapshot());
+                bank.getSize();
+                bank.getTotalCapital();
+            }
+        });
+        var readerError = new ConcurrentLinkedQueue<Throwable>();
+        reader.setUncaughtExceptionHandler((thread, e) -> readerError.add(e));
+        reader.start();
+
+        try {
+            runConcurrently(THREADS, id -> {
+                var random = new Random(id);
+                for (int i = 0; i < operations; i++) {
+                    var cc = cc(random.nextInt(KEYS));
+                    try {
+                        switch (random.nextInt(3)) {
+                            case 0 -> bank.add(cc, capital(random), rate(random), (short) random.nextInt(361));
+                            case 1 -> bank.updateRecord(cc, capital(random), rate(random), (short) random.nextInt(361));
+                            default -> bank.removeRecord(cc);
+                        }
+                    } catch (IllegalArgumentException | NullPointerException expected) {
+                        // Otra operación sobre la misma cédula se adelantó.
+                    }
+                }
+            });
+        } finally {
+            done.set(true);
+            reader.join();
+        }
+        assertTrue(readerError.isEmpty(), () -> String.valueOf(readerError.peek()));
+
+        var snapshot = bank.snapshot();
+        assertConsistent(snapshot);
+        assertEquals(snapshot.getSize(), bank.getSize());
+        assertEquals(0, snapshot.getTotalCapital().compareTo(bank.getTotalCapital()));
+        assertEquals(0, snapshot.getTotalInterest().compareTo(bank.getTotalInterest()));
+        for (var record : snapshot.getRecords()) {
+            assertEquals(record, bank.getRecord(record.getCc()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void disjointWritersMatchASequentialRun(NumericMode mode) throws Exception {
+        var bank = new ConcurrentBankInfo(mode, 4);
+        runConcurrently(THREADS, id -> {
+            var random = new Random(id);
+            var present = new HashSet<Integer>();
+            for (int i = 0; i < OPERATIONS / 4; i++) {
+                var key = id * KEYS + random.nextInt(KEYS);
+                var cc = cc(key);
+                if (!present.contains(key)) {
+                    bank.add(cc, capital(random), rate(random), (short) random.nextInt(361));
+                    present.add(key);
+                } else if (random.nextBoolean()) {
+                    bank.updateRecord(cc, capital(random), rate(random), (short) random.nextInt(361));
+                } else {
+                    bank.removeRecord(cc);
+                    present.remove(key);
+                }
+            }
+        });
+
+        var expected = new HashMap<String, Record>();
+        var capital = BigDecimal.ZERO;
+        var interest = BigDecimal.ZERO;
+        for (int id = 0; id < THREADS; id++) {
+            var random = new Random(id);
+            var present = new HashSet<Integer>();
+            for (int i = 0; i < OPERATIONS / 4; i++) {
+                var key = id * KEYS + random.nextInt(KEYS);
+                var cc = cc(key);
+                if (!present.contains(key)) {
+                    expected.put(cc, new Record(cc, capital(random), rate(random), (short) random.nextInt(361), mode));
+                    present.add(key);
+                } else if (random.nextBoolean()) {
+                    expected.put(cc, new Record(cc, capital(random), rate(random), (short) random.nextInt(361), mode));
+                } else {
+                    expected.remove(cc);
+                    present.remove(key);
+                }
+            }
+        }
+        for (var record : expected.values()) {
+            capital = capital.add(record.getCapital());
+            interest = interest.add(record.getInterest());
+        }
+
+        assertEquals(expected.size(), bank.getSize());
+        assertEquals(0, capital.compareTo(bank.getTotalCapital()));
+        assertEquals(0, interest.compareTo(bank.getTotalInterest()));
+        for (int key = 0; key < THREADS * KEYS; key++) {
+            var record = bank.getRecord(cc(key));
+            var reference = expected.get(cc(key));
+            if (reference == null) {
+                assertNull(record);
+            } else {
+                assertEquals(reference.getCapital(), record.getCapital());
+                assertEquals(reference.getInterest(), record.getInterest());
+            }
+        }
+        assertConsistent(bank.snapshot());
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void snapshotKeepsInsertionOrderAndIgnoresLaterWrites(NumericMode mode) {
+        var bank = new ConcurrentBankInfo(mode, 1);
+        var rate = new BigDecimal("0.05");
+        for (int key = 0; key < 100; key++) {
+            bank.add(cc(key), BigDecimal.valueOf(key), rate, (short) 10);
+        }
+        for (int key = 0; key < 100; key += 3) {
+            bank.removeRecord(cc(key));
+        }
+
+        var snapshot = bank.snapshot();
+        var before = snapshot.toString();
+        bank.add(cc(1000), BigDecimal.TEN, rate, (short) 10);
+        bank.updateRecord(cc(1), BigDecimal.TEN, rate, (short) 10);
+        bank.removeRecord(cc(2));
+        assertEquals(before, snapshot.toString());
+
+        var order = new ArrayList<String>();
+        snapshot.getRecords().forEach(record -> order.add(record.getCc()));
+        var expected = new ArrayList<String>();
+        for (int key = 0; key < 100; key++) {
+            if (key % 3 != 0) {
+                expected.add(cc(key));
+            }
+        }
+        assertEquals(expected, order);
+
+        String last = null;
+        for (var record : bank.snapshot().getRecords()) {
+            last = record.getCc();
+        }
+        assertEquals(cc(1000), last);
+    }
+
+    @Test
+    void snapshotsNeverSeeAMoveHalfApplied() throws Exception {
+        var bank = new ConcurrentBankInfo(NumericMode.FIXED_POINT, 16);
+        var rate = new BigDecimal("0.05");
+        var tokens = 64;
+        var spread = 100_000;
+
+        // Cada ficha es una cuenta cuyo capital la identifica y que se mueve de cédula (y de franja) sin cesar. Las
+        // fichas pares se dan de baja antes de darse de alta en la nueva cédula, por lo que nunca hay dos copias;
+        // las impares se dan de alta antes de darse de baja, por lo que nunca falta.
+        var positions = new int[tokens];
+        for (int token = 0; token < tokens; token++) {
+            positions[token] = token * spread;
+            bank.add(cc(positions[token]), BigDecimal.valueOf(token + 1), rate, (short) 10);
+        }
+
+        var done = new AtomicBoolean();
+        var snapshots = new int[1];
+        var reader = new Thread(() -> {
+            while (!done.get()) {
+                var copies = new int[tokens];
+                for (var record : bank.snapshot().getRecords()) {
+                    copies[record.getCapital().intValueExact() - 1]++;
+                }
+                for (int token = 0; token < tokens; token++) {
+                    if (token % 2 == 0) {
+                        assertTrue(copies[token] <= 1, "La ficha " + token + " aparece dos veces.");
+                    } else {
+                        assertTrue(copies[token] >= 1, "La ficha " + token + " no aparece.");
+                    }
+                }
+                snapshots[0]++;
+            }
+        });
+        var readerError = new ConcurrentLinkedQueue<Throwable>();
+        reader.setUncaughtExceptionHandler((thread, e) -> readerError.add(e));
+        reader.start();
+
+        try {
+            runConcurrently(THREADS, id -> {
+                var random = new Random(id);
+                for (int i = 0; i < OPERATIONS / 4; i++) {
+                    // Cada hilo mueve solo sus fichas, así que ninguna otra operación compite por ellas.
+                    var token = id + THREADS * random.nextInt(tokens / THREADS);
+                    var from = positions[token];
+                    var to = token * spread + random.nextInt(spread);
+                    if (to == from) {
+                        continue;
+                    }
+
+                    var capital = BigDecimal.valueOf(token + 1);
+                    if (token % 2 == 0) {
+                        bank.removeRecord(cc(from));
+                        bank.add(cc(to), capital, rate, (short) 10);
+                    } else {
+                        bank.add(cc(to), capital, rate, (short) 10);
+                        bank.removeRecord(cc(from));
+                    }
+                    positions[token] = to;
+                }
+            });
+        } finally {
+            done.set(true);
+            reader.join();
+        }
+
+        assertTrue(readerError.isEmpty(), () -> String.valueOf(readerError.peek()));
+        assertTrue(snapshots[0] > 0);
+        assertEquals(tokens, bank.getSize());
+    }
+}
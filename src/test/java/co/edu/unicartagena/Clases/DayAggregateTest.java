@@ -0,0 +1,159 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de los acumulados por día de {@link BankInfo}, comparados con un recorrido de todos los registros.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class DayAggregateTest {
+    private static final BigDecimal YEAR = BigDecimal.valueOf(360);
+
+    private static String cc(int key) {
+        return "%010d".formatted(key);
+    }
+
+    /**
+     * Compara los acumulados de algunos tramos de días con los de la lista de registros.
+     */
+    private static void assertMatches(BankInfo bank, Map<String, Record> records, Random random) {
+        for (int i = 0; i < 30; i++) {
+            var from = (short) random.nextInt(361);
+            var to = (short) random.nextInt(361);
+            if (i == 0) {
+                from = 0;
+                to = 360;
+            }
+
+            long count = 0;
+            var capital = BigDecimal.ZERO;
+            var interest = BigDecimal.ZERO;
+            for (var record : records.values()) {
+                if (record.getDay() >= from && record.getDay() <= to) {
+                    count++;
+                    capital = capital.add(record.getCapital());
+                    interest = interest.add(record.getInterest());
+                }
+            }
+
+            var aggregate = bank.aggregateDays(from, to);
+            assertEquals(count, aggregate.count());
+            assertEquals(0, capital.compareTo(aggregate.capital()));
+            assertEquals(0, interest.compareTo(aggregate.interest()));
+
+            var fromDay = from;
+            var expectedFrom = records.values().stream()
+                    .filter(r -> r.getDay() >= fromDay)
+                    .map(Record::getInterest)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            assertEquals(0, expectedFrom.compareTo(bank.getInterestFrom(from)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void aggregatesFollowEveryOperation(NumericMode mode) {
+        var random = new Random(25);
+        var bank = new BankInfo(mode);
+        var records = new HashMap<String, Record>();
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 200; i++) {
+                var cc = cc(random.nextInt(500));
+                var capital = BigDecimal.valueOf(random.nextLong(10_000_000L), 2);
+                var rate = BigDecimal.valueOf(random.nextInt(1_000_000), 6);
+                var day = (short) random.nextInt(361);
+                if (records.containsKey(cc)) {
+                    if (random.nextBoolean()) {
+                        bank.updateRecord(cc, capital, rate, day);
+                    } else {
+                        bank.removeRecord(cc);
+                        records.remove(cc);
+                        continue;
+                    }
+                } else {
+                    bank.add(cc, capital, rate, day);
+                }
+                records.put(cc, bank.getRecord(cc));
+            }
+
+            if (round == 0) {
+                // Los acumulados se crean con registros existentes y luego se mantienen con cada operación.
+                bank.createDayBuckets();
+            }
+
+            var updates = new ArrayList<Update>();
+            for (var cc : records.keySet()) {
+                if (random.nextInt(10) == 0) {
+                    updates.add(new Update(cc, BigDecimal.TEN, new BigDecimal("0.5"), (short) random.nextInt(361)));
+                }
+            }
+            bank.applyUpdates(updates);
+            for (var update : updates) {
+                records.put(update.cc(), bank.getRecord(update.cc()));
+            }
+
+            assertMatches(bank, records, random);
+        }
+
+        bank.dropDayBuckets();
+        assertMatches(bank, records, random);
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void projectionStaysWithinACentPerRecord(NumericMode mode) {
+        var random = new Random(360);
+        var bank = new BankInfo(mode);
+        var records = new ArrayList<Record>();
+        for (int i = 0; i < 1_000; i++) {
+            bank.add(cc(i), BigDecimal.valueOf(random.nextLong(10_000_000L), 2),
+                    BigDecimal.valueOf(random.nextInt(1_000_000), 6), (short) random.nextInt(361));
+            records.add(bank.getRecord(cc(i)));
+        }
+
+        for (var shift : new String[]{"0", "0.01", "-0.005", "0.123456"}) {
+            var rateShift = new BigDecimal(shift);
+            var exact = BigDecimal.ZERO;
+            for (var record : records) {
+                var fraction = BigDecimal.valueOf(360 - record.getDay()).divide(YEAR, 10, RoundingMode.HALF_UP);
+                exact = exact.add(record.getCapital().multiply(record.getInterestTax().add(rateShift))
+                        .add(fraction).setScale(2, RoundingMode.UP));
+            }
+
+            var projected = bank.projectInterest(rateShift);
+            var difference = exact.subtract(projected).abs();
+            assertTrue(difference.compareTo(BigDecimal.valueOf(records.size(), 2)) <= 0,
+                    "Diferencia de " + difference + " con una tasa desplazada en " + shift);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void invalidQueries(NumericMode mode) {
+        var bank = new BankInfo(mode);
+        assertThrows(IllegalArgumentException.class, () -> bank.aggregateDays((short) -1, (short) 10));
+        assertThrows(IllegalArgumentException.class, () -> bank.aggregateDays((short) 0, (short) 361));
+        assertThrows(IllegalArgumentException.class, () -> bank.getInterestFrom((short) 361));
+        assertThrows(NullPointerException.class, () -> bank.projectInterest(null));
+
+        bank.add(cc(1), BigDecimal.TEN, BigDecimal.ONE, (short) 100);
+        var empty = bank.aggregateDays((short) 200, (short) 100);
+        assertEquals(0, empty.count());
+        assertEquals(0, empty.interest().signum());
+    }
+}
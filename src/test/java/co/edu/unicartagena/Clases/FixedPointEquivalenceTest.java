@@ -0,0 +1,124 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas de equivalencia entre {@link NumericMode#FIXED_POINT} y la fórmula original con {@link BigDecimal}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class FixedPointEquivalenceTest {
+    /**
+     * Interés calculado con la fórmula original: {@code capital × tasa + (360 - día) / 360}, con la fracción del
+     * año redondeada HALF_UP a 10 decimales y el resultado redondeado UP a centavos.
+     */
+    private static BigDecimal baselineInterest(BigDecimal capital, BigDecimal rate, short day) {
+        var truncated = capital.setScale(2, RoundingMode.DOWN);
+        var yearFraction = BigDecimal.valueOf(360).subtract(BigDecimal.valueOf(day))
+                .divide(BigDecimal.valueOf(360), 10, RoundingMode.HALF_UP);
+        return truncated.multiply(rate).add(yearFraction).setScale(2, RoundingMode.UP);
+    }
+
+    private static void assertEquivalent(BigDecimal capital, BigDecimal rate, short day) {
+        var expected = baselineInterest(capital, rate, day);
+        var big = new Record("0000000001", capital, rate, day, NumericMode.BIG_DECIMAL);
+        var fixed = new Record("0000000001", capital, rate, day, NumericMode.FIXED_POINT);
+        var message = "capital=%s tasa=%s día=%d".formatted(capital, rate, day);
+
+        assertEquals(expected, big.getInterest(), message);
+        assertEquals(expected, fixed.getInterest(), message);
+        assertEquals(capital.setScale(2, RoundingMode.DOWN), fixed.getCapital(), message);
+        assertEquals(0, rate.compareTo(fixed.getInterestTax()), message);
+        assertEquals(day, fixed.getDay(), message);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0, 0",
+            "0, 0, 360",
+            "0, 0.5, 180",
+            "100, 0.05, 0",
+            "100, 0.05, 360",
+            "100.999, 0.05, 1",
+            "0.01, 0.000001, 359",
+            "1234.56, 0.123456, 90",
+            "1234.56, 0.1234567, 90",
+            "1234.56, 0.123456789012, 270",
+            "999999999999.99, 0.99, 45",
+            "92233720368547758.07, 0.01, 7",
+            "92233720368547758.08, 0.01, 7",
+            "123456789012345678901234567890.12, 3.5, 200",
+            "5, 1E+3, 10",
+            "5, 9223372036854.775807, 10",
+    })
+    void interestMatchesTheBaselineFormula(String capital, String rate, short day) {
+        assertEquivalent(new BigDecimal(capital), new BigDecimal(rate), day);
+    }
+
+    @Test
+    void randomRecordsMatchTheBaselineFormula() {
+        var random = new SplittableRandom(2024);
+        for (int i = 0; i < 200_000; i++) {
+            var capital = BigDecimal.valueOf(random.nextLong(1L << (1 + random.nextInt(62))), random.nextInt(5));
+            var rate = BigDecimal.valueOf(random.nextLong(10_000_000_000L), random.nextInt(12));
+            assertEquivalent(capital, rate, (short) random.nextInt(361));
+        }
+    }
+
+    @Test
+    void totalsMatchInBothModes() {
+        var random = new SplittableRandom(7);
+        var big = new BankInfo(NumericMode.BIG_DECIMAL);
+        var fixed = new BankInfo(NumericMode.FIXED_POINT);
+        var expectedCapital = BigDecimal.ZERO;
+        var expectedInterest = BigDecimal.ZERO;
+
+        for (int i = 0; i < 20_000; i++) {
+            var cc = Record.formatCC(i);
+            var capital = BigDecimal.valueOf(random.nextLong(100_000_000_000L), 3);
+            var rate = BigDecimal.valueOf(random.nextLong(1_000_000_000L), random.nextInt(10));
+            var day = (short) random.nextInt(361);
+            if (i % 1000 == 0) {
+                capital = new BigDecimal("98765432109876543210.987");
+            }
+
+            big.add(cc, capital, rate, day);
+            fixed.add(cc, capital, rate, day);
+            expectedCapital = expectedCapital.add(capital.setScale(2, RoundingMode.DOWN));
+            expectedInterest = expectedInterest.add(baselineInterest(capital, rate, day));
+        }
+
+        for (int i = 0; i < 20_000; i += 3) {
+            var cc = Record.formatCC(i);
+            var old = big.getRecord(cc);
+            expectedCapital = expectedCapital.subtract(old.getCapital());
+            expectedInterest = expectedInterest.subtract(old.getInterest());
+            if (i % 2 == 0) {
+                big.removeRecord(cc);
+                fixed.removeRecord(cc);
+            } else {
+                var capital = new BigDecimal("1500.129");
+                var rate = new BigDecimal("0.0375");
+                var day = (short) (i % 361);
+                big.updateRecord(cc, capital, rate, day);
+                fixed.updateRecord(cc, capital, rate, day);
+                expectedCapital = expectedCapital.add(capital.setScale(2, RoundingMode.DOWN));
+                expectedInterest = expectedInterest.add(baselineInterest(capital, rate, day));
+            }
+        }
+
+        assertEquals(0, expectedCapital.compareTo(big.getTotalCapital()));
+        assertEquals(0, expectedCapital.compareTo(fixed.getTotalCapital()));
+        assertEquals(0, expectedInterest.compareTo(big.getTotalInterest()));
+        assertEquals(0, expectedInterest.compareTo(fixed.getTotalInterest()));
+    }
+}
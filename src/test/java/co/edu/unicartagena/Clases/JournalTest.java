@@ -0,0 +1,293 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas del diario de operaciones de {@link BankInfo}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class JournalTest {
+    @TempDir
+    Path directory;
+
+    private BankInfo open() throws Exception {
+        var bank = new BankInfo();
+        bank.openJournal(directory.resolve("registros.bksn"), directory.resolve("registros.journal"));
+        return bank;
+    }
+
+    /**
+     * Simula un cierre inesperado: el diario se cierra sin compactarlo.
+     */
+    private static void crash(BankInfo bank) throws Exception {
+        bank.closeJournal();
+    }
+
+    /**
+     * Canal que escribe solo una parte de los bytes de una escritura y luego falla, como un disco lleno.
+     */
+    private static final class FailingChannel extends FileChannel {
+        private final FileChannel channel;
+        private boolean failNextWrite;
+        private boolean failTruncate;
+
+        FailingChannel(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            if (failNextWrite) {
+                failNextWrite = false;
+                var partial = src.duplicate();
+                partial.limit(partial.position() + partial.remaining() / 2);
+                var written = channel.write(partial);
+                src.position(src.position() + written);
+                throw new IOException("No queda espacio en el disco.");
+            }
+            return channel.write(src);
+        }
+
+        @Override
+        public FileChannel truncate(long size) throws IOException {
+            if (failTruncate) {
+                throw new IOException("No se pudo truncar el archivo.");
+            }
+            channel.truncate(size);
+            return this;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            return channel.read(dst);
+        }
+
+        @Override
+        public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+            return channel.read(dsts, offset, length);
+        }
+
+        @Override
+        public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
+            return channel.write(srcs, offset, length);
+        }
+
+        @Override
+        public long position() throws IOException {
+            return channel.position();
+        }
+
+        @Override
+        public FileChannel position(long newPosition) throws IOException {
+            channel.position(newPosition);
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public void force(boolean metaData) throws IOException {
+            channel.force(metaData);
+        }
+
+        @Override
+        public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+            return channel.transferTo(position, count, target);
+        }
+
+        @Override
+        public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+            return channel.transferFrom(src, position, count);
+        }
+
+        @Override
+        public int read(ByteBuffer dst, long position) throws IOException {
+            return channel.read(dst, position);
+        }
+
+        @Override
+        public int write(ByteBuffer src, long position) throws IOException {
+            return channel.write(src, position);
+        }
+
+        @Override
+        public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException {
+            return channel.map(mode, position, size);
+        }
+
+        @Override
+        public FileLock lock(long position, long size, boolean shared) throws IOException {
+            return channel.lock(position, size, shared);
+        }
+
+        @Override
+        public FileLock tryLock(long position, long size, boolean shared) throws IOException {
+            return channel.tryLock(position, size, shared);
+        }
+
+        @Override
+        protected void implCloseChannel() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static Journal.Entry add(long cc) {
+        return new Journal.Entry(Journal.ADD, cc, BigDecimal.valueOf(cc), new BigDecimal("0.05"), (short) 10);
+    }
+
+    /**
+     * Abre un diario vacío sobre un canal que puede fallar.
+     */
+    private FailingChannel failing(Path path) throws Exception {
+        Journal.open(path, 0, entry -> {}).close();
+        var channel = new FailingChannel(FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        channel.position(channel.size());
+        return channel;
+    }
+
+    private static List<Long> replayed(Path path) throws Exception {
+        var ccs = new ArrayList<Long>();
+        Journal.open(path, 0, entry -> ccs.add(entry.cc())).close();
+        return ccs;
+    }
+
+    @Test
+    void aFailedWriteDoesNotHideLaterEntries() throws Exception {
+        var path = directory.resolve("registros.journal");
+        var channel = failing(path);
+        try (var journal = new Journal(channel)) {
+            journal.write(List.of(add(1), add(2)));
+            channel.failNextWrite = true;
+            assertThrows(IOException.class, () -> journal.write(List.of(add(3), add(4))));
+            journal.write(List.of(add(5)));
+        }
+
+        assertEquals(List.of(1L, 2L, 5L), replayed(path));
+    }
+
+    @Test
+    void aJournalThatCannotBeTruncatedRefusesWrites() throws Exception {
+        var path = directory.resolve("registros.journal");
+        var channel = failing(path);
+        try (var journal = new Journal(channel)) {
+            journal.write(List.of(add(1)));
+            channel.failNextWrite = true;
+            channel.failTruncate = true;
+            var error = assertThrows(IOException.class, () -> journal.write(List.of(add(2))));
+            assertEquals(1, error.getSuppressed().length);
+            assertThrows(IOException.class, () -> journal.write(List.of(add(4))));
+        }
+
+        assertEquals(List.of(1L), replayed(path));
+    }
+
+    @Test
+    void operationsSurviveACrash() throws Exception {
+        var bank = open();
+        bank.add("0000000001", new BigDecimal("100"), new BigDecimal("0.05"), (short) 10);
+        bank.add("0000000002", new BigDecimal("200"), new BigDecimal("0.05"), (short) 20);
+        bank.updateRecord("0000000001", new BigDecimal("150"), new BigDecimal("0.1"), (short) 30);
+        bank.removeRecord("0000000002");
+        var expected = bank.toString();
+        crash(bank);
+
+        var recovered = open();
+        assertEquals(expected, recovered.toString());
+        assertEquals(bank.getTotalCapital(), recovered.getTotalCapital());
+        assertEquals(bank.getTotalInterest(), recovered.getTotalInterest());
+        recovered.closeJournal();
+    }
+
+    @Test
+    void loadedRecordsSurviveACrash() throws Exception {
+        var ledger = directory.resolve("data.txt");
+        Files.writeString(ledger, "0000000001;100.00;10;0.05\n0000000002;200.00;20;0.05\n");
+
+        for (var loader : new String[]{"load", "loadMapped", "loadParallel"}) {
+            Files.deleteIfExists(directory.resolve("registros.bksn"));
+            Files.deleteIfExists(directory.resolve("registros.journal"));
+
+            var bank = open();
+            switch (loader) {
+                case "load" -> bank.load(ledger);
+                case "loadMapped" -> bank.loadMapped(ledger);
+                default -> bank.loadParallel(ledger);
+            }
+            bank.updateRecord("0000000001", new BigDecimal("300"), new BigDecimal("0.1"), (short) 30);
+            bank.removeRecord("0000000002");
+            var expected = bank.toString();
+            crash(bank);
+
+            var recovered = open();
+            assertEquals(expected, recovered.toString(), loader);
+            assertNull(recovered.getRecord("0000000002"), loader);
+            assertEquals(bank.getTotalCapital(), recovered.getTotalCapital(), loader);
+            recovered.closeJournal();
+        }
+    }
+
+    @Test
+    void invalidUpdatesLeaveTotalsAndIndexesIntact() throws Exception {
+        var bank = open();
+        bank.add("0000000001", new BigDecimal("100"), new BigDecimal("0.05"), (short) 10);
+        bank.add("0000000002", new BigDecimal("200"), new BigDecimal("0.05"), (short) 20);
+        crash(bank);
+
+        // Entradas con CRC válido pero con datos que BankInfo rechaza.
+        var path = directory.resolve("registros.journal");
+        var snapshotId = ByteBuffer.wrap(Files.readAllBytes(path)).getLong(4 + 2);
+        try (var journal = Journal.open(path, snapshotId, entry -> {})) {
+            journal.write(List.of(
+                    new Journal.Entry(Journal.UPDATE, 1, new BigDecimal("-5"), new BigDecimal("0.05"), (short) 10),
+                    new Journal.Entry(Journal.UPDATE, 1, new BigDecimal("5"), new BigDecimal("-0.05"), (short) 10),
+                    new Journal.Entry(Journal.UPDATE, 2, new BigDecimal("5"), new BigDecimal("0.05"), (short) 400),
+                    new Journal.Entry(Journal.UPDATE, 2, new BigDecimal("300"), new BigDecimal("0.1"), (short) 30)));
+        }
+
+        var recovered = new BankInfo();
+        recovered.createSortedIndex(SortKey.CAPITAL);
+        recovered.createDayBuckets();
+        var report = recovered.openJournal(directory.resolve("registros.bksn"), path);
+        assertEquals(3, report.getRejected());
+
+        var first = recovered.getRecord("0000000001");
+        assertEquals(new BigDecimal("100.00"), first.getCapital());
+        assertEquals(10, first.getDay());
+        assertEquals(0, new BigDecimal("400").compareTo(recovered.getTotalCapital()));
+        assertEquals(0, first.getInterest().add(recovered.getRecord("0000000002").getInterest())
+                .compareTo(recovered.getTotalInterest()));
+
+        assertEquals(2, recovered.countRange(SortKey.CAPITAL, BigDecimal.ZERO, new BigDecimal("1000")));
+        assertEquals(1, recovered.countRange(SortKey.CAPITAL, new BigDecimal("100"), new BigDecimal("100")));
+        assertEquals(0, recovered.countRange(SortKey.CAPITAL, new BigDecimal("200"), new BigDecimal("200")));
+        assertEquals(1, recovered.aggregateDays((short) 10, (short) 10).count());
+        assertEquals(0, recovered.aggregateDays((short) 20, (short) 20).count());
+        assertEquals(2, recovered.aggregateDays((short) 0, (short) 360).count());
+        assertEquals(0, new BigDecimal("400").compareTo(recovered.aggregateDays((short) 0, (short) 360).capital()));
+        recovered.closeJournal();
+    }
+}
@@ -0,0 +1,144 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de {@link Record#appendTo(StringBuilder)} y {@link Record#appendSimplified(StringBuilder)}, comparadas
+ * con el texto que producía {@link String#format(String, Object...)}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class RecordFormatTest {
+    private static final Locale DEFAULT_FORMAT = Locale.getDefault(Locale.Category.FORMAT);
+
+    /**
+     * Configuraciones regionales con punto decimal, con coma decimal y con dígitos que no son ASCII.
+     */
+    private static final Locale[] LOCALES = {
+            Locale.ROOT,
+            Locale.US,
+            Locale.GERMANY,
+            Locale.forLanguageTag("es-CO"),
+            Locale.forLanguageTag("th-TH-u-nu-thai"),
+            Locale.forLanguageTag("ar-EG-u-nu-arab"),
+    };
+
+    private static final String[] CAPITALS = {
+            "0", "-0.00", "0.001", "0.005", "0.01", "0.99", "0.999", "1.005", "1.995", "2.345", "100",
+            "99999999.99", "999999999999.99", "92233720368547758.07", "92233720368547758.08",
+            "123456789012345678901234567890.12", "1E+3",
+    };
+
+    private static final String[] RATES = {
+            "0", "-0", "0.000001", "0.0000005", "0.00000049", "0.00000051", "0.0000015", "0.05", "0.123456",
+            "0.1234565", "0.99999995", "1", "1E+3", "9223372036854.775807", "0.123456789012",
+    };
+
+    private static final short[] DAYS = {0, 5, 99, 360};
+
+    @AfterEach
+    void restoreLocale() {
+        Locale.setDefault(Locale.Category.FORMAT, DEFAULT_FORMAT);
+    }
+
+    /**
+     * Texto de {@link Record#toString()} antes de escribir las columnas directamente.
+     */
+    private static String formatted(Record record) {
+        return String.format("%-10s  %-13s  %-13s  %-4d", record.getCc(), "$%.2f".formatted(record.getCapital()),
+                "%.4f%%".formatted(record.getInterestTax().multiply(BigDecimal.valueOf(100))), record.getDay());
+    }
+
+    /**
+     * Texto de {@link Record#getSimplifiedString()} antes de escribir las columnas directamente.
+     */
+    private static String formattedSimplified(Record record) {
+        return String.format("%s;%s;%d;%s", record.getCc(), record.getCapital().toPlainString(), record.getDay(),
+                record.getInterestTax().toPlainString());
+    }
+
+    private static void assertSameText(Record record) {
+        var message = "%s en %s".formatted(formattedSimplified(record), Locale.getDefault(Locale.Category.FORMAT));
+        assertEquals(formatted(record), record.toString(), message);
+        assertEquals(formattedSimplified(record), record.getSimplifiedString(), message);
+
+        // Las columnas se rellenan a partir de la posición donde empieza el registro, no del inicio del buffer.
+        assertEquals("previo|" + formatted(record), record.appendTo(new StringBuilder("previo|")).toString(), message);
+        assertEquals("previo|" + formattedSimplified(record),
+                record.appendSimplified(new StringBuilder("previo|")).toString(), message);
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void edgeValuesMatchStringFormat(NumericMode mode) {
+        for (var locale : LOCALES) {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+            for (var capital : CAPITALS) {
+                for (var rate : RATES) {
+                    for (var day : DAYS) {
+                        assertSameText(new Record("0000012345", new BigDecimal(capital), new BigDecimal(rate), day, mode));
+                    }
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(NumericMode.class)
+    void randomValuesMatchStringFormat(NumericMode mode) {
+        var random = new SplittableRandom(23);
+        for (var locale : LOCALES) {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+            for (int i = 0; i < 5_000; i++) {
+                var capital = BigDecimal.valueOf(random.nextLong(1L << (1 + random.nextInt(62))), random.nextInt(-2, 5));
+                var rate = BigDecimal.valueOf(random.nextLong(10_000_000_000L), random.nextInt(-1, 12));
+                var cc = String.format(Locale.ROOT, "%010d", random.nextLong(10_000_000_000L));
+                assertSameText(new Record(cc, capital, rate, (short) random.nextInt(361), mode));
+            }
+        }
+    }
+
+    @Test
+    void fallbackLocalesReallyUseOtherDigits() {
+        // Si estas configuraciones regionales usaran dígitos ASCII, las pruebas anteriores no cubrirían el respaldo
+        // con String.format.
+        for (var tag : new String[]{"th-TH-u-nu-thai", "ar-EG-u-nu-arab"}) {
+            var locale = Locale.forLanguageTag(tag);
+            assertNotEquals('0', DecimalFormatSymbols.getInstance(locale).getZeroDigit(), tag);
+
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+            assertEquals(0, Decimals.decimalSeparator(), tag);
+        }
+
+        Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+        assertEquals(',', Decimals.decimalSeparator());
+        var record = new Record("0000000001", new BigDecimal("1234.5"), new BigDecimal("0.05"), (short) 7, NumericMode.FIXED_POINT);
+        assertEquals("0000000001  $1234,50       5,0000%        7   ", record.toString());
+        assertEquals("0000000001;1234.50;7;0.05", record.getSimplifiedString());
+    }
+
+    @Test
+    void negativeValuesNeverReachTheFormatter() {
+        for (var mode : NumericMode.values()) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Record("0000000001", new BigDecimal("-0.01"), BigDecimal.ONE, (short) 1, mode));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Record("0000000001", BigDecimal.ONE, new BigDecimal("-0.000001"), (short) 1, mode));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new Record("0000000001", BigDecimal.ONE, BigDecimal.ONE, (short) -1, mode));
+        }
+    }
+}
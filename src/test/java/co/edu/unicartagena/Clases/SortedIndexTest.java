@@ -0,0 +1,125 @@
+package co.edu.unicartagena.Clases;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de los índices ordenados de {@link BankInfo}, comparados con un recorrido de todos los registros.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class SortedIndexTest {
+    private static String cc(int key) {
+        return "%010d".formatted(key);
+    }
+
+    private static List<String> ccs(List<Record> records) {
+        var ccs = new ArrayList<String>();
+        records.forEach(record -> ccs.add(record.getCc()));
+        return ccs;
+    }
+
+    private static Comparator<Record> order(SortKey key) {
+        return Comparator.comparing(key::keyOf).thenComparingLong(Record::getCcValue);
+    }
+
+    /**
+     * Compara las consultas de cada índice con las de la lista de registros.
+     */
+    private static void assertMatches(BankInfo bank, Map<String, Record> records, Random random) {
+        for (var key : SortKey.values()) {
+            var sorted = new ArrayList<>(records.values());
+            sorted.sort(order(key));
+
+            for (int i = 0; i < 20; i++) {
+                var from = sorted.isEmpty() || random.nextInt(5) == 0 ? null : key.keyOf(sorted.get(random.nextInt(sorted.size())));
+                var to = sorted.isEmpty() || random.nextInt(5) == 0 ? null : key.keyOf(sorted.get(random.nextInt(sorted.size())));
+                var expected = sorted.stream()
+                        .filter(r -> from == null || key.keyOf(r).compareTo(from) >= 0)
+                        .filter(r -> to == null || key.keyOf(r).compareTo(to) <= 0)
+                        .toList();
+                assertEquals(ccs(expected), ccs(bank.findRange(key, from, to)), key + " " + from + " " + to);
+                assertEquals(expected.size(), bank.countRange(key, from, to));
+            }
+
+            var limit = random.nextInt(sorted.size() + 2);
+            var expectedTop = new ArrayList<>(sorted.reversed().subList(0, Math.min(limit, sorted.size())));
+            assertEquals(ccs(expectedTop), ccs(bank.top(key, limit)));
+        }
+    }
+
+    @Test
+    void indexesFollowEveryOperation() {
+        var random = new Random(7);
+        var bank = new BankInfo();
+        var records = new HashMap<String, Record>();
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 100; i++) {
+                var cc = cc(random.nextInt(400));
+                // Pocos valores distintos para que haya claves repetidas.
+                var capital = BigDecimal.valueOf(random.nextInt(20) * 50L);
+                var rate = BigDecimal.valueOf(random.nextInt(10), 2);
+                var day = (short) random.nextInt(361);
+                if (records.containsKey(cc)) {
+                    if (random.nextBoolean()) {
+                        bank.updateRecord(cc, capital, rate, day);
+                    } else {
+                        bank.removeRecord(cc);
+                        records.remove(cc);
+                        continue;
+                    }
+                } else {
+                    bank.add(cc, capital, rate, day);
+                }
+                records.put(cc, bank.getRecord(cc));
+            }
+
+            if (round == 0) {
+                // Los índices se crean con registros existentes y luego se mantienen con cada operación.
+                bank.createSortedIndex(SortKey.CAPITAL);
+                assertTrue(bank.hasSortedIndex(SortKey.CAPITAL));
+                assertFalse(bank.hasSortedIndex(SortKey.DAY));
+            }
+
+            var updates = new ArrayList<Update>();
+            for (var cc : records.keySet()) {
+                if (random.nextInt(10) == 0) {
+                    updates.add(new Update(cc, BigDecimal.valueOf(random.nextInt(20) * 50L), BigDecimal.ONE, (short) 1));
+                }
+            }
+            bank.applyUpdates(updates);
+            for (var update : updates) {
+                records.put(update.cc(), bank.getRecord(update.cc()));
+            }
+
+            assertMatches(bank, records, random);
+        }
+
+        bank.dropSortedIndex(SortKey.CAPITAL);
+        assertFalse(bank.hasSortedIndex(SortKey.CAPITAL));
+        assertMatches(bank, records, random);
+    }
+
+    @Test
+    void invalidQueries() {
+        var bank = new BankInfo();
+        assertThrows(NullPointerException.class, () -> bank.findRange(null, null, null));
+        assertThrows(NullPointerException.class, () -> bank.countRange(null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> bank.top(SortKey.DAY, -1));
+        assertEquals(List.of(), bank.findRange(SortKey.DAY, null, null));
+    }
+}
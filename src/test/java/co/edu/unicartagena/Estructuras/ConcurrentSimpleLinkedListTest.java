@@ -0,0 +1,157 @@
+package co.edu.unicartagena.Estructuras;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link ConcurrentSimpleLinkedList}.
+ *
+ * @author Pablo José Hernández Meléndez
+ */
+class ConcurrentSimpleLinkedListTest {
+    private static final int THREADS = 4;
+    private static final int VALUES = 20_000;
+
+    /**
+     * Cantidad de valores por hilo en las pruebas que eliminan; cada eliminación recorre la lista.
+     */
+    private static final int DELETED_VALUES = 4_000;
+
+    /**
+     * Ejecuta la misma tarea en varios hilos a la vez y relanza el primer error.
+     */
+    private static void runConcurrently(int threads, Task task) throws InterruptedException {
+        var start = new CountDownLatch(1);
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        var workers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            var id = t;
+            var worker = new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(id);
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        start.countDown();
+        for (var worker : workers) {
+            worker.join();
+        }
+        if (!errors.isEmpty()) {
+            throw new AssertionError(errors.peek());
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run(int id);
+    }
+
+    @Test
+    void sequentialOperations() {
+        var list = new ConcurrentSimpleLinkedList<Integer>();
+        list.add(1, 2, 3);
+        list.deleteFirst(3);
+        list.add(4);
+        list.deleteFirst(1);
+
+        var values = new ArrayList<Integer>();
+        list.forEach(values::add);
+        assertEquals(List.of(2, 4), values);
+        assertEquals(2, list.getSize());
+        assertTrue(list.contains(4));
+        assertFalse(list.contains(3));
+        assertThrows(NullPointerException.class, () -> list.deleteFirst(3));
+    }
+
+    @Test
+    void concurrentAppendsKeepEveryValueInPerThreadOrder() throws InterruptedException {
+        var list = new ConcurrentSimpleLinkedList<Integer>();
+        runConcurrently(THREADS, id -> {
+            for (int i = 0; i < VALUES; i++) {
+                list.add(id * VALUES + i);
+            }
+        });
+
+        assertEquals(THREADS * VALUES, list.getSize());
+        var last = new int[THREADS];
+        Arrays.fill(last, -1);
+        int count = 0;
+        for (int value : list) {
+            var id = value / VALUES;
+            assertTrue(value % VALUES > last[id], "Valor fuera de orden: " + value);
+            last[id] = value % VALUES;
+            count++;
+        }
+        assertEquals(THREADS * VALUES, count);
+    }
+
+    @Test
+    void concurrentAppendsAndDeletesLeaveTheExpectedValues() throws InterruptedException {
+        var list = new ConcurrentSimpleLinkedList<Integer>();
+        runConcurrently(THREADS, id -> {
+            for (int i = 0; i < DELETED_VALUES; i++) {
+                var value = id * DELETED_VALUES + i;
+                list.add(value);
+                // Se eliminan los valores pares poco después de agregarlos, mientras otros hilos agregan al final.
+                if (i % 2 == 1) {
+                    list.deleteFirst(value - 1);
+                }
+            }
+        });
+
+        var seen = new HashMap<Integer, Integer>();
+        for (int value : list) {
+            seen.merge(value, 1, Integer::sum);
+        }
+        assertEquals(THREADS * DELETED_VALUES / 2, seen.size());
+        assertEquals(THREADS * DELETED_VALUES / 2, list.getSize());
+        for (var entry : seen.entrySet()) {
+            assertEquals(1, entry.getKey() % 2, "Quedó un valor eliminado: " + entry.getKey());
+            assertEquals(1, entry.getValue());
+        }
+
+        // La pista del último nodo no debe quedar atrás: un valor agregado después debe quedar al final.
+        list.add(-1);
+        Integer last = null;
+        for (int value : list) {
+            last = value;
+        }
+        assertEquals(-1, last);
+    }
+
+    @Test
+    void deletingTheLastValuesWhileAppending() throws InterruptedException {
+        var list = new ConcurrentSimpleLinkedList<Integer>();
+        runConcurrently(THREADS, id -> {
+            for (int i = 0; i < DELETED_VALUES; i++) {
+                var value = id * DELETED_VALUES + i;
+                list.add(value);
+                list.deleteFirst(value);
+            }
+        });
+
+        assertEquals(0, list.getSize());
+        assertFalse(list.iterator().hasNext());
+        list.add(7, 8);
+        var values = new ArrayList<Integer>();
+        list.forEach(values::add);
+        assertEquals(List.of(7, 8), values);
+    }
+}
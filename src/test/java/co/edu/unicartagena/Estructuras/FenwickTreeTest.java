@@ -0,0 +1,84 @@
+package co.edu.unicartagena.Estructuras;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de {@link FenwickTree}, comparado con la suma directa de un arreglo.
+ *
+ * @author Pablo José Hernández Meléndez
+ */
+class FenwickTreeTest {
+    private static FenwickTree<Long> longs(int size) {
+        return new FenwickTree<>(size, 0L, Long::sum, (a, b) -> a - b);
+    }
+
+    private static long sum(long[] values, int from, int to) {
+        long sum = 0;
+        for (int i = from; i <= to; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Test
+    void randomAddsMatchDirectSums() {
+        var random = new Random(25);
+        for (var size : new int[]{1, 2, 7, 64, 361, 1000}) {
+            var values = new long[size];
+            var tree = longs(size);
+            for (int i = 0; i < 2_000; i++) {
+                var index = random.nextInt(size);
+                var delta = (long) random.nextInt(2_001) - 1_000;
+                values[index] += delta;
+                tree.add(index, delta);
+
+                var from = random.nextInt(size);
+                var to = random.nextInt(size);
+                assertEquals(from > to ? 0 : sum(values, from, to), tree.sum(from, to));
+                assertEquals(sum(values, 0, to), tree.prefix(to));
+            }
+            assertEquals(0L, tree.prefix(-1));
+            assertEquals(size, tree.size());
+        }
+    }
+
+    @Test
+    void buildFromValuesMatchesIncrementalAdds() {
+        var random = new Random(361);
+        var values = new BigDecimal[361];
+        var incremental = new FenwickTree<>(values.length, BigDecimal.ZERO, BigDecimal::add, BigDecimal::subtract);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = BigDecimal.valueOf(random.nextLong(1_000_000_000L), 2);
+            incremental.add(i, values[i]);
+        }
+        var built = new FenwickTree<>(values, BigDecimal.ZERO, BigDecimal::add, BigDecimal::subtract);
+
+        for (int from = 0; from < values.length; from += 17) {
+            for (int to = from; to < values.length; to += 13) {
+                var expected = BigDecimal.ZERO;
+                for (int i = from; i <= to; i++) {
+                    expected = expected.add(values[i]);
+                }
+                assertEquals(expected, built.sum(from, to));
+                assertEquals(expected, incremental.sum(from, to));
+            }
+        }
+    }
+
+    @Test
+    void invalidPositions() {
+        var tree = longs(5);
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.add(5, 1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.add(-1, 1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.prefix(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.sum(0, 5));
+        assertThrows(IllegalArgumentException.class, () -> longs(-1));
+        assertEquals(0, longs(0).size());
+    }
+}
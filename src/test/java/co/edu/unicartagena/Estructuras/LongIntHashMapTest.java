@@ -0,0 +1,160 @@
+package co.edu.unicartagena.Estructuras;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link LongIntHashMap}, comparado con un {@link HashMap}.
+ *
+ * @author Pablo José Hernández Meléndez
+ */
+class LongIntHashMapTest {
+    private static final int ABSENT = -1;
+
+    /**
+     * Capacidad de una tabla creada con {@code new LongIntHashMap(8)}: 8 entradas con factor de carga 0.5.
+     */
+    private static final int CAPACITY = 16;
+
+    /**
+     * Posición inicial de una clave en una tabla de {@link #CAPACITY} posiciones, calculada igual que la tabla.
+     */
+    private static int home(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & (CAPACITY - 1);
+    }
+
+    /**
+     * Busca claves cuya posición inicial es la indicada.
+     */
+    private static List<Long> keysAt(int slot, int count) {
+        var keys = new ArrayList<Long>();
+        for (long key = 1; keys.size() < count; key++) {
+            if (home(key) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    private static void assertMatches(Map<Long, Integer> expected, LongIntHashMap map) {
+        assertEquals(expected.size(), map.size());
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.getOrDefault(entry.getKey(), ABSENT), "Clave " + entry.getKey());
+            assertTrue(map.containsKey(entry.getKey()));
+        }
+    }
+
+    @Test
+    void randomOperationsMatchAHashMap() {
+        var random = new Random(3);
+        var expected = new HashMap<Long, Integer>();
+        var map = new LongIntHashMap();
+        long[] special = {0, -1, 1, Long.MIN_VALUE, Long.MAX_VALUE};
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(20) == 0 ? special[random.nextInt(special.length)] : random.nextInt(5_000) - 2_500;
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    expected.put(key, i);
+                    map.put(key, i);
+                }
+                case 1 -> {
+                    var removed = expected.remove(key);
+                    assertEquals(removed == null ? ABSENT : removed, map.remove(key, ABSENT));
+                }
+                default -> {
+                    assertEquals(expected.getOrDefault(key, ABSENT), map.getOrDefault(key, ABSENT));
+                    assertEquals(expected.containsKey(key), map.containsKey(key));
+                }
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertMatches(expected, map);
+    }
+
+    @Test
+    void keyZeroIsStoredApart() {
+        var map = new LongIntHashMap();
+        assertFalse(map.containsKey(0));
+        assertEquals(ABSENT, map.getOrDefault(0, ABSENT));
+        assertEquals(ABSENT, map.remove(0, ABSENT));
+
+        map.put(0, 7);
+        map.put(0, 8);
+        assertEquals(1, map.size());
+        assertEquals(8, map.getOrDefault(0, ABSENT));
+        assertFalse(map.containsKey(1));
+
+        assertEquals(8, map.remove(0, ABSENT));
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(0));
+    }
+
+    @Test
+    void removalsShiftCollidingKeysBack() {
+        // Dos cadenas de sondeo que se juntan y la última da la vuelta al final de la tabla.
+        for (var slots : new int[][]{{3, 4}, {CAPACITY - 2, CAPACITY - 1}}) {
+            var keys = new ArrayList<Long>();
+            keys.addAll(keysAt(slots[0], 3));
+            keys.addAll(keysAt(slots[1], 3));
+
+            for (int removed = 0; removed < keys.size(); removed++) {
+                var expected = new HashMap<Long, Integer>();
+                var map = new LongIntHashMap(8);
+                for (int i = 0; i < keys.size(); i++) {
+                    map.put(keys.get(i), i);
+                    expected.put(keys.get(i), i);
+                }
+
+                // Se elimina cada una de las claves de las cadenas sin que la tabla crezca.
+                assertEquals(removed, map.remove(keys.get(removed), ABSENT));
+                expected.remove(keys.get(removed));
+                assertMatches(expected, map);
+                assertFalse(map.containsKey(keys.get(removed)));
+
+                // La posición liberada vuelve a utilizarse.
+                map.put(keys.get(removed), 100);
+                expected.put(keys.get(removed), 100);
+                assertMatches(expected, map);
+            }
+        }
+    }
+
+    @Test
+    void tableGrowsPastHalfFull() {
+        var expected = new HashMap<Long, Integer>();
+        var map = new LongIntHashMap(0);
+        for (int i = 0; i < 100_000; i++) {
+            long key = i * 1_000_003L;
+            map.put(key, i);
+            expected.put(key, i);
+            if (Integer.bitCount(i) == 1) {
+                assertMatches(expected, map);
+            }
+        }
+        assertMatches(expected, map);
+
+        for (int i = 0; i < 100_000; i += 2) {
+            assertEquals(i, map.remove(i * 1_000_003L, ABSENT));
+            expected.remove(i * 1_000_003L);
+        }
+        assertMatches(expected, map);
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(1_000_003L));
+        assertThrows(IllegalArgumentException.class, () -> new LongIntHashMap(Integer.MAX_VALUE));
+    }
+}
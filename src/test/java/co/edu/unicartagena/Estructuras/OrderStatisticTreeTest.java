@@ -0,0 +1,171 @@
+package co.edu.unicartagena.Estructuras;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link OrderStatisticTree}, comparado con una lista ordenada.
+ *
+ * @author Pablo José Hernández Meléndez
+ */
+class OrderStatisticTreeTest {
+    private record Entry(int key, long id) {
+    }
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::key).thenComparingLong(Entry::id);
+
+    private static List<Long> range(OrderStatisticTree<Integer> tree, Integer from, Integer to) {
+        var ids = new ArrayList<Long>();
+        tree.range(from, to, ids::add);
+        return ids;
+    }
+
+    private static List<Long> expectedRange(List<Entry> entries, Integer from, Integer to) {
+        var ids = new ArrayList<Long>();
+        for (var entry : entries) {
+            if ((from == null || entry.key() >= from) && (to == null || entry.key() <= to)) {
+                ids.add(entry.id());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Compara todas las consultas del árbol con las de una lista ordenada de las mismas entradas.
+     */
+    private static void assertMatches(List<Entry> entries, OrderStatisticTree<Integer> tree, Random random) {
+        entries.sort(ORDER);
+        assertEquals(entries.size(), tree.size());
+
+        for (int position = 0; position < entries.size(); position++) {
+            assertEquals(entries.get(position).id(), tree.select(position));
+        }
+
+        for (int i = 0; i < 50; i++) {
+            var key = random.nextInt(120) - 10;
+            var below = (int) entries.stream().filter(e -> e.key() < key).count();
+            var atMost = (int) entries.stream().filter(e -> e.key() <= key).count();
+            assertEquals(below, tree.rank(key, false));
+            assertEquals(atMost, tree.rank(key, true));
+
+            Integer from = random.nextInt(5) == 0 ? null : random.nextInt(120) - 10;
+            Integer to = random.nextInt(5) == 0 ? null : random.nextInt(120) - 10;
+            var expected = expectedRange(entries, from, to);
+            assertEquals(expected.size(), tree.count(from, to));
+            assertEquals(expected, range(tree, from, to));
+        }
+
+        var limit = random.nextInt(entries.size() + 2);
+        var expected = new ArrayList<Long>();
+        for (int i = entries.size() - 1; i >= 0 && expected.size() < limit; i--) {
+            expected.add(entries.get(i).id());
+        }
+        var descending = new ArrayList<Long>();
+        tree.descending(limit, descending::add);
+        assertEquals(expected, descending);
+    }
+
+    @Test
+    void emptyTree() {
+        var tree = new OrderStatisticTree<Integer>();
+        assertEquals(0, tree.size());
+        assertEquals(0, tree.rank(5, true));
+        assertEquals(0, tree.count(null, null));
+        assertEquals(List.of(), range(tree, null, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(0));
+        assertFalse(tree.remove(1, 1));
+    }
+
+    @Test
+    void equalKeysAreOrderedById() {
+        var tree = new OrderStatisticTree<Integer>();
+        assertTrue(tree.insert(5, 30));
+        assertTrue(tree.insert(5, 10));
+        assertTrue(tree.insert(1, 99));
+        assertTrue(tree.insert(5, 20));
+        assertFalse(tree.insert(5, 20));
+
+        assertEquals(List.of(99L, 10L, 20L, 30L), range(tree, null, null));
+        assertEquals(List.of(10L, 20L, 30L), range(tree, 5, 5));
+        assertEquals(1, tree.rank(5, false));
+        assertEquals(4, tree.rank(5, true));
+        assertEquals(0, tree.count(6, 4));
+        assertEquals(20L, tree.select(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(4));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.select(-1));
+        assertThrows(NullPointerException.class, () -> tree.insert(null, 1));
+    }
+
+    @Test
+    void randomInsertsAndRemovesMatchASortedList() {
+        var random = new Random(24);
+        var tree = new OrderStatisticTree<Integer>();
+        var entries = new ArrayList<Entry>();
+
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 200; i++) {
+                var entry = new Entry(random.nextInt(100), random.nextInt(1000));
+                var present = entries.contains(entry);
+                assertEquals(!present, tree.insert(entry.key(), entry.id()));
+                if (!present) {
+                    entries.add(entry);
+                }
+            }
+            for (int i = 0; i < 100 && !entries.isEmpty(); i++) {
+                var entry = entries.remove(random.nextInt(entries.size()));
+                assertTrue(tree.remove(entry.key(), entry.id()));
+                assertFalse(tree.remove(entry.key(), entry.id()));
+            }
+            assertMatches(entries, tree, random);
+        }
+    }
+
+    @Test
+    void buildMatchesInsertsAndDropsDuplicates() {
+        var random = new Random(42);
+        var keys = new Integer[5_000];
+        var ids = new long[keys.length];
+        var entries = new ArrayList<Entry>();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(100);
+            ids[i] = random.nextInt(2_000);
+            var entry = new Entry(keys[i], ids[i]);
+            if (!entries.contains(entry)) {
+                entries.add(entry);
+            }
+        }
+
+        var tree = new OrderStatisticTree<Integer>();
+        tree.insert(-1, -1);
+        tree.build(keys, ids);
+        assertMatches(entries, tree, random);
+
+        // El árbol construido debe seguir admitiendo cambios.
+        for (int i = 0; i < 1_000; i++) {
+            var entry = entries.remove(random.nextInt(entries.size()));
+            assertTrue(tree.remove(entry.key(), entry.id()));
+        }
+        tree.insert(50, 5_000);
+        entries.add(new Entry(50, 5_000));
+        assertMatches(entries, tree, random);
+    }
+
+    @Test
+    void buildRejectsInvalidInput() {
+        var tree = new OrderStatisticTree<Integer>();
+        assertThrows(IllegalArgumentException.class, () -> tree.build(new Integer[2], new long[1]));
+        assertThrows(NullPointerException.class, () -> tree.build(new Integer[]{1, null}, new long[2]));
+
+        tree.build(new Integer[0], new long[0]);
+        assertEquals(0, tree.size());
+    }
+}
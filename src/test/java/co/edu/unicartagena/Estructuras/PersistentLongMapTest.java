@@ -0,0 +1,191 @@
+package co.edu.unicartagena.Estructuras;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de {@link PersistentLongMap}, comparado con un {@link TreeMap}.
+ *
+ * @author Pablo José Hernández Meléndez
+ */
+class PersistentLongMapTest {
+    /**
+     * Compara el mapa con la referencia: tamaño, búsquedas y orden del recorrido.
+     */
+    private static void assertMatches(TreeMap<Long, String> expected, PersistentLongMap<String> map) {
+        assertEquals(expected.size(), map.size());
+        var values = new ArrayList<String>(map.size());
+        map.forEach(values::add);
+        assertEquals(new ArrayList<>(expected.values()), values);
+        for (var entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    /**
+     * Genera claves pequeñas, que comparten nodos, y grandes, que agregan niveles a la raíz.
+     */
+    private static long key(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> random.nextInt(64);
+            case 1 -> random.nextInt(100_000);
+            case 2 -> random.nextLong(Long.MAX_VALUE);
+            default -> Long.MAX_VALUE - random.nextInt(64);
+        };
+    }
+
+    @Test
+    void earlierVersionsAreNotModified() {
+        var random = new Random(14);
+        var keys = new ArrayList<Long>();
+        var expected = new TreeMap<Long, String>();
+        var map = PersistentLongMap.<String>empty();
+        var versions = new ArrayList<PersistentLongMap<String>>();
+        var references = new ArrayList<TreeMap<Long, String>>();
+
+        for (int i = 0; i < 5_000; i++) {
+            if (keys.isEmpty() || random.nextInt(3) != 0) {
+                var key = random.nextInt(4) == 0 && !keys.isEmpty() ? keys.get(random.nextInt(keys.size())) : key(random);
+                var value = "v" + i;
+                if (expected.put(key, value) == null) {
+                    keys.add(key);
+                }
+                map = map.put(key, value);
+            } else {
+                var key = keys.remove(random.nextInt(keys.size()));
+                expected.remove(key);
+                map = map.remove(key);
+            }
+
+            if (i % 100 == 0) {
+                versions.add(map);
+                references.add(new TreeMap<>(expected));
+                assertMatches(expected, map);
+            }
+        }
+
+        assertMatches(expected, map);
+        for (int i = 0; i < versions.size(); i++) {
+            assertMatches(references.get(i), versions.get(i));
+        }
+    }
+
+    @Test
+    void putAndRemoveCopyOnlyTheirPath() {
+        var original = PersistentLongMap.<String>empty().put(1, "a").put(33, "b").put(1L << 40, "c");
+
+        var replaced = original.put(33, "B");
+        var added = original.put(2, "d");
+        var removed = original.remove(1);
+
+        assertEquals(List.of("a", "b", "c"), values(original));
+        assertEquals(List.of("a", "B", "c"), values(replaced));
+        assertEquals(List.of("a", "d", "b", "c"), values(added));
+        assertEquals(List.of("b", "c"), values(removed));
+        assertEquals(3, replaced.size());
+        assertEquals(4, added.size());
+        assertEquals(2, removed.size());
+        assertNull(removed.get(1));
+        assertEquals("a", original.get(1));
+
+        assertSame(original, original.remove(5));
+        assertSame(original, original.remove(-1));
+        assertNull(original.get(-1));
+        assertNull(original.get(Long.MAX_VALUE));
+    }
+
+    private static List<String> values(PersistentLongMap<String> map) {
+        var values = new ArrayList<String>();
+        map.forEach(values::add);
+        return values;
+    }
+
+    @Test
+    void removingEveryKeyLeavesAnEmptyMap() {
+        var random = new Random(0);
+        var keys = new ArrayList<Long>();
+        var map = PersistentLongMap.<String>empty();
+        for (int i = 0; i < 1_000; i++) {
+            var key = key(random);
+            if (map.get(key) == null) {
+                keys.add(key);
+            }
+            map = map.put(key, Long.toString(key));
+        }
+
+        var full = map;
+        Collections.shuffle(keys, random);
+        for (var key : keys) {
+            map = map.remove(key);
+        }
+
+        assertEquals(0, map.size());
+        assertSame(PersistentLongMap.empty(), map);
+        assertFalse(map.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> PersistentLongMap.empty().iterator().next());
+        assertEquals(keys.size(), full.size());
+
+        map = map.put(Long.MAX_VALUE, "max");
+        assertEquals(List.of("max"), values(map));
+    }
+
+    @Test
+    void ofSortedMatchesRepeatedPuts() {
+        var random = new Random(25);
+        for (var count : new int[]{1, 2, 31, 32, 33, 1_000, 40_000}) {
+            var expected = new TreeMap<Long, String>();
+            while (expected.size() < count) {
+                var key = key(random);
+                expected.put(key, Long.toString(key));
+            }
+
+            // Arreglos más largos que la cantidad indicada: el resto se ignora.
+            var keys = new long[count + 3];
+            var values = new String[count + 3];
+            int i = 0;
+            for (var entry : expected.entrySet()) {
+                keys[i] = entry.getKey();
+                values[i] = entry.getValue();
+                i++;
+            }
+
+            var built = PersistentLongMap.ofSorted(keys, values, count);
+            assertMatches(expected, built);
+
+            // Las modificaciones sobre el mapa construido tampoco afectan al original.
+            var first = expected.firstKey();
+            var modified = built.remove(first).put(first, "otro");
+            assertEquals(expected.get(first), built.get(first));
+            assertEquals("otro", modified.get(first));
+        }
+
+        assertSame(PersistentLongMap.empty(), PersistentLongMap.ofSorted(new long[0], new String[0], 0));
+    }
+
+    @Test
+    void invalidArguments() {
+        var map = PersistentLongMap.<String>empty();
+        assertThrows(IllegalArgumentException.class, () -> map.put(-1, "a"));
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> PersistentLongMap.ofSorted(new long[]{2, 1}, new String[]{"a", "b"}, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> PersistentLongMap.ofSorted(new long[]{1, 1}, new String[]{"a", "b"}, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> PersistentLongMap.ofSorted(new long[]{-1}, new String[]{"a"}, 1));
+        assertThrows(NullPointerException.class,
+                () -> PersistentLongMap.ofSorted(new long[]{1, 2}, new String[]{"a", null}, 2));
+    }
+}
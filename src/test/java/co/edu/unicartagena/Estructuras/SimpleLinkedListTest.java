@@ -0,0 +1,188 @@
+package co.edu.unicartagena.Estructuras;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link SimpleLinkedList}.
+ *
+ * @author Pablo José Hernández Meléndez
+ */
+class SimpleLinkedListTest {
+    private static <T> List<T> values(SimpleLinkedList<T> list) {
+        var values = new ArrayList<T>();
+        list.forEach(values::add);
+        return values;
+    }
+
+    @Test
+    void addAppendsAtTheTailInOrder() {
+        var list = new SimpleLinkedList<Integer>();
+        list.add(1);
+        list.add(2, 3);
+        list.addAll(List.of(4, 5));
+        list.addAll(IntStream.rangeClosed(6, 8).boxed());
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), values(list));
+        assertEquals(8, list.getSize());
+        assertEquals("1\n2\n3\n4\n5\n6\n7\n8\n", list.toString());
+    }
+
+    @Test
+    void deletingTheLastNodeMovesTheTail() {
+        var list = new SimpleLinkedList<Integer>();
+        list.add(1, 2, 3);
+
+        list.deleteFirst(3);
+        list.add(4);
+        assertEquals(List.of(1, 2, 4), values(list));
+
+        list.deleteFirst(4);
+        list.deleteFirst(2);
+        list.deleteFirst(1);
+        assertEquals(0, list.getSize());
+        assertThrows(NullPointerException.class, list::toString);
+
+        list.add(5);
+        list.addAll(List.of(6));
+        assertEquals(List.of(5, 6), values(list));
+    }
+
+    @Test
+    void deletingAMissingValueFails() {
+        var list = new SimpleLinkedList<Integer>();
+        list.add(1);
+        assertThrows(NullPointerException.class, () -> list.deleteFirst(2));
+        assertEquals(List.of(1), values(list));
+    }
+
+    @Test
+    void addAllWithNoValuesKeepsTheList() {
+        var list = new SimpleLinkedList<Integer>();
+        list.addAll(List.of());
+        assertEquals(0, list.getSize());
+        list.add(1);
+        list.addAll(List.of());
+        list.add(2);
+        assertEquals(List.of(1, 2), values(list));
+    }
+
+    @Test
+    void millionsOfNodesDoNotOverflowTheStack() {
+        var count = 3_000_000;
+        var list = new SimpleLinkedList<Integer>();
+        assertDoesNotThrow(() -> {
+            for (int i = 0; i < count / 2; i++) {
+                list.add(i);
+            }
+            list.addAll(IntStream.range(count / 2, count).boxed());
+        });
+
+        assertEquals(count, list.getSize());
+        long sum = 0;
+        int expected = 0;
+        for (var value : list) {
+            assertEquals(expected++, value);
+            sum += value;
+        }
+        assertEquals((long) count * (count - 1) / 2, sum);
+
+        list.deleteFirst(count - 1);
+        list.add(-1);
+        assertEquals(count, list.getSize());
+        assertEquals(-1, values(list).get(count - 1));
+    }
+
+    private static SimpleLinkedList<Integer> range(int count) {
+        var list = new SimpleLinkedList<Integer>();
+        list.addAll(IntStream.range(0, count).boxed());
+        return list;
+    }
+
+    private static boolean isSized(Spliterator<?> spliterator) {
+        return spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED);
+    }
+
+    @Test
+    void splitsGrowInBatchesAndKeepExactSizes() {
+        var count = 10_000;
+        var spliterator = range(count).spliterator();
+        assertTrue(isSized(spliterator));
+        assertEquals(count, spliterator.getExactSizeIfKnown());
+
+        var values = new ArrayList<Integer>();
+        var remaining = count;
+        for (var expectedBatch : new int[]{1024, 2048, 3072}) {
+            var prefix = spliterator.trySplit();
+            assertTrue(isSized(prefix));
+            assertEquals(expectedBatch, prefix.getExactSizeIfKnown());
+            remaining -= expectedBatch;
+            assertEquals(remaining, spliterator.getExactSizeIfKnown());
+
+            // El prefijo contiene los valores siguientes, en orden.
+            prefix.forEachRemaining(values::add);
+            assertEquals(0, prefix.estimateSize());
+        }
+
+        // El último lote queda limitado por los valores restantes.
+        var last = spliterator.trySplit();
+        assertEquals(remaining, last.getExactSizeIfKnown());
+        assertEquals(0, spliterator.getExactSizeIfKnown());
+        assertNull(spliterator.trySplit());
+        last.forEachRemaining(values::add);
+        assertEquals(IntStream.range(0, count).boxed().toList(), values);
+    }
+
+    @Test
+    void smallListsAreNotSplit() {
+        assertNull(range(0).spliterator().trySplit());
+        assertNull(range(1).spliterator().trySplit());
+
+        var spliterator = range(5).spliterator();
+        var prefix = spliterator.trySplit();
+        assertEquals(5, prefix.getExactSizeIfKnown());
+        assertEquals(0, spliterator.getExactSizeIfKnown());
+        assertFalse(spliterator.tryAdvance(value -> {
+        }));
+    }
+
+    @Test
+    void modificationsDuringTraversalAreDetected() {
+        var list = range(3_000);
+        var spliterator = list.spliterator();
+        assertTrue(spliterator.tryAdvance(value -> assertEquals(0, value)));
+        list.add(-1);
+        assertThrows(ConcurrentModificationException.class, () -> spliterator.tryAdvance(value -> {
+        }));
+
+        // La lista se fija en el primer uso, no al crear el spliterator.
+        var late = list.spliterator();
+        list.add(-2);
+        assertEquals(3_002, late.getExactSizeIfKnown());
+    }
+
+    @Test
+    void parallelStreamMatchesSequentialStream() {
+        var list = range(300_000);
+        assertEquals(list.stream().toList(), list.parallelStream().toList());
+        assertEquals(list.stream().mapToLong(Integer::longValue).sum(),
+                list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(list.stream().filter(value -> value % 7 == 0).collect(Collectors.toList()),
+                list.parallelStream().filter(value -> value % 7 == 0).collect(Collectors.toList()));
+        assertEquals(list.stream().skip(123_456).limit(10).toList(), list.parallelStream().skip(123_456).limit(10).toList());
+        assertEquals(300_000, list.parallelStream().count());
+    }
+}
@@ -0,0 +1,123 @@
+package co.edu.unicartagena.Estructuras;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de {@link UnrolledLinkedList}, comparada con un {@link ArrayList}.
+ *
+ * @author Pablo José Hernández Meléndez
+ */
+class UnrolledLinkedListTest {
+    private static <T> List<T> values(UnrolledLinkedList<T> list) {
+        var values = new ArrayList<T>();
+        list.forEach(values::add);
+        return values;
+    }
+
+    private static void assertMatches(List<Integer> expected, UnrolledLinkedList<Integer> list) {
+        assertEquals(expected, values(list));
+        assertEquals(expected.size(), list.getSize());
+        assertEquals(expected, list.stream().toList());
+        assertEquals(expected, list.parallelStream().collect(Collectors.toList()));
+        assertEquals(expected.stream().mapToLong(Integer::longValue).sum(),
+                list.parallelStream().mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    void addKeepsInsertionOrderAcrossChunks() {
+        var list = new UnrolledLinkedList<Integer>();
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < UnrolledLinkedList.CHUNK_SIZE * 3 + 5; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        list.add(-1, -2);
+        expected.addAll(List.of(-1, -2));
+        list.addAll(List.of(7, 8));
+        list.addAll(IntStream.range(0, 3).boxed());
+        expected.addAll(List.of(7, 8, 0, 1, 2));
+
+        assertMatches(expected, list);
+    }
+
+    @Test
+    void randomDeletesMatchAnArrayList() {
+        var random = new Random(20);
+        var list = new UnrolledLinkedList<Integer>();
+        var expected = new ArrayList<Integer>();
+
+        for (int round = 0; round < 30; round++) {
+            for (int i = 0; i < 300; i++) {
+                var value = random.nextInt(500);
+                list.add(value);
+                expected.add(value);
+            }
+            for (int i = 0; i < 250 && !expected.isEmpty(); i++) {
+                // A veces un valor ausente, que debe lanzar la excepción sin modificar la lista.
+                var value = random.nextInt(10) == 0 ? 1_000 : expected.get(random.nextInt(expected.size()));
+                if (expected.remove(Integer.valueOf(value))) {
+                    list.deleteFirst(value);
+                } else {
+                    assertThrows(NullPointerException.class, () -> list.deleteFirst(value));
+                }
+            }
+            assertMatches(expected, list);
+        }
+    }
+
+    @Test
+    void deletingEverythingThenAddingAgain() {
+        var list = new UnrolledLinkedList<Integer>();
+        var count = UnrolledLinkedList.CHUNK_SIZE * 4;
+        for (int i = 0; i < count; i++) {
+            list.add(i);
+        }
+        // Se elimina desde el final para vaciar primero el último bloque.
+        for (int i = count - 1; i >= 0; i--) {
+            list.deleteFirst(i);
+        }
+
+        assertMatches(List.of(), list);
+        assertThrows(NullPointerException.class, list::toString);
+        list.add(1, 2);
+        assertMatches(List.of(1, 2), list);
+        assertEquals("1\n2\n", list.toString());
+    }
+
+    @Test
+    void nullValues() {
+        var list = new UnrolledLinkedList<String>();
+        list.add("a", null, "b");
+        list.deleteFirst(null);
+        assertEquals(List.of("a", "b"), values(list));
+    }
+
+    @Test
+    void iteratorFailsFastOnModification() {
+        var list = new UnrolledLinkedList<Integer>();
+        list.add(1, 2, 3);
+        var iterator = list.iterator();
+        iterator.next();
+        list.add(4);
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void largeListSplitsForParallelStreams() {
+        var list = new UnrolledLinkedList<Integer>();
+        list.addAll(IntStream.range(0, 1_000_000).boxed());
+        assertEquals(1_000_000, list.getSize());
+        assertEquals(499_999_500_000L, list.parallelStream().mapToLong(Integer::longValue).sum());
+        assertEquals(1_000_000, list.parallelStream().count());
+    }
+}
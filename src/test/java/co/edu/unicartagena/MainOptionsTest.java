@@ -0,0 +1,53 @@
+package co.edu.unicartagena;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de los argumentos de la línea de comandos de {@link Main}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class MainOptionsTest {
+    private static String error(String... args) {
+        return assertThrows(IllegalArgumentException.class, () -> Main.Options.parse(args)).getMessage();
+    }
+
+    @Test
+    void noArgumentsOpenTheMenu() {
+        assertEquals(new Main.Options(null, null, null, null, false), Main.Options.parse(new String[0]));
+    }
+
+    @Test
+    void orderDoesNotMatter() {
+        var expected = new Main.Options(Path.of("j"), null, "ops.txt", null, false);
+        assertEquals(expected, Main.Options.parse(new String[]{"--journal", "j", "--batch", "ops.txt"}));
+        assertEquals(expected, Main.Options.parse(new String[]{"--batch", "ops.txt", "--journal", "j"}));
+        assertEquals("-", Main.Options.parse(new String[]{"--batch", "-"}).batch());
+        assertNull(Main.Options.parse(new String[]{"--server", "9000"}).journal());
+        assertEquals(new Main.Options(null, "0.0.0.0:9000", null, Path.of("out"), true),
+                Main.Options.parse(new String[]{"--allow-remote", "--server", "0.0.0.0:9000", "--save-dir", "out"}));
+    }
+
+    @Test
+    void invalidArgumentsAreRejected() {
+        assertEquals("Argumento desconocido: --verbose", error("--verbose"));
+        assertEquals("Argumento desconocido: data.txt", error("data.txt"));
+        assertEquals("Falta el valor de --batch.", error("--batch"));
+        assertEquals("Falta el valor de --batch.", error("--batch", "--journal", "j"));
+        assertEquals("Falta el valor de --journal.", error("--batch", "ops.txt", "--journal"));
+        assertEquals("El argumento --batch está repetido.", error("--batch", "a", "--batch", "b"));
+        assertEquals("No se puede usar --server junto con --batch.", error("--batch", "a", "--server", "9000"));
+        assertEquals("El servidor no admite --journal: sus registros no se guardan en un diario.",
+                error("--server", "9000", "--journal", "j"));
+        assertEquals("--save-dir y --allow-remote solo se usan con --server.", error("--batch", "a", "--allow-remote"));
+        assertEquals("--save-dir y --allow-remote solo se usan con --server.", error("--save-dir", "out"));
+        assertEquals("El argumento --allow-remote está repetido.", error("--server", "1", "--allow-remote", "--allow-remote"));
+    }
+}
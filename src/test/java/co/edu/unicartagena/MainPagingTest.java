@@ -0,0 +1,68 @@
+package co.edu.unicartagena;
+
+import co.edu.unicartagena.Clases.BankInfo;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Pruebas del listado por páginas de la opción 8 del menú de {@link Main}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class MainPagingTest {
+    private static final int PAGE = 50;
+
+    private static BankInfo bank(int size) {
+        var bank = new BankInfo();
+        for (int i = 0; i < size; i++) {
+            bank.add("%010d".formatted(i), BigDecimal.valueOf(i + 1), new BigDecimal("0.05"), (short) (i % 361));
+        }
+        return bank;
+    }
+
+    @Test
+    void pagesJoinIntoTheFullListing() throws Exception {
+        var cases = List.of(
+                new Object[]{0, List.of()},
+                new Object[]{1, List.of()},
+                new Object[]{PAGE, List.of()},
+                new Object[]{PAGE + 1, List.of((long) PAGE)},
+                new Object[]{2 * PAGE, List.of((long) PAGE)},
+                new Object[]{137, List.of((long) PAGE, 2L * PAGE)});
+
+        for (var c : cases) {
+            var size = (int) c[0];
+            var bank = bank(size);
+            var out = new StringWriter();
+            var prompts = new ArrayList<Long>();
+            Main.writePages(bank, out, PAGE, shown -> prompts.add(shown));
+
+            // writeTo agrega una línea en blanco al final del listado.
+            var expected = new StringBuilder();
+            bank.writeTo(expected);
+            assertEquals(expected.toString(), out + "\n", "Tamaño " + size);
+            assertEquals(c[1], prompts, "Tamaño " + size);
+        }
+    }
+
+    @Test
+    void stoppingAfterTheFirstPage() throws Exception {
+        var bank = bank(137);
+        var out = new StringWriter();
+        var prompts = new ArrayList<Long>();
+        Main.writePages(bank, out, PAGE, shown -> !prompts.add(shown));
+
+        var expected = new StringBuilder();
+        bank.writeHeader(expected);
+        bank.writePage(expected, 0, PAGE);
+        assertEquals(expected.toString(), out.toString());
+        assertEquals(List.of((long) PAGE), prompts);
+    }
+}
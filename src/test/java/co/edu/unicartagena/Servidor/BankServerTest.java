@@ -0,0 +1,183 @@
+package co.edu.unicartagena.Servidor;
+
+import co.edu.unicartagena.Clases.ConcurrentBankInfo;
+import co.edu.unicartagena.Clases.NumericMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pruebas de {@link BankServer} sobre un socket de dominio Unix.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class BankServerTest {
+    @TempDir
+    Path directory;
+
+    private BankServer server;
+
+    /**
+     * Inicia un servidor en un hilo aparte.
+     */
+    private Path start(Path saveDirectory) throws IOException {
+        var socket = directory.resolve("bank.sock");
+        server = new BankServer(new ConcurrentBankInfo(NumericMode.FIXED_POINT), UnixDomainSocketAddress.of(socket), saveDirectory, false);
+        var thread = new Thread(() -> {
+            try {
+                server.serve();
+            } catch (IOException ignored) {
+                // El servidor se cerró.
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        return socket;
+    }
+
+    @AfterEach
+    void stop() throws IOException {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    /**
+     * Envía todas las líneas en una sola escritura, sin esperar respuestas, y lee una respuesta por línea.
+     */
+    private static List<String> send(Path socket, List<String> lines) throws Exception {
+        try (var channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+             var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            channel.connect(UnixDomainSocketAddress.of(socket));
+            var request = String.join("\n", lines) + "\n";
+            // Se escribe en otro hilo para que una petición grande no se bloquee mientras nadie lee las respuestas.
+            var writing = executor.submit(() -> {
+                Channels.newOutputStream(channel).write(request.getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+
+            var reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+            var responses = new ArrayList<String>();
+            for (int i = 0; i < lines.size(); i++) {
+                responses.add(reader.readLine());
+            }
+            writing.get();
+            return responses;
+        }
+    }
+
+    @Test
+    void pipelinedRequestsAreAnsweredInOrder() throws Exception {
+        var socket = start(null);
+        var lines = new ArrayList<String>();
+        var expected = new ArrayList<String>();
+        for (int i = 0; i < 2_000; i++) {
+            var cc = "%010d".formatted(i);
+            lines.add("ADD %s %d.00 0.05 10".formatted(cc, i + 1));
+            expected.add("OK");
+            lines.add("GET " + cc);
+            expected.add("OK " + cc + ";" + (i + 1) + ".00;10;0.05");
+            if (i % 3 == 0) {
+                lines.add("REMOVE " + cc);
+                expected.add("OK");
+                lines.add("GET " + cc);
+                expected.add("ERR No existe un usuario con esa cédula.");
+            }
+        }
+        lines.add("BOGUS");
+        expected.add("ERR Operación desconocida: BOGUS");
+        lines.add("QUIT");
+        expected.add("OK");
+
+        var responses = send(socket, lines);
+        assertEquals(expected, responses);
+    }
+
+    @Test
+    void saveIsDisabledWithoutADirectory() throws Exception {
+        var socket = start(null);
+        var target = directory.resolve("fuera.txt");
+        var responses = send(socket, List.of("ADD 0000000001 1 0.05 10", "SAVE " + target));
+        assertEquals("ERR El servidor no admite la operación SAVE.", responses.get(1));
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    void saveOnlyWritesInsideItsDirectory() throws Exception {
+        var saves = Files.createDirectory(directory.resolve("saves"));
+        var socket = start(saves);
+        var outside = directory.resolve("fuera.txt");
+        Files.writeString(outside, "intacto");
+
+        var responses = send(socket, List.of(
+                "ADD 0000000001 1 0.05 10",
+                "SAVE registros.txt",
+                "SAVE ../fuera.txt",
+                "SAVE " + outside,
+                "SAVE sub/registros.txt",
+                "SAVE .."));
+        assertEquals("OK", responses.get(1));
+        for (int i = 2; i < responses.size(); i++) {
+            assertTrue(responses.get(i).startsWith("ERR SAVE solo admite un nombre de archivo"), responses.get(i));
+        }
+        assertTrue(Files.readString(saves.resolve("registros.txt")).contains("0000000001"));
+        assertEquals("intacto", Files.readString(outside));
+    }
+
+    @Test
+    void onlyLoopbackAddressesUnlessAllowed() throws Exception {
+        var bank = new ConcurrentBankInfo();
+        var error = assertThrows(IllegalArgumentException.class, () -> new BankServer(bank, new InetSocketAddress("0.0.0.0", 0)));
+        assertTrue(error.getMessage().startsWith("El servidor solo escucha en direcciones locales"), error.getMessage());
+
+        try (var local = new BankServer(bank, new InetSocketAddress("127.0.0.1", 0))) {
+            assertTrue(((InetSocketAddress) local.getAddress()).getAddress().isLoopbackAddress());
+        }
+        try (var remote = new BankServer(bank, new InetSocketAddress("0.0.0.0", 0), null, true)) {
+            assertTrue(((InetSocketAddress) remote.getAddress()).getAddress().isAnyLocalAddress());
+        }
+    }
+
+    @Test
+    void existingFilesAtTheSocketPathAreKept() throws Exception {
+        var socket = directory.resolve("bank.sock");
+        Files.writeString(socket, "no es un socket");
+        var error = assertThrows(IOException.class,
+                () -> new BankServer(new ConcurrentBankInfo(), UnixDomainSocketAddress.of(socket)));
+        assertTrue(error.getMessage().contains("no es un socket"), error.getMessage());
+        assertEquals("no es un socket", Files.readString(socket));
+    }
+
+    @Test
+    void aStaleSocketIsReplaced() throws Exception {
+        var socket = directory.resolve("bank.sock");
+        // Un servidor cerrado deja el socket en el sistema de archivos.
+        new BankServer(new ConcurrentBankInfo(), UnixDomainSocketAddress.of(socket)).close();
+        assertTrue(Files.exists(socket));
+
+        start(null);
+        var responses = send(socket, List.of("TOTALS"));
+        assertTrue(responses.get(0).startsWith("OK 0 "), responses.get(0));
+    }
+}
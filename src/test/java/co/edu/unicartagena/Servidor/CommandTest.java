@@ -0,0 +1,63 @@
+package co.edu.unicartagena.Servidor;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Pruebas de {@link Command#parse(String)}.
+ *
+ * @author Pablo Jose Hernandez Melendez
+ * @author Jhoy Luis Castro Casanova
+ */
+class CommandTest {
+    private static String error(String line) {
+        return assertThrows(IllegalArgumentException.class, () -> Command.parse(line)).getMessage();
+    }
+
+    @Test
+    void parsesEveryOperation() {
+        assertEquals(new Command(Command.Operation.ADD, "0000000001", new BigDecimal("100.50"), new BigDecimal("0.05"), (short) 10, null),
+                Command.parse("ADD 0000000001 100.50 0.05 10"));
+        assertEquals(new Command(Command.Operation.UPDATE, "0000000001", new BigDecimal("1"), new BigDecimal("0.5"), (short) 360, null),
+                Command.parse("UPDATE 0000000001 1 0.5 360"));
+        assertEquals(new Command(Command.Operation.GET, "0000000001", null, null, (short) 0, null),
+                Command.parse("GET 0000000001"));
+        assertEquals(new Command(Command.Operation.REMOVE, "0000000001", null, null, (short) 0, null),
+                Command.parse("REMOVE 0000000001"));
+        assertEquals(new Command(Command.Operation.TOTALS, null, null, null, (short) 0, null), Command.parse("TOTALS"));
+        assertEquals(new Command(Command.Operation.SAVE, null, null, null, (short) 0, "registros.txt"),
+                Command.parse("SAVE registros.txt"));
+        assertEquals(new Command(Command.Operation.LOAD, null, null, null, (short) 0, "data.txt"), Command.parse("LOAD data.txt"));
+        assertEquals(new Command(Command.Operation.QUIT, null, null, null, (short) 0, null), Command.parse("QUIT"));
+    }
+
+    @Test
+    void namesSpacingAndDecimals() {
+        assertEquals(Command.Operation.TOTALS, Command.parse("total").operation());
+        assertEquals(Command.Operation.GET, Command.parse("  get\t0000000001  ").operation());
+
+        var command = Command.parse("add 0000000001 100,50 0,05 10");
+        assertEquals(new BigDecimal("100.50"), command.capital());
+        assertEquals(new BigDecimal("0.05"), command.interestTax());
+
+        // La ruta conserva sus espacios internos.
+        assertEquals("mis registros/copia 1.txt", Command.parse("SAVE   mis registros/copia 1.txt  ").path());
+    }
+
+    @Test
+    void invalidLines() {
+        assertEquals("La línea está vacía.", error("   "));
+        assertEquals("Operación desconocida: PUT", error("PUT 1"));
+        assertEquals("Uso: ADD <cédula> <capital> <tasa> <día>", error("ADD 0000000001 100 0.05"));
+        assertEquals("Uso: ADD <cédula> <capital> <tasa> <día>", error("ADD 0000000001 100 0.05 10 11"));
+        assertEquals("Uso: GET <cédula>", error("GET"));
+        assertEquals("Uso: TOTALS", error("TOTALS 1"));
+        assertEquals("Uso: SAVE <ruta>", error("SAVE"));
+        assertEquals("Número inválido: 1x", error("ADD 0000000001 1x 0.05 10"));
+        assertEquals("Día inválido: 99999", error("ADD 0000000001 1 0.05 99999"));
+    }
+}